@@ -0,0 +1,74 @@
+package com.pragma.plazadecomidas.restaurantservice.application.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.request.RestaurantRequestDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lectura del cuerpo de registro y escritura de la respuesta con un {@link ObjectMapper} equivalente al de Spring MVC.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonBenchmark {
+
+    private ObjectReader requestReader;
+    private ObjectWriter responseWriter;
+
+    private byte[] requestJson;
+    private RestaurantResponseDto responseDto;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        requestReader = objectMapper.readerFor(RestaurantRequestDto.class);
+        responseWriter = objectMapper.writerFor(RestaurantResponseDto.class);
+
+        requestJson = objectMapper.writeValueAsBytes(RestaurantRequestDto.builder()
+                .name("Restaurante El Buen Sabor")
+                .nit("900123456")
+                .address("Calle 123 #4-56")
+                .phoneNumber("+573001234567")
+                .urlLogo("http://example.com/logo.png")
+                .ownerId(1L)
+                .build());
+        responseDto = RestaurantResponseDto.builder()
+                .id(1L)
+                .name("Restaurante El Buen Sabor")
+                .nit("900123456")
+                .address("Calle 123 #4-56")
+                .phoneNumber("+573001234567")
+                .urlLogo("http://example.com/logo.png")
+                .ownerName("Sofia Ramirez")
+                .build();
+    }
+
+    @Benchmark
+    public RestaurantRequestDto deserializeRequest() throws IOException {
+        return requestReader.readValue(requestJson);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(responseDto);
+    }
+}
@@ -0,0 +1,101 @@
+package com.pragma.plazadecomidas.restaurantservice.application.mapper;
+
+import com.pragma.plazadecomidas.restaurantservice.application.dto.request.RestaurantRequestDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantResponseDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.UserResponseDto;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.Restaurant;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.User;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.entity.RestaurantEntity;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.mapper.IRestaurantEntityMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de cada conversión MapStruct del flujo de registro: petición a dominio, dominio a entidad y de vuelta,
+ * dominio a respuesta y la respuesta del Auth Service a {@link User}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private IRestaurantRequestMapper restaurantRequestMapper;
+    private IRestaurantEntityMapper restaurantEntityMapper;
+    private IUserResponseMapper userResponseMapper;
+
+    private RestaurantRequestDto requestDto;
+    private Restaurant restaurant;
+    private RestaurantEntity restaurantEntity;
+    private UserResponseDto userResponseDto;
+
+    @Setup
+    public void setUp() {
+        restaurantRequestMapper = Mappers.getMapper(IRestaurantRequestMapper.class);
+        restaurantEntityMapper = Mappers.getMapper(IRestaurantEntityMapper.class);
+        userResponseMapper = Mappers.getMapper(IUserResponseMapper.class);
+
+        requestDto = RestaurantRequestDto.builder()
+                .name("Restaurante El Buen Sabor")
+                .nit("900123456")
+                .address("Calle 123 #4-56")
+                .phoneNumber("+573001234567")
+                .urlLogo("http://example.com/logo.png")
+                .ownerId(1L)
+                .build();
+        restaurant = restaurantRequestMapper.toRestaurant(requestDto).toBuilder()
+                .id(1L)
+                .ownerName("Sofia Ramirez")
+                .build();
+        restaurantEntity = restaurantEntityMapper.toRestaurantEntity(restaurant);
+        userResponseDto = UserResponseDto.builder()
+                .id(1L)
+                .name("Sofia")
+                .lastName("Ramirez")
+                .identityDocument("1234567890")
+                .phoneNumber("+573001234567")
+                .email("sofia@example.com")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .roleName("PROPIETARIO")
+                .build();
+    }
+
+    @Benchmark
+    public Restaurant requestDtoToRestaurant() {
+        return restaurantRequestMapper.toRestaurant(requestDto);
+    }
+
+    @Benchmark
+    public RestaurantResponseDto restaurantToResponseDto() {
+        return restaurantRequestMapper.toResponseDto(restaurant);
+    }
+
+    @Benchmark
+    public RestaurantEntity restaurantToEntity() {
+        return restaurantEntityMapper.toRestaurantEntity(restaurant);
+    }
+
+    @Benchmark
+    public Restaurant entityToRestaurant() {
+        return restaurantEntityMapper.toRestaurant(restaurantEntity);
+    }
+
+    @Benchmark
+    public User userResponseDtoToUser() {
+        return userResponseMapper.toUser(userResponseDto);
+    }
+}
@@ -0,0 +1,70 @@
+package com.pragma.plazadecomidas.restaurantservice.domain.usecase;
+
+import com.pragma.plazadecomidas.restaurantservice.domain.model.Restaurant;
+import com.pragma.plazadecomidas.restaurantservice.domain.spi.IRestaurantPersistencePort;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Puerto de persistencia sin BD para medir solo el costo del caso de uso. No guarda los restaurantes: cada
+ * iteración registra el mismo y el benchmark no debe crecer en memoria.
+ */
+class InMemoryRestaurantPersistencePort implements IRestaurantPersistencePort {
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public Restaurant save(Restaurant restaurant) {
+        return restaurant.toBuilder().id(sequence.incrementAndGet()).build();
+    }
+
+    @Override
+    public List<Restaurant> saveAll(List<Restaurant> restaurants) {
+        return restaurants.stream().map(this::save).toList();
+    }
+
+    @Override
+    public Optional<Restaurant> findById(Long id) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Set<String> findExistingNames(Collection<String> names) {
+        return Set.of();
+    }
+
+    @Override
+    public Set<String> findExistingNits(Collection<String> nits) {
+        return Set.of();
+    }
+
+    @Override
+    public List<Restaurant> findPageOrderedByName(String afterName, int limit) {
+        return List.of();
+    }
+
+    @Override
+    public List<Restaurant> findByOwnerId(Long ownerId) {
+        return List.of();
+    }
+
+    @Override
+    public void forEachRestaurant(Consumer<Restaurant> action) {
+        // No guarda restaurantes: no hay nada que recorrer
+    }
+
+    @Override
+    public List<Restaurant> searchByName(String query, int limit) {
+        return List.of();
+    }
+
+    @Override
+    public List<String> findSimilarNames(String name, double minSimilarity, int limit) {
+        return List.of();
+    }
+}
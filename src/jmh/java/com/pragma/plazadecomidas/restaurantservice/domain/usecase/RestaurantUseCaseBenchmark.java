@@ -0,0 +1,64 @@
+package com.pragma.plazadecomidas.restaurantservice.domain.usecase;
+
+import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.Restaurant;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.User;
+import com.pragma.plazadecomidas.restaurantservice.domain.spi.IAuthService;
+import com.pragma.plazadecomidas.restaurantservice.domain.util.ValidationUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RestaurantUseCase#saveRestaurant} con puertos en memoria: mide la orquestación del caso de uso (consulta
+ * del propietario, validación del rol y armado de la respuesta) sin red ni BD.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RestaurantUseCaseBenchmark {
+
+    private RestaurantUseCase restaurantUseCase;
+    private Restaurant restaurant;
+
+    @Setup
+    public void setUp() {
+        User owner = User.builder()
+                .id(1L)
+                .name("Sofia")
+                .lastName("Ramirez")
+                .roleName(MessageEnum.PROPIETARIO.getMessage())
+                .build();
+        IAuthService authService = id -> Optional.of(owner);
+
+        restaurantUseCase = new RestaurantUseCase(new ValidationUtils(), new InMemoryRestaurantPersistencePort(),
+                authService);
+
+        restaurant = Restaurant.builder()
+                .name("Restaurante El Buen Sabor")
+                .nit("900123456")
+                .address("Calle 123 #4-56")
+                .phoneNumber("+573001234567")
+                .urlLogo("http://example.com/logo.png")
+                .ownerId(1L)
+                .build();
+    }
+
+    @Benchmark
+    public Restaurant saveRestaurant() {
+        return restaurantUseCase.saveRestaurant(restaurant);
+    }
+}
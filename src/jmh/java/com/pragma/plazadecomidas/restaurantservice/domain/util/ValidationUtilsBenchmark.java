@@ -0,0 +1,76 @@
+package com.pragma.plazadecomidas.restaurantservice.domain.util;
+
+import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compara {@link ValidationUtils} con la implementación anterior, que compilaba el patrón en cada llamada.
+ * {@code valid=false} mide el rechazo temprano de una entrada inválida.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationUtilsBenchmark {
+
+    @Param({"true", "false"})
+    private boolean valid;
+
+    private final ValidationUtils validationUtils = new ValidationUtils();
+
+    private String name;
+    private String phone;
+    private String nit;
+
+    @Setup
+    public void setUp() {
+        name = valid ? "Restaurante El Buen Sabor 123" : "1234567890";
+        phone = valid ? "+573001234567" : "+57300123456a";
+        nit = valid ? "900123456789" : "900123456-7";
+    }
+
+    @Benchmark
+    public boolean nameLegacy() {
+        return Pattern.compile(MessageEnum.NAME_STRUCTURE.getMessage()).matcher(name).matches();
+    }
+
+    @Benchmark
+    public boolean nameCurrent() {
+        return validationUtils.isValidNameStructure(name);
+    }
+
+    @Benchmark
+    public boolean phoneLegacy() {
+        return Pattern.compile(MessageEnum.PHONE_STRUCTURE.getMessage()).matcher(phone).matches();
+    }
+
+    @Benchmark
+    public boolean phoneCurrent() {
+        return validationUtils.isValidPhoneStructure(phone);
+    }
+
+    @Benchmark
+    public boolean nitLegacy() {
+        return Pattern.compile(MessageEnum.NIT_STRUCTURE.getMessage()).matcher(nit).matches();
+    }
+
+    @Benchmark
+    public boolean nitCurrent() {
+        return validationUtils.containsOnlyNumbers(nit);
+    }
+}
@@ -0,0 +1,95 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter;
+
+import com.pragma.plazadecomidas.restaurantservice.domain.model.Restaurant;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.projection.RestaurantSummaryView;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.repository.IRestaurantRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Latencia de la búsqueda por nombre sobre el índice en memoria, con {@code restaurants} nombres generados:
+ * un prefijo corto (muchas coincidencias), uno largo y una palabra intermedia.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RestaurantNameIndexBenchmark {
+
+    private static final String[] WORDS = {"asadero", "parrilla", "pizzería", "sushi", "café", "la", "el", "casa",
+            "sabor", "carrera", "roma", "mar", "fogón", "dorado", "central", "express"};
+
+    @Param({"10000", "100000"})
+    private int restaurants;
+
+    private RestaurantNameIndex restaurantNameIndex;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<RestaurantSummaryView> views = IntStream.range(0, restaurants)
+                .mapToObj(i -> WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i)
+                .sorted()
+                .map(RestaurantNameIndexBenchmark::view)
+                .toList();
+        restaurantNameIndex = new RestaurantNameIndex(repositoryReturning(views));
+        restaurantNameIndex.rebuild();
+    }
+
+    @Benchmark
+    public List<Restaurant> shortPrefix() {
+        return restaurantNameIndex.search("ca", 10);
+    }
+
+    @Benchmark
+    public List<Restaurant> longPrefix() {
+        return restaurantNameIndex.search("parrilla sab", 10);
+    }
+
+    @Benchmark
+    public List<Restaurant> innerWord() {
+        return restaurantNameIndex.search("dora", 10);
+    }
+
+    // Solo se usan las dos consultas de la carga paginada; una única página con todos los nombres
+    private static IRestaurantRepository repositoryReturning(List<RestaurantSummaryView> views) {
+        return (IRestaurantRepository) Proxy.newProxyInstance(IRestaurantRepository.class.getClassLoader(),
+                new Class<?>[]{IRestaurantRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findAllByOrderByNameAsc" -> views;
+                    case "findByNameGreaterThanOrderByNameAsc" -> List.of();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static RestaurantSummaryView view(String name) {
+        return new RestaurantSummaryView() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getUrlLogo() {
+                return "http://logo.com/logo.png";
+            }
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package com.pragma.plazadecomidas.restaurantservice.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.UserResponseDto;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sustituto local del Auth Service sobre {@link MockWebServer}: responde a {@code ?userId=} con un propietario,
+ * después de {@code latencyMillis} y devolviendo 500 con probabilidad {@code errorRate}.
+ */
+class AuthServiceStub implements AutoCloseable {
+
+    static final String USER_PATH = "/api/v1/users/isOwner";
+
+    private final MockWebServer server = new MockWebServer();
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    AuthServiceStub(long latencyMillis, double errorRate) {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                MockResponse response = ThreadLocalRandom.current().nextDouble() < errorRate
+                        ? new MockResponse().setResponseCode(500)
+                        : ownerResponse(request.getRequestUrl().queryParameter("userId"));
+                return response.setHeadersDelay(latencyMillis, TimeUnit.MILLISECONDS);
+            }
+        });
+    }
+
+    void start() throws IOException {
+        server.start();
+    }
+
+    String host() {
+        return server.url("/").toString();
+    }
+
+    int requestCount() {
+        return server.getRequestCount();
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.shutdown();
+    }
+
+    private MockResponse ownerResponse(String userId) {
+        if (userId == null) {
+            return new MockResponse().setResponseCode(404);
+        }
+        UserResponseDto owner = UserResponseDto.builder()
+                .id(Long.valueOf(userId))
+                .name("Propietario")
+                .lastName(userId)
+                .identityDocument("1000" + userId)
+                .phoneNumber("+573001234567")
+                .email("propietario" + userId + "@example.com")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .roleName(MessageEnum.PROPIETARIO.getMessage())
+                .build();
+        try {
+            return new MockResponse()
+                    .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .setBody(objectMapper.writeValueAsString(owner));
+        } catch (JsonProcessingException ex) {
+            return new MockResponse().setResponseCode(500);
+        }
+    }
+}
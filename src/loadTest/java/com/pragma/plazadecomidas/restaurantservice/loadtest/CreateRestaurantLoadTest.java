@@ -0,0 +1,227 @@
+package com.pragma.plazadecomidas.restaurantservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.request.RestaurantRequestDto;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Prueba de carga de {@code POST /api/v1/restaurants/create-restaurant} contra H2 y un sustituto local del Auth
+ * Service. La carga es de lazo abierto: las peticiones salen a la tasa objetivo aunque el servicio se atrase, y la
+ * latencia se mide desde el instante en que la petición debía salir, de modo que las colas no quedan ocultas.
+ *
+ * <p>Se configura con propiedades del sistema ({@code ./gradlew loadTest -PloadTest.rate=100 ...}):
+ * <ul>
+ *     <li>{@code loadTest.rate}: peticiones por segundo (50).</li>
+ *     <li>{@code loadTest.warmup} / {@code loadTest.duration}: segundos de calentamiento y de medición (5 / 20).</li>
+ *     <li>{@code loadTest.authLatencyMs}: latencia del Auth Service simulado (20).</li>
+ *     <li>{@code loadTest.authErrorRate}: fracción de respuestas 500 del Auth Service (0).</li>
+ *     <li>{@code loadTest.owners}: propietarios distintos a consultar (100).</li>
+ *     <li>{@code loadTest.ownerCache}: cache de propietarios del servicio (false, cada petición llega al Auth Service).</li>
+ *     <li>{@code loadTest.virtualThreads}: Tomcat sobre hilos virtuales (false).</li>
+ *     <li>{@code loadTest.maxP99Ms}: si se define, la prueba falla cuando el p99 lo supera.</li>
+ * </ul>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class CreateRestaurantLoadTest {
+
+    private static final String CREATE_PATH = "/api/v1/restaurants/create-restaurant";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final int RATE = Integer.getInteger("loadTest.rate", 50);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadTest.warmup", 5);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadTest.duration", 20);
+    private static final long AUTH_LATENCY_MS = Long.getLong("loadTest.authLatencyMs", 20);
+    private static final double AUTH_ERROR_RATE = Double.parseDouble(System.getProperty("loadTest.authErrorRate", "0"));
+    private static final int OWNERS = Integer.getInteger("loadTest.owners", 100);
+    private static final boolean OWNER_CACHE = Boolean.getBoolean("loadTest.ownerCache");
+    private static final boolean VIRTUAL_THREADS = Boolean.getBoolean("loadTest.virtualThreads");
+    private static final String MAX_P99_MS = System.getProperty("loadTest.maxP99Ms");
+    private static final Path REPORT_DIR = Path.of(System.getProperty("loadTest.reportDir", "build/reports/load-test"));
+
+    private static final AuthServiceStub AUTH_SERVICE = new AuthServiceStub(AUTH_LATENCY_MS, AUTH_ERROR_RATE);
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void loadTestProperties(DynamicPropertyRegistry registry) throws IOException {
+        AUTH_SERVICE.start();
+        registry.add("spring.auth.service.host", AUTH_SERVICE::host);
+        registry.add("spring.auth.service.url", () -> AuthServiceStub.USER_PATH);
+        registry.add("spring.auth.service.cache.enabled", () -> OWNER_CACHE);
+        registry.add("spring.threads.virtual.enabled", () -> VIRTUAL_THREADS);
+    }
+
+    @AfterAll
+    static void stopAuthService() throws IOException {
+        AUTH_SERVICE.close();
+    }
+
+    @Test
+    @DisplayName("createRestaurant: Should sustain the target rate and report throughput and p50/p95/p99 latency")
+    void createRestaurant_TargetRate_ReportsLatencyPercentiles() throws Exception {
+        // GIVEN
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        URI uri = URI.create("http://localhost:" + port + CREATE_PATH);
+        run(client, uri, WARMUP_SECONDS, new LatencyRecorder());
+        int authRequestsBefore = AUTH_SERVICE.requestCount();
+
+        // WHEN
+        LatencyRecorder recorder = new LatencyRecorder();
+        long startNanos = System.nanoTime();
+        long sent = run(client, uri, DURATION_SECONDS, recorder);
+        double elapsedSeconds = (recorder.lastCompletionNanos() - startNanos) / 1e9;
+
+        // THEN
+        Map<String, Object> report = report(recorder, sent, elapsedSeconds, AUTH_SERVICE.requestCount() - authRequestsBefore);
+        writeReport(report);
+
+        assertEquals(sent, recorder.completed());
+        assertEquals(0L, recorder.statusCounts().getOrDefault(LatencyRecorder.TRANSPORT_ERROR, 0L));
+        if (AUTH_ERROR_RATE < 1) {
+            assertTrue(recorder.statusCounts().getOrDefault(201, 0L) > 0);
+        }
+        if (MAX_P99_MS != null) {
+            long p99Millis = TimeUnit.NANOSECONDS.toMillis(recorder.percentiles().p99Nanos());
+            assertTrue(p99Millis <= Long.parseLong(MAX_P99_MS),
+                    "p99 de " + p99Millis + " ms supera el máximo de " + MAX_P99_MS + " ms");
+        }
+    }
+
+    /**
+     * Lanza {@code RATE * seconds} peticiones espaciadas uniformemente y espera a que todas terminen.
+     */
+    private long run(HttpClient client, URI uri, int seconds, LatencyRecorder recorder) throws InterruptedException {
+        long total = (long) RATE * seconds;
+        if (total == 0) {
+            return 0;
+        }
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / RATE;
+        CountDownLatch pending = new CountDownLatch((int) total);
+        AtomicLong scheduled = new AtomicLong();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        long startNanos = System.nanoTime();
+        try {
+            scheduler.scheduleAtFixedRate(() -> {
+                long index = scheduled.getAndIncrement();
+                if (index >= total) {
+                    return;
+                }
+                long intendedNanos = startNanos + index * periodNanos;
+                client.sendAsync(createRequest(uri), HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, error) -> {
+                            long now = System.nanoTime();
+                            int status = error == null ? response.statusCode() : LatencyRecorder.TRANSPORT_ERROR;
+                            recorder.record(status, now - intendedNanos, now);
+                            pending.countDown();
+                        });
+            }, 0, periodNanos, TimeUnit.NANOSECONDS);
+
+            if (!pending.await(seconds + REQUEST_TIMEOUT.toSeconds() * 2, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Quedaron " + pending.getCount() + " peticiones sin respuesta");
+            }
+        } finally {
+            scheduler.shutdownNow();
+        }
+        return total;
+    }
+
+    private HttpRequest createRequest(URI uri) {
+        long id = sequence.incrementAndGet();
+        RestaurantRequestDto request = RestaurantRequestDto.builder()
+                .name("Restaurante Carga " + id)
+                .nit(String.valueOf(900_000_000L + id))
+                .address("Calle " + id)
+                .phoneNumber("+573001234567")
+                .urlLogo("http://example.com/logo/" + id + ".png")
+                .ownerId(id % OWNERS + 1)
+                .build();
+        try {
+            return HttpRequest.newBuilder(uri)
+                    .timeout(REQUEST_TIMEOUT)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(request)))
+                    .build();
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private Map<String, Object> report(LatencyRecorder recorder, long sent, double elapsedSeconds, int authRequests) {
+        LatencyRecorder.Percentiles percentiles = recorder.percentiles();
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("targetRate", RATE);
+        settings.put("durationSeconds", DURATION_SECONDS);
+        settings.put("warmupSeconds", WARMUP_SECONDS);
+        settings.put("authLatencyMs", AUTH_LATENCY_MS);
+        settings.put("authErrorRate", AUTH_ERROR_RATE);
+        settings.put("owners", OWNERS);
+        settings.put("ownerCache", OWNER_CACHE);
+        settings.put("virtualThreads", VIRTUAL_THREADS);
+
+        Map<String, Object> latencyMs = new LinkedHashMap<>();
+        latencyMs.put("p50", millis(percentiles.p50Nanos()));
+        latencyMs.put("p95", millis(percentiles.p95Nanos()));
+        latencyMs.put("p99", millis(percentiles.p99Nanos()));
+        latencyMs.put("max", millis(percentiles.maxNanos()));
+        latencyMs.put("mean", millis(percentiles.meanNanos()));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("settings", settings);
+        report.put("requests", sent);
+        report.put("throughputPerSecond", Math.round(recorder.completed() / elapsedSeconds * 10) / 10.0);
+        report.put("statusCounts", recorder.statusCounts());
+        report.put("authServiceRequests", authRequests);
+        report.put("latencyMs", latencyMs);
+        return report;
+    }
+
+    private void writeReport(Map<String, Object> report) throws IOException {
+        String json = objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValueAsString(report);
+        Files.createDirectories(REPORT_DIR);
+        Files.writeString(REPORT_DIR.resolve("create-restaurant.json"), json);
+        System.out.println(json);
+    }
+
+    private static double millis(double nanos) {
+        return Math.round(nanos / 1e4) / 100.0;
+    }
+}
@@ -0,0 +1,60 @@
+package com.pragma.plazadecomidas.restaurantservice.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Acumula la latencia de cada petición y el conteo por código HTTP; {@code -1} representa errores de transporte
+ * (conexión rechazada, timeout del cliente).
+ */
+class LatencyRecorder {
+
+    static final int TRANSPORT_ERROR = -1;
+
+    private final ConcurrentLinkedQueue<Long> latenciesNanos = new ConcurrentLinkedQueue<>();
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    private final AtomicLong lastCompletionNanos = new AtomicLong();
+
+    void record(int status, long latencyNanos, long completedAtNanos) {
+        latenciesNanos.add(latencyNanos);
+        statusCounts.computeIfAbsent(status, key -> new LongAdder()).increment();
+        lastCompletionNanos.accumulateAndGet(completedAtNanos, Math::max);
+    }
+
+    long completed() {
+        return latenciesNanos.size();
+    }
+
+    long lastCompletionNanos() {
+        return lastCompletionNanos.get();
+    }
+
+    Map<Integer, Long> statusCounts() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statusCounts.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+
+    Percentiles percentiles() {
+        long[] sorted = latenciesNanos.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new Percentiles(at(sorted, 0.50), at(sorted, 0.95), at(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1], Arrays.stream(sorted).average().orElse(0));
+    }
+
+    /** Percentil por el método del rango más cercano. */
+    private static long at(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    record Percentiles(long p50Nanos, long p95Nanos, long p99Nanos, long maxNanos, double meanNanos) {
+    }
+}
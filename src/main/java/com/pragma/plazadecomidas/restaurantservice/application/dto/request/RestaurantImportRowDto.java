@@ -0,0 +1,21 @@
+package com.pragma.plazadecomidas.restaurantservice.application.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Fila leída de un archivo de importación. {@code error} trae los problemas de lectura (columnas de más o de menos,
+ * ID de propietario no numérico); en ese caso {@code restaurant} puede venir incompleto o nulo.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class RestaurantImportRowDto {
+
+    private int row;
+    private RestaurantRequestDto restaurant;
+    private String error;
+}
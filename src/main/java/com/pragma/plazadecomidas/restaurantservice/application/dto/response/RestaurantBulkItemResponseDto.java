@@ -0,0 +1,34 @@
+package com.pragma.plazadecomidas.restaurantservice.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.util.ValidationConstants;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = ValidationConstants.SCHEMA_RESTAURANT_BULK_ITEM_DESCRIPTION)
+public class RestaurantBulkItemResponseDto {
+
+    @JsonProperty(ValidationConstants.JSON_INDICE)
+    @Schema(description = ValidationConstants.SCHEMA_BULK_INDEX_DESCRIPTION, example = ValidationConstants.SCHEMA_ID_EXAMPLE)
+    private int index;
+
+    @JsonProperty(ValidationConstants.JSON_ESTADO)
+    @Schema(description = ValidationConstants.SCHEMA_BULK_STATUS_DESCRIPTION, example = ValidationConstants.SCHEMA_BULK_STATUS_EXAMPLE)
+    private String status;
+
+    @JsonProperty(ValidationConstants.JSON_RESTAURANTE)
+    private RestaurantResponseDto restaurant;
+
+    @JsonProperty(ValidationConstants.JSON_MENSAJE)
+    @Schema(description = ValidationConstants.SCHEMA_BULK_MESSAGE_DESCRIPTION)
+    private String message;
+}
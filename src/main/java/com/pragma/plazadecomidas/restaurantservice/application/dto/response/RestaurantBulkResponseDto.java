@@ -0,0 +1,34 @@
+package com.pragma.plazadecomidas.restaurantservice.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.util.ValidationConstants;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Schema(description = ValidationConstants.SCHEMA_RESTAURANT_BULK_RESPONSE_DESCRIPTION)
+public class RestaurantBulkResponseDto {
+
+    @JsonProperty(ValidationConstants.JSON_TOTAL)
+    @Schema(description = ValidationConstants.SCHEMA_BULK_TOTAL_DESCRIPTION)
+    private int total;
+
+    @JsonProperty(ValidationConstants.JSON_CREADOS)
+    @Schema(description = ValidationConstants.SCHEMA_BULK_CREATED_DESCRIPTION)
+    private int created;
+
+    @JsonProperty(ValidationConstants.JSON_RECHAZADOS)
+    @Schema(description = ValidationConstants.SCHEMA_BULK_REJECTED_DESCRIPTION)
+    private int rejected;
+
+    @JsonProperty(ValidationConstants.JSON_RESULTADOS)
+    private List<RestaurantBulkItemResponseDto> results;
+}
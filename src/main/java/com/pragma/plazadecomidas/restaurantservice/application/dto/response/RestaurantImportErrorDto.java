@@ -0,0 +1,18 @@
+package com.pragma.plazadecomidas.restaurantservice.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class RestaurantImportErrorDto {
+
+    private int row;
+    private String name;
+    private String nit;
+    private String message;
+}
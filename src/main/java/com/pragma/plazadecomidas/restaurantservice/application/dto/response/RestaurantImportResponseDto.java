@@ -0,0 +1,25 @@
+package com.pragma.plazadecomidas.restaurantservice.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class RestaurantImportResponseDto {
+
+    private int total;
+    private int created;
+    private int rejected;
+    private Duration duration;
+
+    public double rowsPerSecond() {
+        double seconds = duration.toNanos() / 1_000_000_000.0;
+        return seconds == 0 ? total : total / seconds;
+    }
+}
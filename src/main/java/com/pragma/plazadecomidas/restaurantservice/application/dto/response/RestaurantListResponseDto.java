@@ -0,0 +1,26 @@
+package com.pragma.plazadecomidas.restaurantservice.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.util.ValidationConstants;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Schema(description = ValidationConstants.SCHEMA_RESTAURANT_LIST_DESCRIPTION)
+public class RestaurantListResponseDto {
+
+    @JsonProperty(ValidationConstants.JSON_RESTAURANTES)
+    private List<RestaurantSummaryResponseDto> restaurants;
+
+    @JsonProperty(ValidationConstants.JSON_SIGUIENTE_CURSOR)
+    @Schema(description = ValidationConstants.SCHEMA_NEXT_CURSOR_DESCRIPTION, example = ValidationConstants.SCHEMA_NEXT_CURSOR_EXAMPLE)
+    private String nextCursor;
+}
@@ -1,5 +1,6 @@
 package com.pragma.plazadecomidas.restaurantservice.application.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.pragma.plazadecomidas.restaurantservice.infrastructure.util.ValidationConstants;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -8,6 +9,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 
 
 @Data
@@ -44,4 +47,9 @@ public class RestaurantResponseDto {
     @JsonProperty(ValidationConstants.JSON_OWNER_NAME)
     @Schema(description = ValidationConstants.SCHEMA_RESTAURANT_NAME_OWNER_EXAMPLE, example = ValidationConstants.SCHEMA_RESTAURANT_OWNER_NAME)
     private String ownerName;
+
+    @JsonProperty(ValidationConstants.JSON_SIMILARES)
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    @Schema(description = ValidationConstants.SCHEMA_RESTAURANT_SIMILAR_NAMES_DESCRIPTION)
+    private List<String> similarNames;
 }
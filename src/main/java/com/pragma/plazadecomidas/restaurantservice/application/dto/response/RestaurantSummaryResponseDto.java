@@ -0,0 +1,25 @@
+package com.pragma.plazadecomidas.restaurantservice.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.util.ValidationConstants;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Schema(description = ValidationConstants.SCHEMA_RESTAURANT_SUMMARY_DESCRIPTION)
+public class RestaurantSummaryResponseDto {
+
+    @JsonProperty(ValidationConstants.JSON_NOMBRE)
+    @Schema(description = ValidationConstants.SCHEMA_RESTAURANT_NAME_DESCRIPTION, example = ValidationConstants.SCHEMA_RESTAURANT_NAME_EXAMPLE)
+    private String name;
+
+    @JsonProperty(ValidationConstants.JSON_URL_LOGO)
+    @Schema(description = ValidationConstants.SCHEMA_RESTAURANT_LOGO_URL_DESCRIPTION, example = ValidationConstants.SCHEMA_RESTAURANT_LOGO_URL_EXAMPLE)
+    private String urlLogo;
+}
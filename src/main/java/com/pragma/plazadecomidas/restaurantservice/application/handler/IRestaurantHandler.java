@@ -1,9 +1,36 @@
 package com.pragma.plazadecomidas.restaurantservice.application.handler;
 
+import com.pragma.plazadecomidas.restaurantservice.application.dto.request.RestaurantImportRowDto;
 import com.pragma.plazadecomidas.restaurantservice.application.dto.request.RestaurantRequestDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantBulkResponseDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantImportErrorDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantImportResponseDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantListResponseDto;
 import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantResponseDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantSummaryResponseDto;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface IRestaurantHandler {
 
     RestaurantResponseDto saveRestaurant(RestaurantRequestDto restaurantRequestDto);
+
+    RestaurantBulkResponseDto saveRestaurants(List<RestaurantRequestDto> restaurantRequestDtos);
+
+    RestaurantImportResponseDto importRestaurants(Iterator<RestaurantImportRowDto> rows,
+                                                  Consumer<RestaurantImportErrorDto> errors);
+
+    RestaurantListResponseDto listRestaurants(String cursor, int size);
+
+    RestaurantResponseDto findRestaurantById(Long id);
+
+    List<RestaurantResponseDto> listRestaurantsByOwner(Long ownerId);
+
+    boolean isRestaurantOwner(Long restaurantId, Long ownerId);
+
+    void exportRestaurants(Consumer<RestaurantResponseDto> action);
+
+    List<RestaurantSummaryResponseDto> searchRestaurants(String query, int limit);
 }
@@ -0,0 +1,10 @@
+package com.pragma.plazadecomidas.restaurantservice.application.handler;
+
+import com.pragma.plazadecomidas.restaurantservice.application.dto.request.RestaurantRequestDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantResponseDto;
+import reactor.core.publisher.Mono;
+
+public interface IRestaurantReactiveHandler {
+
+    Mono<RestaurantResponseDto> saveRestaurant(RestaurantRequestDto restaurantRequestDto);
+}
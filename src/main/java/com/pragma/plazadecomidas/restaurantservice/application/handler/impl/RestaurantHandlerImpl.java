@@ -1,23 +1,51 @@
 package com.pragma.plazadecomidas.restaurantservice.application.handler.impl;
 
+import com.pragma.plazadecomidas.restaurantservice.application.dto.request.RestaurantImportRowDto;
 import com.pragma.plazadecomidas.restaurantservice.application.dto.request.RestaurantRequestDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantBulkItemResponseDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantBulkResponseDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantImportErrorDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantImportResponseDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantListResponseDto;
 import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantResponseDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantSummaryResponseDto;
 import com.pragma.plazadecomidas.restaurantservice.application.handler.IRestaurantHandler;
 import com.pragma.plazadecomidas.restaurantservice.application.mapper.IRestaurantRequestMapper;
 import com.pragma.plazadecomidas.restaurantservice.domain.api.IRestaurantServicePort;
+import com.pragma.plazadecomidas.restaurantservice.domain.exception.DomainException;
 import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedBadRequestException;
 import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.Restaurant;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.RestaurantBulkResult;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.RestaurantPage;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.util.ValidationConstants;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class RestaurantHandlerImpl implements IRestaurantHandler {
 
+    public static final int MAX_BULK_SIZE = 500;
+    // Filas por transacción de la importación: un conflicto en un bloque no revierte los bloques ya confirmados
+    public static final int IMPORT_CHUNK_SIZE = MAX_BULK_SIZE;
+
     private final IRestaurantServicePort restaurantServicePort;
     private final IRestaurantRequestMapper restaurantRequestMapper;
+    private final Validator validator;
 
     @Override
     public RestaurantResponseDto saveRestaurant(RestaurantRequestDto restaurantRequestDto) {
@@ -27,4 +55,206 @@ public class RestaurantHandlerImpl implements IRestaurantHandler {
                 .map(restaurantRequestMapper::toResponseDto)
                 .orElseThrow(() -> new PersonalizedBadRequestException(MessageEnum.RESTAURANT_REQUEST_NULL.getMessage()));
     }
+
+    @Override
+    public RestaurantBulkResponseDto saveRestaurants(List<RestaurantRequestDto> restaurantRequestDtos) {
+        if (restaurantRequestDtos == null || restaurantRequestDtos.isEmpty() || restaurantRequestDtos.size() > MAX_BULK_SIZE) {
+            throw new PersonalizedBadRequestException(
+                    String.format(MessageEnum.BULK_SIZE_INVALID.getMessage(), MAX_BULK_SIZE));
+        }
+
+        RestaurantBulkItemResponseDto[] items = new RestaurantBulkItemResponseDto[restaurantRequestDtos.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        List<Restaurant> validRestaurants = new ArrayList<>();
+
+        for (int index = 0; index < restaurantRequestDtos.size(); index++) {
+            RestaurantRequestDto requestDto = restaurantRequestDtos.get(index);
+            Optional<String> violation = firstViolation(requestDto);
+            if (violation.isPresent()) {
+                items[index] = rejectedItem(index, null, violation.get());
+            } else {
+                validIndexes.add(index);
+                validRestaurants.add(restaurantRequestMapper.toRestaurant(requestDto));
+            }
+        }
+
+        if (!validRestaurants.isEmpty()) {
+            // El dominio numera los resultados sobre la lista de válidos; se traducen a la posición original
+            for (RestaurantBulkResult result : restaurantServicePort.saveRestaurants(validRestaurants)) {
+                int index = validIndexes.get(result.getIndex());
+                RestaurantResponseDto restaurant = restaurantRequestMapper.toResponseDto(result.getRestaurant());
+                items[index] = result.isCreated()
+                        ? RestaurantBulkItemResponseDto.builder()
+                                .index(index)
+                                .status(ValidationConstants.BULK_STATUS_CREATED)
+                                .restaurant(restaurant)
+                                .build()
+                        : rejectedItem(index, restaurant, result.getErrorMessage());
+            }
+        }
+
+        List<RestaurantBulkItemResponseDto> results = Arrays.asList(items);
+        int created = (int) results.stream()
+                .filter(item -> ValidationConstants.BULK_STATUS_CREATED.equals(item.getStatus()))
+                .count();
+
+        return RestaurantBulkResponseDto.builder()
+                .total(results.size())
+                .created(created)
+                .rejected(results.size() - created)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Lee las filas una a una y guarda las válidas en bloques de {@link #IMPORT_CHUNK_SIZE} con el registro masivo,
+     * que consulta a los propietarios de cada bloque en una sola llamada. Solo se conserva en memoria el bloque en
+     * curso; las filas rechazadas se entregan a {@code errors} a medida que aparecen.
+     */
+    @Override
+    public RestaurantImportResponseDto importRestaurants(Iterator<RestaurantImportRowDto> rows,
+                                                         Consumer<RestaurantImportErrorDto> errors) {
+        long startedAt = System.nanoTime();
+        int total = 0;
+        int created = 0;
+        List<RestaurantImportRowDto> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+
+        while (rows.hasNext()) {
+            RestaurantImportRowDto row = rows.next();
+            total++;
+            Optional<String> violation = row.getError() != null
+                    ? Optional.of(row.getError())
+                    : firstViolation(row.getRestaurant());
+            if (violation.isPresent()) {
+                errors.accept(importError(row, violation.get()));
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                created += importChunk(chunk, errors);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            created += importChunk(chunk, errors);
+        }
+
+        return RestaurantImportResponseDto.builder()
+                .total(total)
+                .created(created)
+                .rejected(total - created)
+                .duration(Duration.ofNanos(System.nanoTime() - startedAt))
+                .build();
+    }
+
+    @Override
+    public RestaurantListResponseDto listRestaurants(String cursor, int size) {
+        RestaurantPage page = restaurantServicePort.listRestaurants(decodeCursor(cursor), size);
+        return RestaurantListResponseDto.builder()
+                .restaurants(page.getContent().stream()
+                        .map(restaurantRequestMapper::toSummaryResponseDto)
+                        .toList())
+                .nextCursor(page.hasNext() ? encodeCursor(page.getNextCursor()) : null)
+                .build();
+    }
+
+    @Override
+    public RestaurantResponseDto findRestaurantById(Long id) {
+        return restaurantRequestMapper.toResponseDto(restaurantServicePort.findRestaurantById(id));
+    }
+
+    @Override
+    public List<RestaurantResponseDto> listRestaurantsByOwner(Long ownerId) {
+        return restaurantServicePort.listRestaurantsByOwner(ownerId).stream()
+                .map(restaurantRequestMapper::toResponseDto)
+                .toList();
+    }
+
+    @Override
+    public boolean isRestaurantOwner(Long restaurantId, Long ownerId) {
+        return restaurantServicePort.isRestaurantOwner(restaurantId, ownerId);
+    }
+
+    @Override
+    public void exportRestaurants(Consumer<RestaurantResponseDto> action) {
+        restaurantServicePort.exportRestaurants(restaurant -> action.accept(restaurantRequestMapper.toResponseDto(restaurant)));
+    }
+
+    @Override
+    public List<RestaurantSummaryResponseDto> searchRestaurants(String query, int limit) {
+        return restaurantServicePort.searchRestaurants(query, limit).stream()
+                .map(restaurantRequestMapper::toSummaryResponseDto)
+                .toList();
+    }
+
+    // El cursor es opaco para el cliente: el último nombre de la página en Base64 URL-safe
+    private String encodeCursor(String lastName) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(lastName.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new PersonalizedBadRequestException(MessageEnum.PAGE_CURSOR_INVALID.getMessage());
+        }
+    }
+
+    private int importChunk(List<RestaurantImportRowDto> chunk, Consumer<RestaurantImportErrorDto> errors) {
+        List<RestaurantBulkResult> results;
+        try {
+            results = restaurantServicePort.saveRestaurants(chunk.stream()
+                    .map(row -> restaurantRequestMapper.toRestaurant(row.getRestaurant()))
+                    .toList());
+        } catch (DomainException ex) {
+            // Solo se pierde este bloque (por ejemplo, un nombre registrado por otra petición a la vez)
+            chunk.forEach(row -> errors.accept(importError(row, ex.getMessage())));
+            return 0;
+        }
+
+        int created = 0;
+        for (RestaurantBulkResult result : results) {
+            if (result.isCreated()) {
+                created++;
+            } else {
+                errors.accept(importError(chunk.get(result.getIndex()), result.getErrorMessage()));
+            }
+        }
+        return created;
+    }
+
+    private RestaurantImportErrorDto importError(RestaurantImportRowDto row, String message) {
+        RestaurantRequestDto restaurant = row.getRestaurant();
+        return RestaurantImportErrorDto.builder()
+                .row(row.getRow())
+                .name(restaurant == null ? null : restaurant.getName())
+                .nit(restaurant == null ? null : restaurant.getNit())
+                .message(message)
+                .build();
+    }
+
+    // Mismo criterio que @Valid en el endpoint individual, con un orden estable entre ejecuciones
+    private Optional<String> firstViolation(RestaurantRequestDto requestDto) {
+        if (requestDto == null) {
+            return Optional.of(MessageEnum.RESTAURANT_REQUEST_NULL.getMessage());
+        }
+        return validator.validate(requestDto).stream()
+                .sorted(Comparator.comparing((ConstraintViolation<RestaurantRequestDto> violation) ->
+                                violation.getPropertyPath().toString())
+                        .thenComparing(ConstraintViolation::getMessage))
+                .map(ConstraintViolation::getMessage)
+                .findFirst();
+    }
+
+    private RestaurantBulkItemResponseDto rejectedItem(int index, RestaurantResponseDto restaurant, String message) {
+        return RestaurantBulkItemResponseDto.builder()
+                .index(index)
+                .status(ValidationConstants.BULK_STATUS_REJECTED)
+                .restaurant(restaurant)
+                .message(message)
+                .build();
+    }
 }
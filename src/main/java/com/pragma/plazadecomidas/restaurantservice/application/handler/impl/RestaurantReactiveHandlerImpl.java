@@ -0,0 +1,29 @@
+package com.pragma.plazadecomidas.restaurantservice.application.handler.impl;
+
+import com.pragma.plazadecomidas.restaurantservice.application.dto.request.RestaurantRequestDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantResponseDto;
+import com.pragma.plazadecomidas.restaurantservice.application.handler.IRestaurantReactiveHandler;
+import com.pragma.plazadecomidas.restaurantservice.application.mapper.IRestaurantRequestMapper;
+import com.pragma.plazadecomidas.restaurantservice.domain.api.IRestaurantReactiveServicePort;
+import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedBadRequestException;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class RestaurantReactiveHandlerImpl implements IRestaurantReactiveHandler {
+
+    private final IRestaurantReactiveServicePort restaurantReactiveServicePort;
+    private final IRestaurantRequestMapper restaurantRequestMapper;
+
+    @Override
+    public Mono<RestaurantResponseDto> saveRestaurant(RestaurantRequestDto restaurantRequestDto) {
+        return Mono.justOrEmpty(restaurantRequestDto)
+                .map(restaurantRequestMapper::toRestaurant)
+                .switchIfEmpty(Mono.error(() -> new PersonalizedBadRequestException(MessageEnum.RESTAURANT_REQUEST_NULL.getMessage())))
+                .flatMap(restaurantReactiveServicePort::saveRestaurant)
+                .map(restaurantRequestMapper::toResponseDto);
+    }
+}
@@ -2,6 +2,7 @@ package com.pragma.plazadecomidas.restaurantservice.application.mapper;
 
 import com.pragma.plazadecomidas.restaurantservice.application.dto.request.RestaurantRequestDto;
 import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantResponseDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantSummaryResponseDto;
 import com.pragma.plazadecomidas.restaurantservice.domain.model.Restaurant;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -15,4 +16,6 @@ public interface IRestaurantRequestMapper {
 
     RestaurantResponseDto toResponseDto(Restaurant restaurant);
 
+    RestaurantSummaryResponseDto toSummaryResponseDto(Restaurant restaurant);
+
 }
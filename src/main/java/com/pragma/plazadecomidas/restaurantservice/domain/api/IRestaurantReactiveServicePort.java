@@ -0,0 +1,9 @@
+package com.pragma.plazadecomidas.restaurantservice.domain.api;
+
+import com.pragma.plazadecomidas.restaurantservice.domain.model.Restaurant;
+import reactor.core.publisher.Mono;
+
+public interface IRestaurantReactiveServicePort {
+
+    Mono<Restaurant> saveRestaurant(Restaurant restaurant);
+}
@@ -1,8 +1,27 @@
 package com.pragma.plazadecomidas.restaurantservice.domain.api;
 
 import com.pragma.plazadecomidas.restaurantservice.domain.model.Restaurant;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.RestaurantBulkResult;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.RestaurantPage;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface IRestaurantServicePort {
 
     Restaurant saveRestaurant(Restaurant restaurant);
+
+    List<RestaurantBulkResult> saveRestaurants(List<Restaurant> restaurants);
+
+    RestaurantPage listRestaurants(String afterName, int size);
+
+    Restaurant findRestaurantById(Long id);
+
+    List<Restaurant> listRestaurantsByOwner(Long ownerId);
+
+    boolean isRestaurantOwner(Long restaurantId, Long ownerId);
+
+    void exportRestaurants(Consumer<Restaurant> action);
+
+    List<Restaurant> searchRestaurants(String query, int limit);
 }
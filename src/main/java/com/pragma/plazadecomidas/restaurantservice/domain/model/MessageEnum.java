@@ -25,6 +25,21 @@ public enum MessageEnum {
     RESTAURANT_NAME_EXISTS("El restaurante con nombre '%s' ya existe."),
     RESTAURANT_NIT_EXISTS("El NIT del restaurante ya esta registrado."),
     EMPTY(" "),
+    BULK_SIZE_INVALID("El lote debe contener entre 1 y %d restaurantes"),
+    RESTAURANT_DUPLICATED_IN_BATCH("El restaurante con nombre '%s' está repetido en el lote."),
+    RESTAURANT_NIT_DUPLICATED_IN_BATCH("El NIT del restaurante está repetido en el lote."),
+    RESTAURANT_BATCH_CONFLICT("Uno o más restaurantes del lote ya existen; el lote no fue registrado."),
+    RESTAURANT_NOT_FOUND("Restaurante no encontrado"),
+    PAGE_SIZE_INVALID("El tamaño de página debe estar entre 1 y %d"),
+    PAGE_CURSOR_INVALID("El cursor de paginación no es válido"),
+    SEARCH_QUERY_REQUIRED("El texto de búsqueda es obligatorio"),
+    SEARCH_LIMIT_INVALID("La cantidad de resultados debe estar entre 1 y %d"),
+    IMPORT_FILE_REQUIRED("El archivo CSV de restaurantes es obligatorio"),
+    IMPORT_HEADER_INVALID("El encabezado del CSV debe tener las columnas: %s"),
+    IMPORT_ROW_COLUMNS_INVALID("La fila tiene %d columnas y el encabezado %d"),
+    IMPORT_OWNER_ID_INVALID("El ID del propietario debe ser un número"),
+    IMPORT_ROW_MALFORMED("La fila tiene comillas sin cerrar o supera los %d caracteres"),
+    SERVICE_BUSY("Hay demasiadas operaciones de este tipo en curso; intente de nuevo en unos minutos"),
     ERROR_WEB_CLIENT_REQUEST_EXCEPTION("Error al realizar la petición al servicio de autenticación");
 
     private final String message;
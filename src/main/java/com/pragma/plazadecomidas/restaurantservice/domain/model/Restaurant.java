@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -19,5 +21,7 @@ public class Restaurant {
     private String urlLogo;
     private Long ownerId;
     private String ownerName;
+    // Solo al crear: nombres existentes parecidos al del restaurante, como advertencia de posible duplicado
+    private List<String> similarNames;
 
 }
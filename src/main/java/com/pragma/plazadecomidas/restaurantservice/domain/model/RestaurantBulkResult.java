@@ -0,0 +1,30 @@
+package com.pragma.plazadecomidas.restaurantservice.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+public class RestaurantBulkResult {
+
+    private int index;
+    private Restaurant restaurant;
+    private String errorMessage;
+
+    public boolean isCreated() {
+        return errorMessage == null;
+    }
+
+    public static RestaurantBulkResult created(int index, Restaurant restaurant) {
+        return new RestaurantBulkResult(index, restaurant, null);
+    }
+
+    public static RestaurantBulkResult rejected(int index, Restaurant restaurant, String errorMessage) {
+        return new RestaurantBulkResult(index, restaurant, errorMessage);
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.pragma.plazadecomidas.restaurantservice.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+public class RestaurantPage {
+
+    private List<Restaurant> content;
+    private String nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+}
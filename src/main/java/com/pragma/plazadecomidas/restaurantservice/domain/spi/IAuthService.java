@@ -2,9 +2,24 @@ package com.pragma.plazadecomidas.restaurantservice.domain.spi;
 
 import com.pragma.plazadecomidas.restaurantservice.domain.model.User;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 public interface IAuthService {
 
     Optional<User> findById(Long id);
+
+    /**
+     * Consulta varios usuarios a la vez. Los IDs repetidos se consultan una sola vez y los usuarios
+     * que no existen no aparecen en el mapa resultante.
+     */
+    default Map<Long, User> findAllByIds(Collection<Long> ids) {
+        Map<Long, User> users = new LinkedHashMap<>();
+        ids.stream()
+                .distinct()
+                .forEach(id -> findById(id).ifPresent(user -> users.put(id, user)));
+        return users;
+    }
 }
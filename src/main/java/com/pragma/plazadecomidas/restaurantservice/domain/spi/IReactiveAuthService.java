@@ -0,0 +1,9 @@
+package com.pragma.plazadecomidas.restaurantservice.domain.spi;
+
+import com.pragma.plazadecomidas.restaurantservice.domain.model.User;
+import reactor.core.publisher.Mono;
+
+public interface IReactiveAuthService {
+
+    Mono<User> findByIdReactive(Long id);
+}
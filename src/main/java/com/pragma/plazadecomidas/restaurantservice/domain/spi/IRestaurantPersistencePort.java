@@ -2,14 +2,32 @@ package com.pragma.plazadecomidas.restaurantservice.domain.spi;
 
 import com.pragma.plazadecomidas.restaurantservice.domain.model.Restaurant;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface IRestaurantPersistencePort {
 
     Restaurant save(Restaurant restaurant);
 
-    Optional<Restaurant> findByName(String name);
+    List<Restaurant> saveAll(List<Restaurant> restaurants);
 
-    Optional<Restaurant> findByNit(String nit);
+    Optional<Restaurant> findById(Long id);
+
+    Set<String> findExistingNames(Collection<String> names);
+
+    Set<String> findExistingNits(Collection<String> nits);
+
+    List<Restaurant> findPageOrderedByName(String afterName, int limit);
+
+    List<Restaurant> findByOwnerId(Long ownerId);
+
+    void forEachRestaurant(Consumer<Restaurant> action);
+
+    List<Restaurant> searchByName(String query, int limit);
+
+    List<String> findSimilarNames(String name, double minSimilarity, int limit);
 
 }
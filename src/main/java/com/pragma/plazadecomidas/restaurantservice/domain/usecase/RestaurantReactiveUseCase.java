@@ -0,0 +1,51 @@
+package com.pragma.plazadecomidas.restaurantservice.domain.usecase;
+
+import com.pragma.plazadecomidas.restaurantservice.domain.api.IRestaurantReactiveServicePort;
+import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedException;
+import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedNotFoundException;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.Restaurant;
+import com.pragma.plazadecomidas.restaurantservice.domain.spi.IReactiveAuthService;
+import com.pragma.plazadecomidas.restaurantservice.domain.spi.IRestaurantPersistencePort;
+import com.pragma.plazadecomidas.restaurantservice.domain.util.ValidationUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class RestaurantReactiveUseCase implements IRestaurantReactiveServicePort {
+
+    private final ValidationUtils validationUtils;
+    private final IReactiveAuthService reactiveAuthService;
+    private final IRestaurantPersistencePort restaurantPersistencePort;
+
+    @Override
+    public Mono<Restaurant> saveRestaurant(Restaurant restaurant) {
+        return reactiveAuthService.findByIdReactive(restaurant.getOwnerId())
+                .switchIfEmpty(Mono.error(() -> new PersonalizedNotFoundException(
+                        MessageEnum.OWNER_NOT_FOUND.getMessage())))
+                .flatMap(ownerUser -> {
+                    if (!validationUtils.isValidateRole(ownerUser.getRoleName(), MessageEnum.PROPIETARIO.getMessage())) {
+                        return Mono.error(new PersonalizedException(MessageEnum.OWNER_NOT_PROPRIETARIO.getMessage()));
+                    }
+                    // JPA es bloqueante: el insert (con su propia transacción) se hace en boundedElastic y solo
+                    // después de validar al propietario
+                    return Mono.fromCallable(() -> {
+                                List<String> similarNames = RestaurantUseCase.findSimilarNames(
+                                        restaurantPersistencePort, restaurant.getName());
+                                return RestaurantUseCase.withSimilarNames(
+                                        restaurantPersistencePort.save(restaurant), similarNames);
+                            })
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .map(savedRestaurant -> savedRestaurant.toBuilder()
+                                    .ownerName(ownerUser.getName().concat(MessageEnum.EMPTY.getMessage())
+                                            .concat(ownerUser.getLastName()))
+                                    .build());
+                });
+    }
+
+}
@@ -1,11 +1,14 @@
 package com.pragma.plazadecomidas.restaurantservice.domain.usecase;
 
 import com.pragma.plazadecomidas.restaurantservice.domain.api.IRestaurantServicePort;
+import com.pragma.plazadecomidas.restaurantservice.domain.exception.DomainException;
 import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedBadRequestException;
 import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedException;
 import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedNotFoundException;
 import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
 import com.pragma.plazadecomidas.restaurantservice.domain.model.Restaurant;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.RestaurantBulkResult;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.RestaurantPage;
 import com.pragma.plazadecomidas.restaurantservice.domain.model.User;
 import com.pragma.plazadecomidas.restaurantservice.domain.spi.IAuthService;
 import com.pragma.plazadecomidas.restaurantservice.domain.spi.IRestaurantPersistencePort;
@@ -15,43 +18,246 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
 @Slf4j
 public class RestaurantUseCase implements IRestaurantServicePort {
 
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_SEARCH_RESULTS = 20;
+    // "Café Niño" frente a "Cafe Nino" da 1; "Pizzeria Roma" frente a "Pizería Roma" queda por encima de 0.6
+    public static final double NEAR_DUPLICATE_SIMILARITY = 0.6;
+    public static final int MAX_NEAR_DUPLICATES = 5;
+
     private final ValidationUtils validationUtils;
     private final IRestaurantPersistencePort restaurantPersistencePort;
     private final IAuthService authService;
 
 
+    // Sin transacción mientras se consulta al Auth Service: el insert abre la suya en el adaptador, así no se retiene
+    // una conexión ni los bloqueos del insert durante la llamada remota
     @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
     public Restaurant saveRestaurant(Restaurant restaurant) {
 
-        User ownerUser = authService.findById(restaurant.getOwnerId())
-                .orElseThrow(() -> new PersonalizedNotFoundException(
-                        MessageEnum.OWNER_NOT_FOUND.getMessage()));
+        User ownerUser = validateOwner(authService.findById(restaurant.getOwnerId()));
+        List<String> similarNames = findSimilarNames(restaurantPersistencePort, restaurant.getName());
 
-        if (!validationUtils.isValidateRole(ownerUser.getRoleName(), MessageEnum.PROPIETARIO.getMessage())) {
-            throw new PersonalizedException(MessageEnum.OWNER_NOT_PROPRIETARIO.getMessage());
+        return withSimilarNames(withOwnerName(restaurantPersistencePort.save(restaurant), ownerUser), similarNames);
+
+    }
+
+    // Igual que saveRestaurant: los propietarios y la unicidad se resuelven sin transacción y solo saveAll abre una
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<RestaurantBulkResult> saveRestaurants(List<Restaurant> restaurants) {
+
+        Map<Long, String> ownerErrors = new HashMap<>();
+        Map<Long, User> owners = resolveOwners(restaurants, ownerErrors);
+
+        Set<String> takenNames = normalizedNames(restaurantPersistencePort.findExistingNames(
+                restaurants.stream().map(Restaurant::getName).collect(Collectors.toSet())));
+        Set<String> takenNits = new HashSet<>(restaurantPersistencePort.findExistingNits(
+                restaurants.stream().map(Restaurant::getNit).collect(Collectors.toSet())));
+
+        RestaurantBulkResult[] results = new RestaurantBulkResult[restaurants.size()];
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<Restaurant> acceptedRestaurants = new ArrayList<>();
+        Set<String> batchNames = new HashSet<>();
+        Set<String> batchNits = new HashSet<>();
+
+        for (int index = 0; index < restaurants.size(); index++) {
+            Restaurant restaurant = restaurants.get(index);
+            String normalizedName = normalizeName(restaurant.getName());
+            String rejection = ownerErrors.get(restaurant.getOwnerId());
+            if (rejection == null) {
+                rejection = uniquenessRejection(restaurant, normalizedName, takenNames, takenNits, batchNames, batchNits);
+            }
+
+            if (rejection != null) {
+                results[index] = RestaurantBulkResult.rejected(index, restaurant, rejection);
+            } else {
+                batchNames.add(normalizedName);
+                batchNits.add(restaurant.getNit());
+                acceptedIndexes.add(index);
+                acceptedRestaurants.add(restaurant);
+            }
         }
 
-        restaurantPersistencePort.findByName(restaurant.getName())
-                .ifPresent(existingRestaurant -> {
-                    throw new PersonalizedException(
-                            String.format(MessageEnum.RESTAURANT_NAME_EXISTS.getMessage(), restaurant.getName()));
-                });
+        if (!acceptedRestaurants.isEmpty()) {
+            List<List<String>> acceptedSimilarNames = acceptedRestaurants.stream()
+                    .map(restaurant -> findSimilarNames(restaurantPersistencePort, restaurant.getName()))
+                    .toList();
+            List<Restaurant> savedRestaurants = restaurantPersistencePort.saveAll(acceptedRestaurants);
+            for (int position = 0; position < savedRestaurants.size(); position++) {
+                int index = acceptedIndexes.get(position);
+                Restaurant savedRestaurant = savedRestaurants.get(position);
+                results[index] = RestaurantBulkResult.created(index, withSimilarNames(
+                        withOwnerName(savedRestaurant, owners.get(savedRestaurant.getOwnerId())),
+                        acceptedSimilarNames.get(position)));
+            }
+        }
 
-        restaurantPersistencePort.findByNit(restaurant.getNit())
-                .ifPresent(existingRestaurant -> {
-                    throw new PersonalizedException(MessageEnum.RESTAURANT_NIT_EXISTS.getMessage());
-                });
+        return Arrays.asList(results);
+    }
 
-        return restaurantPersistencePort.save(restaurant).toBuilder()
-                .ownerName(ownerUser.getName().concat(MessageEnum.EMPTY.getMessage()).concat(ownerUser.getLastName()))
+    @Override
+    public RestaurantPage listRestaurants(String afterName, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new PersonalizedBadRequestException(
+                    String.format(MessageEnum.PAGE_SIZE_INVALID.getMessage(), MAX_PAGE_SIZE));
+        }
+
+        // Se pide un registro extra solo para saber si existe una página siguiente
+        List<Restaurant> restaurants = restaurantPersistencePort.findPageOrderedByName(afterName, size + 1);
+        if (restaurants.size() <= size) {
+            return new RestaurantPage(restaurants, null);
+        }
+        List<Restaurant> content = restaurants.subList(0, size);
+        return new RestaurantPage(List.copyOf(content), content.get(size - 1).getName());
+    }
+
+    // Sin transacción: un acierto en la cache del adaptador no debe tomar una conexión de la BD
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public Restaurant findRestaurantById(Long id) {
+        return restaurantPersistencePort.findById(id)
+                .orElseThrow(() -> new PersonalizedNotFoundException(MessageEnum.RESTAURANT_NOT_FOUND.getMessage()));
+    }
+
+    // Sin transacción de escritura: la consulta usa la transacción de solo lectura del repositorio
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<Restaurant> listRestaurantsByOwner(Long ownerId) {
+        return restaurantPersistencePort.findByOwnerId(ownerId);
+    }
+
+    // Lo consultan platos y pedidos en cada operación del propietario: se apoya en la cache por ID de findById.
+    // El propietario de un restaurante no cambia después de crearlo, así que una entrada en cache nunca queda obsoleta.
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public boolean isRestaurantOwner(Long restaurantId, Long ownerId) {
+        return findRestaurantById(restaurantId).getOwnerId().equals(ownerId);
+    }
+
+    // El adaptador abre una transacción de solo lectura que mantiene el cursor hasta la última fila
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public void exportRestaurants(Consumer<Restaurant> action) {
+        restaurantPersistencePort.forEachRestaurant(action);
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<Restaurant> searchRestaurants(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new PersonalizedBadRequestException(MessageEnum.SEARCH_QUERY_REQUIRED.getMessage());
+        }
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new PersonalizedBadRequestException(
+                    String.format(MessageEnum.SEARCH_LIMIT_INVALID.getMessage(), MAX_SEARCH_RESULTS));
+        }
+        return restaurantPersistencePort.searchByName(query, limit);
+    }
+
+    // Se consulta antes del insert para que el restaurante no aparezca como parecido a sí mismo. Solo advierte: los
+    // nombres parecidos son válidos, la restricción única ya rechaza los repetidos
+    static List<String> findSimilarNames(IRestaurantPersistencePort restaurantPersistencePort, String name) {
+        if (name == null || name.isBlank()) {
+            return List.of();
+        }
+        return restaurantPersistencePort.findSimilarNames(name, NEAR_DUPLICATE_SIMILARITY, MAX_NEAR_DUPLICATES);
+    }
+
+    // La advertencia se registra solo cuando el restaurante quedó guardado
+    static Restaurant withSimilarNames(Restaurant savedRestaurant, List<String> similarNames) {
+        if (!similarNames.isEmpty()) {
+            log.warn("El restaurante '{}' tiene un nombre parecido a restaurantes existentes: {}",
+                    savedRestaurant.getName(), similarNames);
+        }
+        return savedRestaurant.toBuilder()
+                .similarNames(similarNames)
                 .build();
+    }
+
+    private String uniquenessRejection(Restaurant restaurant, String normalizedName,
+                                       Set<String> takenNames, Set<String> takenNits,
+                                       Set<String> batchNames, Set<String> batchNits) {
+        if (takenNames.contains(normalizedName)) {
+            return String.format(MessageEnum.RESTAURANT_NAME_EXISTS.getMessage(), restaurant.getName());
+        }
+        if (takenNits.contains(restaurant.getNit())) {
+            return MessageEnum.RESTAURANT_NIT_EXISTS.getMessage();
+        }
+        if (batchNames.contains(normalizedName)) {
+            return String.format(MessageEnum.RESTAURANT_DUPLICATED_IN_BATCH.getMessage(), restaurant.getName());
+        }
+        if (batchNits.contains(restaurant.getNit())) {
+            return MessageEnum.RESTAURANT_NIT_DUPLICATED_IN_BATCH.getMessage();
+        }
+        return null;
+    }
+
+    private Map<Long, User> resolveOwners(List<Restaurant> restaurants, Map<Long, String> ownerErrors) {
+        Set<Long> ownerIds = restaurants.stream()
+                .map(Restaurant::getOwnerId)
+                .collect(Collectors.toSet());
 
+        Map<Long, User> users;
+        try {
+            users = authService.findAllByIds(ownerIds);
+        } catch (DomainException ex) {
+            ownerIds.forEach(ownerId -> ownerErrors.put(ownerId, ex.getMessage()));
+            return Map.of();
+        }
+
+        Map<Long, User> owners = new HashMap<>();
+        for (Long ownerId : ownerIds) {
+            try {
+                owners.put(ownerId, validateOwner(Optional.ofNullable(users.get(ownerId))));
+            } catch (DomainException ex) {
+                ownerErrors.put(ownerId, ex.getMessage());
+            }
+        }
+        return owners;
+    }
+
+    private Set<String> normalizedNames(Set<String> names) {
+        return names.stream().map(this::normalizeName).collect(Collectors.toSet());
+    }
+
+    // MySQL compara los nombres sin distinguir mayúsculas; el lote usa el mismo criterio
+    private String normalizeName(String name) {
+        return name == null ? null : name.toLowerCase(Locale.ROOT);
+    }
+
+    private User validateOwner(Optional<User> owner) {
+        User ownerUser = owner.orElseThrow(() -> new PersonalizedNotFoundException(
+                MessageEnum.OWNER_NOT_FOUND.getMessage()));
+
+        if (!validationUtils.isValidateRole(ownerUser.getRoleName(), MessageEnum.PROPIETARIO.getMessage())) {
+            throw new PersonalizedException(MessageEnum.OWNER_NOT_PROPRIETARIO.getMessage());
+        }
+        return ownerUser;
+    }
+
+    private Restaurant withOwnerName(Restaurant restaurant, User ownerUser) {
+        return restaurant.toBuilder()
+                .ownerName(ownerUser.getName().concat(MessageEnum.EMPTY.getMessage()).concat(ownerUser.getLastName()))
+                .build();
     }
 
 }
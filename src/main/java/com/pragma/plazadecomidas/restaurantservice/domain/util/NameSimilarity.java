@@ -0,0 +1,66 @@
+package com.pragma.plazadecomidas.restaurantservice.domain.util;
+
+import java.text.Normalizer;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Comparación de nombres de restaurantes sin distinguir tildes, mayúsculas ni signos: "Café Niño" y "cafe nino"
+ * se pliegan al mismo texto. La similitud es el coeficiente de Dice sobre trigramas de cada palabra, que tolera
+ * letras de más, de menos o cambiadas ("Pizeria" frente a "Pizzería").
+ */
+public final class NameSimilarity {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private NameSimilarity() {
+    }
+
+    /**
+     * Quita tildes y diéresis (descomposición NFD), pasa a minúsculas y reduce todo lo que no sea letra o número
+     * a un único espacio.
+     */
+    public static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String withoutDiacritics = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(withoutDiacritics).replaceAll(" ").strip().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Trigramas de cada palabra de un texto ya plegado, con un espacio a cada lado de la palabra para que
+     * el inicio y el final cuenten ("sol" da " so", "sol", "ol ").
+     */
+    public static Set<String> trigrams(String foldedText) {
+        Set<String> trigrams = new HashSet<>();
+        for (String word : foldedText.split(" ")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = " " + word + " ";
+            for (int start = 0; start + 3 <= padded.length(); start++) {
+                trigrams.add(padded.substring(start, start + 3));
+            }
+        }
+        return trigrams;
+    }
+
+    /**
+     * Coeficiente de Dice a partir de los trigramas compartidos: 1 para nombres iguales al plegarlos, 0 sin nada en común.
+     */
+    public static double dice(int sharedTrigrams, int trigramsA, int trigramsB) {
+        int total = trigramsA + trigramsB;
+        return total == 0 ? 0 : 2.0 * sharedTrigrams / total;
+    }
+
+    public static double similarity(String nameA, String nameB) {
+        Set<String> trigramsA = trigrams(fold(nameA));
+        Set<String> trigramsB = trigrams(fold(nameB));
+        int shared = (int) trigramsA.stream().filter(trigramsB::contains).count();
+        return dice(shared, trigramsA.size(), trigramsB.size());
+    }
+}
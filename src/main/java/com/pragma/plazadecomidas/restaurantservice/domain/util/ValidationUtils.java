@@ -4,31 +4,42 @@ package com.pragma.plazadecomidas.restaurantservice.domain.util;
 import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
 import org.springframework.stereotype.Component;
 
-import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+/**
+ * Validaciones sin estado: los patrones se compilan una sola vez y el NIT y el teléfono se revisan carácter por
+ * carácter, sin crear objetos. Se puede usar desde cualquier hilo.
+ */
 @Component
 public class ValidationUtils {
 
+    private static final Pattern NAME_PATTERN = Pattern.compile(MessageEnum.NAME_STRUCTURE.getMessage());
+
+    // Longitudes de MessageEnum.PHONE_STRUCTURE: ^\+?[0-9]{10,13}$
+    private static final int PHONE_MIN_DIGITS = 10;
+    private static final int PHONE_MAX_DIGITS = 13;
+
     public boolean isValid(String value) {
         return value != null && !value.trim().isEmpty();
     }
 
     public  boolean isValidNameStructure(String name) {
         if (name == null) return false;
-        Matcher matcher = java.util.regex.Pattern.compile(MessageEnum.NAME_STRUCTURE.getMessage()).matcher(name);
-        return matcher.matches();
+        return NAME_PATTERN.matcher(name).matches();
     }
 
+    // Equivalente a MessageEnum.PHONE_STRUCTURE
     public  boolean isValidPhoneStructure(String phone) {
         if (phone == null) return false;
-        Matcher matcher = java.util.regex.Pattern.compile(MessageEnum.PHONE_STRUCTURE.getMessage()).matcher(phone);
-        return matcher.matches();
+        int start = !phone.isEmpty() && phone.charAt(0) == '+' ? 1 : 0;
+        int digits = phone.length() - start;
+        return digits >= PHONE_MIN_DIGITS && digits <= PHONE_MAX_DIGITS && isAsciiDigits(phone, start);
     }
 
+    // Equivalente a MessageEnum.NIT_STRUCTURE
     public boolean containsOnlyNumbers(String nit) {
-        if (nit == null) return false;
-        Matcher matcher = java.util.regex.Pattern.compile(MessageEnum.NIT_STRUCTURE.getMessage()).matcher(nit);
-        return matcher.matches();
+        if (nit == null || nit.isEmpty()) return false;
+        return isAsciiDigits(nit, 0);
     }
 
     public boolean isValidUrl(String url){
@@ -59,4 +70,14 @@ public class ValidationUtils {
     public boolean isValidOwnerId(String ownerId) {
         return isValid(ownerId);
     }
+
+    private boolean isAsciiDigits(String value, int from) {
+        for (int i = from; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -5,23 +5,184 @@ package com.pragma.plazadecomidas.restaurantservice.infrastructure.configuration
 import com.pragma.plazadecomidas.restaurantservice.application.mapper.IUserResponseMapper;
 import com.pragma.plazadecomidas.restaurantservice.domain.spi.IAuthService;
 import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter.AuthServiceImpl;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter.CachingAuthServiceImpl;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter.DirectoryAuthServiceImpl;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter.HedgingAuthServiceImpl;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter.IOwnerLookupService;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter.ResilientAuthServiceImpl;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter.SingleFlightAuthServiceImpl;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.mapper.IOwnerDirectoryEntityMapper;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.repository.IOwnerDirectoryRepository;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 
 @Configuration
 public class BeanConfiguration {
 
+    public static final String AUTH_MODE_DIRECTORY = "directory";
+    public static final String EXPORT_BULKHEAD = "restaurantExport";
+
     @Bean
-    public IAuthService authService(
+    public AuthServiceImpl authServiceClient(
             WebClient.Builder webClientBuilder,
             @Value("${spring.auth.service.host}") String authServiceHost,
             @Value("${spring.auth.service.url}") String authServiceUrl,
-            IUserResponseMapper userResponseMapper
+            @Value("${spring.auth.service.batch-url:}") String authServiceBatchUrl,
+            @Value("${spring.auth.service.batch-size:100}") int batchSize,
+            @Value("${spring.auth.service.batch-concurrency:4}") int batchConcurrency,
+            @Value("${spring.auth.service.timeout.connect:5s}") Duration connectTimeout,
+            @Value("${spring.auth.service.timeout.read:5s}") Duration readTimeout,
+            @Value("${spring.auth.service.timeout.write:5s}") Duration writeTimeout,
+            ConnectionProvider authServiceConnectionProvider,
+            IUserResponseMapper userResponseMapper,
+            MeterRegistry meterRegistry
+    ) {
+        return new AuthServiceImpl(webClientBuilder, authServiceHost, authServiceUrl, authServiceBatchUrl,
+                batchSize, batchConcurrency, userResponseMapper, meterRegistry,
+                AuthServiceImpl.httpClient(authServiceConnectionProvider, connectTimeout, readTimeout, writeTimeout));
+    }
+
+    // metrics(true) publica reactor.netty.connection.provider.* en el registro global, al que Boot agrega Prometheus
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider authServiceConnectionProvider(
+            @Value("${spring.auth.service.pool.max-connections:50}") int maxConnections,
+            @Value("${spring.auth.service.pool.pending-acquire-max-count:100}") int pendingAcquireMaxCount,
+            @Value("${spring.auth.service.pool.pending-acquire-timeout:5s}") Duration pendingAcquireTimeout,
+            @Value("${spring.auth.service.pool.max-idle-time:30s}") Duration maxIdleTime,
+            @Value("${spring.auth.service.pool.max-life-time:5m}") Duration maxLifeTime,
+            @Value("${spring.auth.service.pool.evict-in-background:30s}") Duration evictInBackground
+    ) {
+        return ConnectionProvider.builder(AuthServiceImpl.CONNECTION_POOL_NAME)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInBackground)
+                .metrics(true)
+                .build();
+    }
+
+    // Sus métricas (resilience4j.circuitbreaker.*, resilience4j.bulkhead.*) las enlaza Boot por ser un MeterBinder
+    @Bean
+    public ResilientAuthServiceImpl resilientAuthService(
+            AuthServiceImpl authServiceClient,
+            @Value("${spring.auth.service.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${spring.auth.service.circuit-breaker.slow-call-duration-threshold:2s}") Duration slowCallDurationThreshold,
+            @Value("${spring.auth.service.circuit-breaker.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+            @Value("${spring.auth.service.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${spring.auth.service.circuit-breaker.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+            @Value("${spring.auth.service.circuit-breaker.wait-duration-in-open-state:10s}") Duration waitDurationInOpenState,
+            @Value("${spring.auth.service.circuit-breaker.permitted-calls-in-half-open-state:3}") int permittedCallsInHalfOpenState,
+            @Value("${spring.auth.service.bulkhead.max-concurrent-calls:25}") int maxConcurrentCalls,
+            @Value("${spring.auth.service.bulkhead.max-wait-duration:0ms}") Duration maxWaitDuration
     ) {
-        return new AuthServiceImpl(webClientBuilder, authServiceHost, authServiceUrl, userResponseMapper);
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallDurationThreshold)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .waitDurationInOpenState(waitDurationInOpenState)
+                .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+                .build();
+        BulkheadConfig bulkheadConfig = BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(maxWaitDuration)
+                .build();
+        return new ResilientAuthServiceImpl(authServiceClient, circuitBreakerConfig, bulkheadConfig);
+    }
+
+    // Cada exportación retiene una conexión de la BD mientras dura el recorrido por cursor: sin cupo se rechaza de inmediato
+    @Bean
+    public Bulkhead restaurantExportBulkhead(
+            @Value("${spring.restaurant.export.max-concurrent:2}") int maxConcurrentExports) {
+        return Bulkhead.of(EXPORT_BULKHEAD, BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentExports)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+    }
+
+    @Bean
+    public HedgingAuthServiceImpl.Policy hedgingPolicy(
+            @Value("${spring.auth.service.hedging.max-retries:2}") int maxRetries,
+            @Value("${spring.auth.service.hedging.min-backoff:50ms}") Duration minBackoff,
+            @Value("${spring.auth.service.hedging.max-backoff:500ms}") Duration maxBackoff,
+            @Value("${spring.auth.service.hedging.hedge-percentile:95}") double hedgePercentile,
+            @Value("${spring.auth.service.hedging.initial-hedge-delay:200ms}") Duration initialHedgeDelay,
+            @Value("${spring.auth.service.hedging.min-hedge-delay:20ms}") Duration minHedgeDelay,
+            @Value("${spring.auth.service.hedging.retry-budget-ratio:0.1}") double retryBudgetRatio,
+            @Value("${spring.auth.service.hedging.retry-budget-max-tokens:10}") int retryBudgetMaxTokens
+    ) {
+        return new HedgingAuthServiceImpl.Policy(maxRetries, minBackoff, maxBackoff, hedgePercentile,
+                initialHedgeDelay, minHedgeDelay, retryBudgetRatio, retryBudgetMaxTokens);
+    }
+
+    @Bean
+    public DirectoryAuthServiceImpl directoryAuthService(
+            IOwnerDirectoryRepository ownerDirectoryRepository,
+            IOwnerDirectoryEntityMapper ownerDirectoryEntityMapper
+    ) {
+        return new DirectoryAuthServiceImpl(ownerDirectoryRepository, ownerDirectoryEntityMapper);
+    }
+
+    // Es también el IReactiveAuthService del registro no bloqueante: los dos flujos comparten la misma cadena
+    @Bean
+    @Primary
+    public IOwnerLookupService authService(
+            ResilientAuthServiceImpl resilientAuthService,
+            DirectoryAuthServiceImpl directoryAuthService,
+            MeterRegistry meterRegistry,
+            @Value("${spring.auth.service.mode:remote}") String authMode,
+            @Value("${spring.auth.service.hedging.enabled:false}") boolean hedgingEnabled,
+            HedgingAuthServiceImpl.Policy hedgingPolicy,
+            @Value("${spring.auth.service.single-flight.enabled:true}") boolean singleFlightEnabled,
+            @Value("${spring.auth.service.cache.enabled:false}") boolean cacheEnabled,
+            @Value("${spring.auth.service.cache.max-size:1000}") long cacheMaxSize,
+            @Value("${spring.auth.service.cache.ttl:5m}") Duration cacheTtl,
+            @Value("${spring.auth.service.cache.negative-ttl:30s}") Duration cacheNegativeTtl
+    ) {
+        // La lectura del directorio local es una consulta por clave primaria: no necesita cache ni agrupación
+        if (AUTH_MODE_DIRECTORY.equals(authMode)) {
+            return directoryAuthService;
+        }
+        // Las consultas agrupadas no ocupan cupo del bulkhead; la cache va por fuera para resolver un propietario
+        // guardado aunque el circuito esté abierto
+        IOwnerLookupService authService = resilientAuthService;
+        // Los hedges y reintentos van por fuera del circuit breaker y del bulkhead: cada intento necesita su propio
+        // cupo, así max-concurrent-calls acota las peticiones reales al Auth Service y no solo las consultas
+        if (hedgingEnabled) {
+            authService = new HedgingAuthServiceImpl(resilientAuthService, hedgingPolicy, meterRegistry);
+        }
+        if (singleFlightEnabled) {
+            authService = new SingleFlightAuthServiceImpl(authService, meterRegistry);
+        }
+        if (cacheEnabled) {
+            authService = new CachingAuthServiceImpl(authService, cacheMaxSize, cacheTtl, cacheNegativeTtl);
+        }
+        return authService;
+    }
+
+    // El decorador se publica como IAuthService; se registra aparte para que Boot enlace sus métricas
+    @Bean
+    public MeterBinder ownerCacheMetrics(IAuthService authService) {
+        return registry -> {
+            if (authService instanceof CachingAuthServiceImpl cachingAuthService) {
+                cachingAuthService.bindTo(registry);
+            }
+        };
     }
 
-}
\ No newline at end of file
+}
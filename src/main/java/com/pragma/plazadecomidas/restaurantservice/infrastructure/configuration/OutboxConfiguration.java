@@ -0,0 +1,56 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.input.scheduler.OutboxRelayJob;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.event.IRestaurantEventPublisher;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.event.LoggingRestaurantEventPublisher;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter.RestaurantOutbox;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.repository.IOutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+@EnableScheduling
+public class OutboxConfiguration {
+
+    // Sustituir por un adaptador del broker real (Kafka, RabbitMQ...) declarando otro IRestaurantEventPublisher
+    @Bean
+    @ConditionalOnMissingBean
+    public IRestaurantEventPublisher restaurantEventPublisher() {
+        return new LoggingRestaurantEventPublisher();
+    }
+
+    @Bean
+    public RestaurantOutbox restaurantOutbox(
+            IOutboxEventRepository outboxEventRepository,
+            ObjectMapper objectMapper,
+            IRestaurantEventPublisher restaurantEventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${spring.restaurant.outbox.relay.max-attempts:10}") int maxAttempts,
+            @Value("${spring.restaurant.outbox.relay.publish-timeout:5s}") Duration publishTimeout
+    ) {
+        return new RestaurantOutbox(outboxEventRepository, objectMapper, restaurantEventPublisher, meterRegistry,
+                Clock.systemUTC(), maxAttempts, publishTimeout);
+    }
+
+    // Con relay.enabled=false los eventos se siguen escribiendo y quedan pendientes (por ejemplo, para CDC)
+    @Bean
+    @ConditionalOnProperty(name = "spring.restaurant.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+    public OutboxRelayJob outboxRelayJob(
+            RestaurantOutbox restaurantOutbox,
+            @Value("${spring.restaurant.outbox.relay.batch-size:100}") int batchSize,
+            @Value("${spring.restaurant.outbox.relay.max-batches-per-run:10}") int maxBatchesPerRun,
+            @Value("${spring.restaurant.outbox.retention:7d}") Duration retention
+    ) {
+        return new OutboxRelayJob(restaurantOutbox, batchSize, maxBatchesPerRun, retention);
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.configuration;
+
+import com.pragma.plazadecomidas.restaurantservice.application.mapper.IUserResponseMapper;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.input.event.IUserChangeEventBroker;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.input.event.InMemoryUserChangeEventBroker;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.input.scheduler.OwnerDirectoryResyncJob;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter.AuthServiceImpl;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter.OwnerDirectoryProjector;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter.OwnerSnapshotClient;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.repository.IOwnerDirectoryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Solo con {@code spring.auth.service.mode=directory}: el directorio de propietarios se alimenta de los eventos
+ * de cambio de usuario y de un resync periódico contra el Auth Service.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "spring.auth.service.mode", havingValue = BeanConfiguration.AUTH_MODE_DIRECTORY)
+public class OwnerDirectoryConfiguration {
+
+    // Sustituir por un adaptador del broker real (Kafka, RabbitMQ...) declarando otro IUserChangeEventBroker
+    @Bean
+    @ConditionalOnMissingBean
+    public IUserChangeEventBroker userChangeEventBroker() {
+        return new InMemoryUserChangeEventBroker();
+    }
+
+    @Bean
+    public OwnerDirectoryProjector ownerDirectoryProjector(
+            IOwnerDirectoryRepository ownerDirectoryRepository,
+            EntityManager entityManager,
+            @Value("${spring.auth.service.directory.min-snapshot-ratio:0.5}") double minSnapshotRatio,
+            MeterRegistry meterRegistry
+    ) {
+        return new OwnerDirectoryProjector(ownerDirectoryRepository, entityManager, Clock.systemUTC(),
+                minSnapshotRatio, meterRegistry);
+    }
+
+    // Se suscribe el proxy del proyector (no la instancia) para que cada evento se aplique en su transacción
+    @Bean
+    public SmartInitializingSingleton ownerDirectorySubscription(IUserChangeEventBroker userChangeEventBroker,
+                                                                 OwnerDirectoryProjector ownerDirectoryProjector) {
+        return () -> userChangeEventBroker.subscribe(ownerDirectoryProjector::apply);
+    }
+
+    @Bean
+    public OwnerDirectoryResyncJob ownerDirectoryResyncJob(
+            WebClient.Builder webClientBuilder,
+            @Value("${spring.auth.service.host}") String authServiceHost,
+            @Value("${spring.auth.service.directory.snapshot-url:/api/v1/users}") String snapshotUrl,
+            @Value("${spring.auth.service.directory.snapshot-timeout:30s}") Duration snapshotTimeout,
+            ConnectionProvider authServiceConnectionProvider,
+            IUserResponseMapper userResponseMapper,
+            OwnerDirectoryProjector ownerDirectoryProjector,
+            MeterRegistry meterRegistry
+    ) {
+        OwnerSnapshotClient ownerSnapshotClient = new OwnerSnapshotClient(webClientBuilder, authServiceHost,
+                snapshotUrl, userResponseMapper,
+                AuthServiceImpl.httpClient(authServiceConnectionProvider, snapshotTimeout, snapshotTimeout, snapshotTimeout));
+        return new OwnerDirectoryResyncJob(ownerSnapshotClient, ownerDirectoryProjector, Clock.systemUTC(), meterRegistry);
+    }
+
+}
@@ -1,16 +1,29 @@
 package com.pragma.plazadecomidas.restaurantservice.infrastructure.configuration;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    // Cuenta de los demás servicios de la plazoleta (platos, pedidos, analítica)
+    public static final String ROLE_SERVICE = "SERVICIO";
+    // Cuenta del scraper de Prometheus
+    public static final String ROLE_METRICS = "MONITOREO";
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -18,10 +31,44 @@ public class SecurityConfig {
                 .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers("/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
                         .requestMatchers("/api/v1/restaurants/create-restaurant").permitAll()
+                        .requestMatchers("/api/v1/restaurants/create-restaurant/bulk").permitAll()
+                        .requestMatchers("/api/v1/restaurants/create-restaurant/import").permitAll()
+                        .requestMatchers("/api/v1/restaurants/reactive/create-restaurant").permitAll()
+                        // La exportación incluye NIT, teléfono y propietario de todos los restaurantes: solo para la
+                        // cuenta de servicio. Va antes que /{id}, que también coincide con /export
+                        .requestMatchers(HttpMethod.GET, "/api/v1/restaurants/export").hasRole(ROLE_SERVICE)
+                        .requestMatchers(HttpMethod.GET, "/api/v1/restaurants", "/api/v1/restaurants/search").permitAll()
+                        // La consulta por ID y las de propietario devuelven NIT, teléfono y dirección con IDs
+                        // secuenciales: solo entre servicios. Van después de /search, que también coincide con /{id}
+                        .requestMatchers(HttpMethod.GET, "/api/v1/restaurants/{id}",
+                                "/api/v1/restaurants/{id}/owner/{ownerId}",
+                                "/api/v1/restaurants/owner/{ownerId}").hasRole(ROLE_SERVICE)
+                        // Solo el health check es público: las métricas describen tráfico y datos internos
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole(ROLE_METRICS)
                         .anyRequest().authenticated()
                 )
+                // Llamadas entre servicios con HTTP Basic (siempre sobre TLS fuera de la red local)
+                .httpBasic(Customizer.withDefaults())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
 
         return http.build();
     }
+
+    // Las contraseñas se configuran con el prefijo de su codificación, por ejemplo {bcrypt}$2a$10$...
+    @Bean
+    public UserDetailsService serviceClients(
+            @Value("${spring.restaurant.security.service-client.username:plazoleta-servicios}") String serviceUsername,
+            @Value("${spring.restaurant.security.service-client.password}") String servicePassword,
+            @Value("${spring.restaurant.security.metrics-client.username:prometheus}") String metricsUsername,
+            @Value("${spring.restaurant.security.metrics-client.password}") String metricsPassword) {
+        return new InMemoryUserDetailsManager(
+                User.withUsername(serviceUsername).password(servicePassword).roles(ROLE_SERVICE).build(),
+                User.withUsername(metricsUsername).password(metricsPassword).roles(ROLE_METRICS).build());
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    }
 }
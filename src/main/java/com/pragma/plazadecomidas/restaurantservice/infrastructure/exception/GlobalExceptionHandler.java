@@ -4,7 +4,10 @@ import com.pragma.plazadecomidas.restaurantservice.domain.exception.DomainExcept
 import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedBadRequestException;
 import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedNotFoundException;
 import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.util.ValidationConstants;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
 import jakarta.validation.UnexpectedTypeException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -47,6 +50,18 @@ public class GlobalExceptionHandler {
         }
     }
 
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ExceptionResponse> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
+        ExceptionResponse response = new ExceptionResponse(ValidationConstants.RESTAURANT_ALREADY_EXISTS_MESSAGE);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ExceptionResponse> handleBulkheadFullException(BulkheadFullException ex) {
+        ExceptionResponse response = new ExceptionResponse(MessageEnum.SERVICE_BUSY.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ExceptionResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
         ExceptionResponse response = new ExceptionResponse(ex.getMessage());
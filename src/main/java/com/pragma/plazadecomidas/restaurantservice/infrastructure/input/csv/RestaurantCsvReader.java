@@ -0,0 +1,246 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.input.csv;
+
+import com.pragma.plazadecomidas.restaurantservice.application.dto.request.RestaurantImportRowDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.request.RestaurantRequestDto;
+import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedBadRequestException;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.util.ValidationConstants;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Lector de CSV (RFC 4180) que entrega una fila a la vez, sin cargar el archivo en memoria. Las columnas se buscan
+ * por nombre en el encabezado, con los mismos nombres de los campos JSON del registro; el separador puede ser coma o
+ * punto y coma (el que usa Excel en español). La fila 1 es el encabezado.
+ */
+public class RestaurantCsvReader implements Iterator<RestaurantImportRowDto>, Closeable {
+
+    static final List<String> COLUMNS = List.of(
+            ValidationConstants.JSON_NOMBRE,
+            ValidationConstants.JSON_NIT,
+            ValidationConstants.JSON_DIRECCION,
+            ValidationConstants.JSON_CELULAR,
+            ValidationConstants.JSON_URL_LOGO,
+            ValidationConstants.JSON_ID_PROPIETARIO);
+
+    // Tope de un registro (y por lo tanto de cada campo): una comilla sin cerrar no puede tragarse el resto del archivo
+    static final int MAX_RECORD_LENGTH = 8 * 1024;
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final char QUOTE = '"';
+    private static final int NONE = -2;
+    // Marca de registro mal formado: se compara por identidad, nunca se confunde con los campos de una fila
+    private static final List<String> MALFORMED_RECORD = new ArrayList<>(0);
+
+    private final BufferedReader reader;
+    private final char separator;
+    private final int headerSize;
+    private final Map<String, Integer> columnIndexes = new HashMap<>();
+
+    private int row = 1;
+    private RestaurantImportRowDto nextRow;
+
+    public RestaurantCsvReader(Reader source) throws IOException {
+        this.reader = source instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(source);
+        String headerLine = reader.readLine();
+        if (headerLine != null && !headerLine.isEmpty() && headerLine.charAt(0) == BYTE_ORDER_MARK) {
+            headerLine = headerLine.substring(1);
+        }
+        if (headerLine == null || headerLine.isBlank()) {
+            throw invalidHeader();
+        }
+        this.separator = headerLine.indexOf(';') >= 0 && headerLine.indexOf(',') < 0 ? ';' : ',';
+
+        List<String> header = readRecord(new BufferedReader(new StringReader(headerLine)));
+        if (header == MALFORMED_RECORD) {
+            throw invalidHeader();
+        }
+        this.headerSize = header.size();
+        for (int index = 0; index < header.size(); index++) {
+            columnIndexes.putIfAbsent(header.get(index).strip().toLowerCase(Locale.ROOT), index);
+        }
+        if (!COLUMNS.stream().map(column -> column.toLowerCase(Locale.ROOT)).allMatch(columnIndexes::containsKey)) {
+            throw invalidHeader();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextRow == null) {
+            nextRow = readRow();
+        }
+        return nextRow != null;
+    }
+
+    @Override
+    public RestaurantImportRowDto next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        RestaurantImportRowDto current = nextRow;
+        nextRow = null;
+        return current;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private RestaurantImportRowDto readRow() {
+        try {
+            List<String> fields;
+            do {
+                fields = readRecord(reader);
+                if (fields == null) {
+                    return null;
+                }
+                row++;
+            } while (fields != MALFORMED_RECORD && fields.size() == 1 && fields.get(0).isBlank());
+            if (fields == MALFORMED_RECORD) {
+                return RestaurantImportRowDto.builder()
+                        .row(row)
+                        .error(String.format(MessageEnum.IMPORT_ROW_MALFORMED.getMessage(), MAX_RECORD_LENGTH))
+                        .build();
+            }
+            return toRow(row, fields);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private RestaurantImportRowDto toRow(int rowNumber, List<String> fields) {
+        if (fields.size() != headerSize) {
+            return RestaurantImportRowDto.builder()
+                    .row(rowNumber)
+                    .error(String.format(MessageEnum.IMPORT_ROW_COLUMNS_INVALID.getMessage(), fields.size(), headerSize))
+                    .build();
+        }
+
+        RestaurantRequestDto restaurant = RestaurantRequestDto.builder()
+                .name(field(fields, ValidationConstants.JSON_NOMBRE))
+                .nit(field(fields, ValidationConstants.JSON_NIT))
+                .address(field(fields, ValidationConstants.JSON_DIRECCION))
+                .phoneNumber(field(fields, ValidationConstants.JSON_CELULAR))
+                .urlLogo(field(fields, ValidationConstants.JSON_URL_LOGO))
+                .build();
+        String ownerId = field(fields, ValidationConstants.JSON_ID_PROPIETARIO);
+        String error = null;
+        if (!ownerId.isEmpty()) {
+            try {
+                restaurant.setOwnerId(Long.parseLong(ownerId));
+            } catch (NumberFormatException ex) {
+                error = MessageEnum.IMPORT_OWNER_ID_INVALID.getMessage();
+            }
+        }
+        return RestaurantImportRowDto.builder().row(rowNumber).restaurant(restaurant).error(error).build();
+    }
+
+    private String field(List<String> fields, String column) {
+        return fields.get(columnIndexes.get(column.toLowerCase(Locale.ROOT))).strip();
+    }
+
+    /**
+     * Un registro completo: los campos entre comillas pueden contener el separador, saltos de línea y comillas
+     * dobladas ({@code ""}). Devuelve {@code null} al final del archivo y {@link #MALFORMED_RECORD} si una comilla
+     * queda sin cerrar o el registro supera {@link #MAX_RECORD_LENGTH} caracteres; en ese caso la lectura vuelve al
+     * inicio del registro y salta solo su primera línea, así las filas siguientes se siguen importando.
+     */
+    private List<String> readRecord(BufferedReader input) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStart = true;
+        int length = 0;
+        int pending = NONE;
+        // Alcanza para volver al inicio: el tope más el carácter que lo supera y la lectura tras una comilla
+        input.mark(MAX_RECORD_LENGTH + 2);
+        int read = input.read();
+        if (read == -1) {
+            return null;
+        }
+
+        while (read != -1) {
+            if (++length > MAX_RECORD_LENGTH) {
+                return skipMalformedLine(input);
+            }
+            char character = (char) read;
+            if (quoted) {
+                if (character == QUOTE) {
+                    int following = input.read();
+                    if (following == QUOTE) {
+                        field.append(QUOTE);
+                        length++;
+                    } else {
+                        quoted = false;
+                        pending = following;
+                    }
+                } else {
+                    field.append(character);
+                }
+            } else if (character == QUOTE && fieldStart) {
+                quoted = true;
+                fieldStart = false;
+            } else if (character == separator) {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+            } else if (character == '\n') {
+                break;
+            } else if (character == '\r') {
+                input.mark(1);
+                if (input.read() != '\n') {
+                    input.reset();
+                }
+                break;
+            } else {
+                field.append(character);
+                fieldStart = false;
+            }
+            if (pending != NONE) {
+                read = pending;
+                pending = NONE;
+            } else {
+                read = input.read();
+            }
+        }
+        if (quoted) {
+            return skipMalformedLine(input);
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private List<String> skipMalformedLine(BufferedReader input) throws IOException {
+        input.reset();
+        int read = input.read();
+        while (read != -1 && read != '\n') {
+            if (read == '\r') {
+                input.mark(1);
+                if (input.read() != '\n') {
+                    input.reset();
+                }
+                break;
+            }
+            read = input.read();
+        }
+        return MALFORMED_RECORD;
+    }
+
+    private static PersonalizedBadRequestException invalidHeader() {
+        return new PersonalizedBadRequestException(
+                String.format(MessageEnum.IMPORT_HEADER_INVALID.getMessage(), String.join(",", COLUMNS)));
+    }
+}
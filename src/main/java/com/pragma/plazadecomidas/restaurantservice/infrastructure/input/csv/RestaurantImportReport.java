@@ -0,0 +1,75 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.input.csv;
+
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantImportErrorDto;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.util.ValidationConstants;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reporte CSV de las filas rechazadas en una importación. Se escribe en un archivo temporal a medida que aparecen los
+ * rechazos, así ni el archivo importado ni el reporte se acumulan en memoria; {@link #close()} borra el temporal.
+ */
+public class RestaurantImportReport implements Closeable {
+
+    static final String HEADER = String.join(",", ValidationConstants.CSV_FILA, ValidationConstants.JSON_NOMBRE,
+            ValidationConstants.JSON_NIT, ValidationConstants.JSON_MENSAJE);
+
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final Path file;
+    private final BufferedWriter writer;
+
+    public RestaurantImportReport() throws IOException {
+        this.file = Files.createTempFile("restaurant-import-errors-", ".csv");
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        writer.write(HEADER);
+        writer.newLine();
+    }
+
+    public void add(RestaurantImportErrorDto error) {
+        try {
+            writer.write(Stream.of(String.valueOf(error.getRow()), error.getName(), error.getNit(), error.getMessage())
+                    .map(RestaurantImportReport::escape)
+                    .collect(Collectors.joining(",")));
+            writer.newLine();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void writeTo(OutputStream outputStream) throws IOException {
+        writer.flush();
+        Files.copy(file, outputStream);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            writer.close();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // Comillas solo si hacen falta; un "=", "+", "-", "@", tabulador o retorno de carro inicial se neutraliza para que
+    // una hoja de cálculo no lo evalúe como fórmula
+    static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        String safe = !value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (safe.contains(",") || safe.contains("\"") || safe.contains("\n") || safe.contains("\r")) {
+            return '"' + safe.replace("\"", "\"\"") + '"';
+        }
+        return safe;
+    }
+}
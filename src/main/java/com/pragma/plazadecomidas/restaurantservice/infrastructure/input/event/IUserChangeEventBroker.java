@@ -0,0 +1,14 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.input.event;
+
+import java.util.function.Consumer;
+
+/**
+ * Punto de conexión con el broker que transporta los cambios de usuarios. Se asume entrega al menos una vez
+ * y ordenada por usuario (por ejemplo, particionando por {@code userId}).
+ */
+public interface IUserChangeEventBroker {
+
+    void publish(UserChangeEvent event);
+
+    void subscribe(Consumer<UserChangeEvent> listener);
+}
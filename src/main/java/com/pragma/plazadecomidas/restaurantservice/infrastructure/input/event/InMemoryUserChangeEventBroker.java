@@ -0,0 +1,24 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.input.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Broker en memoria para pruebas y desarrollo local: entrega cada evento en el hilo que lo publica,
+ * a todos los suscriptores y en el orden de publicación.
+ */
+public class InMemoryUserChangeEventBroker implements IUserChangeEventBroker {
+
+    private final List<Consumer<UserChangeEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(UserChangeEvent event) {
+        listeners.forEach(listener -> listener.accept(event));
+    }
+
+    @Override
+    public void subscribe(Consumer<UserChangeEvent> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,21 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.input.event;
+
+/**
+ * Cambio de un usuario publicado por el Auth Service. {@code version} crece con cada cambio del mismo usuario
+ * y permite descartar eventos repetidos o que llegan desordenados.
+ */
+public record UserChangeEvent(Type type, Long userId, String name, String lastName, String roleName, long version) {
+
+    public enum Type {
+        UPSERTED,
+        DELETED
+    }
+
+    public static UserChangeEvent upserted(Long userId, String name, String lastName, String roleName, long version) {
+        return new UserChangeEvent(Type.UPSERTED, userId, name, lastName, roleName, version);
+    }
+
+    public static UserChangeEvent deleted(Long userId, long version) {
+        return new UserChangeEvent(Type.DELETED, userId, null, null, null, version);
+    }
+}
@@ -1,38 +1,96 @@
 package com.pragma.plazadecomidas.restaurantservice.infrastructure.input.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pragma.plazadecomidas.restaurantservice.application.dto.request.RestaurantRequestDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantBulkResponseDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantImportResponseDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantListResponseDto;
 import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantResponseDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantSummaryResponseDto;
 import com.pragma.plazadecomidas.restaurantservice.application.handler.IRestaurantHandler;
+import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedBadRequestException;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
 import com.pragma.plazadecomidas.restaurantservice.infrastructure.exception.ExceptionResponse;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.input.csv.RestaurantCsvReader;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.input.csv.RestaurantImportReport;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.metrics.RestaurantMetrics;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+@Slf4j
 @RestController
 @RequestMapping("/api/v1/restaurants")
 @RequiredArgsConstructor
 @Tag(name = "Gestión de Restaurantes", description = "Operaciones relacionadas con la creación y administración de restaurantes.")
 public class RestaurantController {
 
+    public static final String SIMILAR_NAMES_HEADER = "X-Similar-Restaurants";
+
+    public static final String IMPORT_TOTAL_HEADER = "X-Import-Total";
+    public static final String IMPORT_CREATED_HEADER = "X-Import-Created";
+    public static final String IMPORT_REJECTED_HEADER = "X-Import-Rejected";
+    public static final String IMPORT_ROWS_PER_SECOND_HEADER = "X-Import-Rows-Per-Second";
+
+    private static final String EXPORT_FILE_NAME = "restaurants.ndjson";
+    private static final String EXPORT_PERMIT_INTERCEPTOR = "restaurantExportPermit";
+    private static final String IMPORT_REPORT_FILE_NAME = "import-errors.csv";
+    private static final String IMPORT_REPORT_MEDIA_TYPE = "text/csv;charset=UTF-8";
+
     private final IRestaurantHandler restaurantHandler;
+    private final ObjectMapper objectMapper;
+    private final RestaurantMetrics restaurantMetrics;
+    private final Bulkhead restaurantExportBulkhead;
 
     @Operation(summary = "Registrar un nuevo restaurante",
             description = "Permite registrar un nuevo restaurante. Solo los usuarios con rol ADMINISTRADOR pueden realizar esta operación.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201",
                     description = "Restaurante creado con éxito",
+                    headers = @Header(name = RestaurantController.SIMILAR_NAMES_HEADER,
+                            description = "Nombres existentes muy parecidos al registrado (sin distinguir tildes ni "
+                                    + "mayúsculas), codificados como URL y separados por comas. Solo se envía si hay alguno.",
+                            schema = @Schema(type = "string")),
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = RestaurantResponseDto.class))),
             @ApiResponse(responseCode = "400", description = "Solicitud inválida o datos faltantes/incorrectos",
@@ -125,10 +183,312 @@ public class RestaurantController {
     @PostMapping("/create-restaurant")
     public ResponseEntity<RestaurantResponseDto> save( @Parameter(description = "Datos del restaurante a registrar", required = true)
                                                        @Valid @RequestBody RestaurantRequestDto restaurantRequestDto){
-        return ResponseEntity.status(
-                HttpStatus.CREATED).body(
-                        restaurantHandler.saveRestaurant(
-                                restaurantRequestDto));
+        return created(restaurantHandler.saveRestaurant(restaurantRequestDto));
+
+    }
+
+    @Operation(summary = "Registrar restaurantes de forma masiva",
+            description = "Registra un lote de hasta 500 restaurantes en una sola petición. Cada restaurante se valida "
+                    + "de forma independiente y la respuesta indica, por posición, si fue creado o el motivo del rechazo.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Lote procesado; revisar el estado de cada restaurante",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = RestaurantBulkResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Lote vacío o con más de 500 restaurantes",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponse.class),
+                            examples = {
+                                    @io.swagger.v3.oas.annotations.media.ExampleObject(
+                                            name = "Error de Validación - Tamaño del Lote",
+                                            summary = "El lote debe contener entre 1 y 500 restaurantes",
+                                            value = "{ \"mensaje\": \"El lote debe contener entre 1 y 500 restaurantes\" }"
+                                    )
+                            })),
+            @ApiResponse(responseCode = "409", description = "Otro registro concurrente tomó un nombre o NIT del lote",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponse.class),
+                            examples = {
+                                    @io.swagger.v3.oas.annotations.media.ExampleObject(
+                                            name = "Error de Negocio - Conflicto en el Lote",
+                                            summary = "El lote no fue registrado",
+                                            value = "{ \"mensaje\": \"Uno o más restaurantes del lote ya existen; el lote no fue registrado.\" }"
+                                    )
+                            }))
+    })
+    @PostMapping("/create-restaurant/bulk")
+    public ResponseEntity<RestaurantBulkResponseDto> saveAll(@Parameter(description = "Restaurantes a registrar", required = true)
+                                                             @RequestBody List<RestaurantRequestDto> restaurantRequestDtos) {
+        return ResponseEntity.ok(restaurantHandler.saveRestaurants(restaurantRequestDtos));
+    }
+
+    @Operation(summary = "Listar restaurantes",
+            description = "Lista los restaurantes ordenados alfabéticamente por nombre, mostrando solo nombre y URL del logo. "
+                    + "La paginación es por cursor: envía el 'siguiente_cursor' de la respuesta para obtener la página siguiente.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Página de restaurantes",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = RestaurantListResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Tamaño de página o cursor inválido",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponse.class),
+                            examples = {
+                                    @io.swagger.v3.oas.annotations.media.ExampleObject(
+                                            name = "Error de Validación - Tamaño de Página",
+                                            summary = "El tamaño de página debe estar entre 1 y 100",
+                                            value = "{ \"mensaje\": \"El tamaño de página debe estar entre 1 y 100\" }"
+                                    ),
+                                    @io.swagger.v3.oas.annotations.media.ExampleObject(
+                                            name = "Error de Validación - Cursor",
+                                            summary = "El cursor no fue generado por este servicio",
+                                            value = "{ \"mensaje\": \"El cursor de paginación no es válido\" }"
+                                    )
+                            }))
+    })
+    @GetMapping
+    public ResponseEntity<RestaurantListResponseDto> list(
+            @Parameter(description = "Cursor devuelto por la página anterior; omitir para la primera página")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Cantidad de restaurantes por página (1 a 100)")
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(restaurantHandler.listRestaurants(cursor, size));
+    }
+
+    @Operation(summary = "Buscar restaurantes por nombre",
+            description = "Búsqueda para autocompletar: devuelve los restaurantes cuyo nombre, o alguna de sus palabras, "
+                    + "empieza por el texto escrito, sin distinguir tildes ni mayúsculas; si faltan resultados se completa con los "
+                    + "nombres más parecidos (\"pizeria\" encuentra \"Pizzería\"). Se resuelve con un índice en memoria, "
+                    + "sin consultar la base de datos.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Restaurantes encontrados; primero los que empiezan por el texto, en orden alfabético",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = RestaurantSummaryResponseDto.class)))),
+            @ApiResponse(responseCode = "400", description = "Texto de búsqueda vacío o cantidad de resultados inválida",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponse.class),
+                            examples = {
+                                    @io.swagger.v3.oas.annotations.media.ExampleObject(
+                                            name = "Error de Validación - Texto Requerido",
+                                            summary = "El texto de búsqueda es obligatorio",
+                                            value = "{ \"mensaje\": \"El texto de búsqueda es obligatorio\" }"
+                                    ),
+                                    @io.swagger.v3.oas.annotations.media.ExampleObject(
+                                            name = "Error de Validación - Cantidad de Resultados",
+                                            summary = "La cantidad de resultados debe estar entre 1 y 20",
+                                            value = "{ \"mensaje\": \"La cantidad de resultados debe estar entre 1 y 20\" }"
+                                    )
+                            }))
+    })
+    @GetMapping("/search")
+    public ResponseEntity<List<RestaurantSummaryResponseDto>> search(
+            @Parameter(description = "Texto parcial del nombre", required = true)
+            @RequestParam(name = "q", required = false) String query,
+            @Parameter(description = "Cantidad máxima de resultados (1 a 20)")
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(restaurantHandler.searchRestaurants(query, limit));
+    }
+
+    @Operation(summary = "Importar restaurantes desde un CSV",
+            description = "Registra los restaurantes de un archivo CSV (UTF-8, separado por comas o punto y coma) con las "
+                    + "columnas nombre, nit, direccion, Celular, url_del_logo e id_propietario. El archivo se lee fila a fila "
+                    + "y se guarda en bloques de 500: una fila inválida o un bloque en conflicto no revierte lo demás. "
+                    + "La respuesta es el reporte CSV de las filas rechazadas; el resumen va en las cabeceras X-Import-*.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Archivo procesado; el cuerpo lista las filas rechazadas (solo el encabezado si no hubo)",
+                    headers = {
+                            @Header(name = IMPORT_TOTAL_HEADER, description = "Filas leídas", schema = @Schema(type = "integer")),
+                            @Header(name = IMPORT_CREATED_HEADER, description = "Restaurantes registrados", schema = @Schema(type = "integer")),
+                            @Header(name = IMPORT_REJECTED_HEADER, description = "Filas rechazadas", schema = @Schema(type = "integer")),
+                            @Header(name = IMPORT_ROWS_PER_SECOND_HEADER, description = "Filas procesadas por segundo", schema = @Schema(type = "number"))
+                    },
+                    content = @Content(mediaType = IMPORT_REPORT_MEDIA_TYPE)),
+            @ApiResponse(responseCode = "400", description = "Archivo vacío o sin las columnas obligatorias",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponse.class),
+                            examples = {
+                                    @io.swagger.v3.oas.annotations.media.ExampleObject(
+                                            name = "Error de Validación - Encabezado",
+                                            summary = "Faltan columnas en el encabezado",
+                                            value = "{ \"mensaje\": \"El encabezado del CSV debe tener las columnas: nombre,nit,direccion,Celular,url_del_logo,id_propietario\" }"
+                                    )
+                            }))
+    })
+    @PostMapping(value = "/create-restaurant/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = IMPORT_REPORT_MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> importCsv(
+            @Parameter(description = "Archivo CSV con un restaurante por fila", required = true)
+            @RequestParam(name = "file", required = false) MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new PersonalizedBadRequestException(MessageEnum.IMPORT_FILE_REQUIRED.getMessage());
+        }
+
+        RestaurantImportReport report = new RestaurantImportReport();
+        RestaurantImportResponseDto summary;
+        try (RestaurantCsvReader rows = new RestaurantCsvReader(
+                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            summary = restaurantHandler.importRestaurants(rows, report::add);
+        } catch (RuntimeException | IOException ex) {
+            report.close();
+            throw ex;
+        }
+        restaurantMetrics.recordImport(summary.getCreated(), summary.getRejected(), summary.getDuration());
+        log.info("Importación CSV: {} filas, {} creadas, {} rechazadas en {} ms ({} filas/s)", summary.getTotal(),
+                summary.getCreated(), summary.getRejected(), summary.getDuration().toMillis(),
+                Math.round(summary.rowsPerSecond()));
+
+        StreamingResponseBody body = outputStream -> {
+            try (report) {
+                report.writeTo(outputStream);
+            }
+        };
+        return ResponseEntity.ok()
+                .header(IMPORT_TOTAL_HEADER, String.valueOf(summary.getTotal()))
+                .header(IMPORT_CREATED_HEADER, String.valueOf(summary.getCreated()))
+                .header(IMPORT_REJECTED_HEADER, String.valueOf(summary.getRejected()))
+                .header(IMPORT_ROWS_PER_SECOND_HEADER, String.valueOf(Math.round(summary.rowsPerSecond())))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(IMPORT_REPORT_FILE_NAME).build().toString())
+                .contentType(MediaType.parseMediaType(IMPORT_REPORT_MEDIA_TYPE))
+                .body(body);
+    }
+
+    @Operation(summary = "Exportar todos los restaurantes",
+            description = "Descarga todos los restaurantes en formato NDJSON (un objeto JSON por línea), en orden de ID. "
+                    + "Las filas se leen con un cursor y se escriben en la respuesta a medida que llegan, así el consumo de "
+                    + "memoria no depende del tamaño de la tabla. Pensado para analítica y para reconstruir índices de búsqueda.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Restaurantes, uno por línea",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = RestaurantResponseDto.class))),
+            @ApiResponse(responseCode = "503", description = "Ya hay el máximo de exportaciones en curso",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponse.class)))
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(HttpServletRequest request) {
+        // Sin cupo se rechaza antes de abrir el cursor; el cupo se libera cuando termina de escribirse la respuesta
+        if (!restaurantExportBulkhead.tryAcquirePermission()) {
+            throw BulkheadFullException.createBulkheadFullException(restaurantExportBulkhead);
+        }
+        // Si la tarea asíncrona no llega a ejecutarse (timeout, cliente desconectado, ejecutor saturado) el cierre
+        // de la petición también libera el cupo; el flag evita liberarlo dos veces
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable releasePermit = () -> {
+            if (released.compareAndSet(false, true)) {
+                restaurantExportBulkhead.onComplete();
+            }
+        };
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(EXPORT_PERMIT_INTERCEPTOR,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                        releasePermit.run();
+                    }
+                });
+        StreamingResponseBody body = outputStream -> {
+            try {
+                restaurantHandler.exportRestaurants(restaurant -> writeLine(outputStream, restaurant));
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            } finally {
+                releasePermit.run();
+            }
+        };
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(EXPORT_FILE_NAME).build().toString())
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @Operation(summary = "Consultar un restaurante por ID",
+            description = "Devuelve los datos del restaurante. Pensado para los demás servicios de la plazoleta (pedidos, platos); "
+                    + "las lecturas repetidas se sirven desde una cache en memoria.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Restaurante encontrado",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = RestaurantResponseDto.class))),
+            @ApiResponse(responseCode = "404", description = "Restaurante no encontrado",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponse.class),
+                            examples = {
+                                    @io.swagger.v3.oas.annotations.media.ExampleObject(
+                                            name = "Error - Restaurante No Encontrado",
+                                            summary = "El ID no corresponde a un restaurante registrado.",
+                                            value = "{ \"mensaje\": \"Restaurante no encontrado\" }"
+                                    )
+                            }))
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<RestaurantResponseDto> findById(
+            @Parameter(description = "ID del restaurante", required = true) @PathVariable Long id) {
+        return ResponseEntity.ok(restaurantHandler.findRestaurantById(id));
+    }
+
+    @Operation(summary = "Listar los restaurantes de un propietario",
+            description = "Devuelve los restaurantes del propietario en orden alfabético, localizados y ordenados con el índice "
+                    + "por propietario. Si no tiene restaurantes la lista viene vacía.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Restaurantes del propietario",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = RestaurantResponseDto.class))))
+    })
+    @GetMapping("/owner/{ownerId}")
+    public ResponseEntity<List<RestaurantResponseDto>> listByOwner(
+            @Parameter(description = "ID del propietario", required = true) @PathVariable Long ownerId) {
+        return ResponseEntity.ok(restaurantHandler.listRestaurantsByOwner(ownerId));
+    }
+
+    @Operation(summary = "Verificar si un usuario es propietario de un restaurante",
+            description = "Responde true o false. Pensado para que platos y pedidos validen al propietario en cada "
+                    + "operación; se resuelve con la cache en memoria de restaurantes por ID.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "true si el usuario es el propietario del restaurante",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = Boolean.class))),
+            @ApiResponse(responseCode = "404", description = "Restaurante no encontrado",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponse.class),
+                            examples = {
+                                    @io.swagger.v3.oas.annotations.media.ExampleObject(
+                                            name = "Error - Restaurante No Encontrado",
+                                            summary = "El ID no corresponde a un restaurante registrado.",
+                                            value = "{ \"mensaje\": \"Restaurante no encontrado\" }"
+                                    )
+                            }))
+    })
+    @GetMapping("/{id}/owner/{ownerId}")
+    public ResponseEntity<Boolean> isOwner(
+            @Parameter(description = "ID del restaurante", required = true) @PathVariable Long id,
+            @Parameter(description = "ID del usuario a verificar", required = true) @PathVariable Long ownerId) {
+        return ResponseEntity.ok(restaurantHandler.isRestaurantOwner(id, ownerId));
+    }
+
+    private void writeLine(OutputStream outputStream, RestaurantResponseDto restaurant) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(restaurant));
+            outputStream.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
 
+    // Los nombres parecidos van en el cuerpo y, para clientes que solo miran cabeceras, también en X-Similar-Restaurants
+    static ResponseEntity<RestaurantResponseDto> created(RestaurantResponseDto restaurantResponseDto) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.CREATED);
+        List<String> similarNames = restaurantResponseDto == null ? null : restaurantResponseDto.getSimilarNames();
+        if (similarNames != null && !similarNames.isEmpty()) {
+            response.header(SIMILAR_NAMES_HEADER, similarNames.stream()
+                    .map(similarName -> URLEncoder.encode(similarName, StandardCharsets.UTF_8))
+                    .collect(Collectors.joining(",")));
+        }
+        return response.body(restaurantResponseDto);
     }
 }
@@ -0,0 +1,59 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.input.rest;
+
+import com.pragma.plazadecomidas.restaurantservice.application.dto.request.RestaurantRequestDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantResponseDto;
+import com.pragma.plazadecomidas.restaurantservice.application.handler.IRestaurantReactiveHandler;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.exception.ExceptionResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/restaurants/reactive")
+@RequiredArgsConstructor
+@Tag(name = "Gestión de Restaurantes (no bloqueante)", description = "Variante no bloqueante de la creación de restaurantes.")
+public class RestaurantReactiveController {
+
+    private final IRestaurantReactiveHandler restaurantReactiveHandler;
+
+    @Operation(summary = "Registrar un nuevo restaurante sin bloquear el hilo de la petición",
+            description = "Mismo contrato que /api/v1/restaurants/create-restaurant. La consulta del propietario al Auth Service "
+                    + "no ocupa un hilo de Tomcat mientras espera la respuesta.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201",
+                    description = "Restaurante creado con éxito",
+                    headers = @Header(name = RestaurantController.SIMILAR_NAMES_HEADER,
+                            description = "Igual que en /api/v1/restaurants/create-restaurant.",
+                            schema = @Schema(type = "string")),
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = RestaurantResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Solicitud inválida o datos faltantes/incorrectos",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Propietario no encontrado",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Conflicto con el estado actual del recurso o reglas de negocio",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponse.class)))
+    })
+    @PostMapping("/create-restaurant")
+    public Mono<ResponseEntity<RestaurantResponseDto>> save(@Parameter(description = "Datos del restaurante a registrar", required = true)
+                                                            @Valid @RequestBody RestaurantRequestDto restaurantRequestDto) {
+        return restaurantReactiveHandler.saveRestaurant(restaurantRequestDto)
+                .map(RestaurantController::created);
+    }
+}
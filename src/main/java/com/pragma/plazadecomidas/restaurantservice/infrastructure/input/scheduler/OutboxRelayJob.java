@@ -0,0 +1,49 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.input.scheduler;
+
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter.RestaurantOutbox;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Vacía el outbox en lotes. Cada lote es una transacción corta; mientras salgan lotes completos se sigue
+ * con el siguiente, hasta {@code maxBatchesPerRun}, para recuperar un atraso sin esperar al siguiente intervalo.
+ */
+@Slf4j
+public class OutboxRelayJob {
+
+    private final RestaurantOutbox restaurantOutbox;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration retention;
+
+    public OutboxRelayJob(RestaurantOutbox restaurantOutbox, int batchSize, int maxBatchesPerRun, Duration retention) {
+        this.restaurantOutbox = restaurantOutbox;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${spring.restaurant.outbox.relay.interval:PT1S}")
+    public void relay() {
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                if (restaurantOutbox.relay(batchSize) < batchSize) {
+                    return;
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("No se pudo leer el outbox: {}", ex.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${spring.restaurant.outbox.purge-interval:PT1H}")
+    public void purge() {
+        int purged = restaurantOutbox.purgePublishedBefore(Instant.now().minus(retention));
+        if (purged > 0) {
+            log.info("Outbox: {} eventos publicados eliminados", purged);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.input.scheduler;
+
+import com.pragma.plazadecomidas.restaurantservice.domain.model.User;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter.OwnerDirectoryProjector;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter.OwnerSnapshotClient;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Copia completa periódica del directorio de usuarios. Corrige los eventos perdidos o aplicados fuera de orden
+ * y llena el directorio al arrancar. Si la lectura falla, el directorio queda como estaba hasta el siguiente intento.
+ */
+@Slf4j
+public class OwnerDirectoryResyncJob {
+
+    public static final String RESYNC_TIMER = "owner.directory.resync";
+    public static final String LAST_RESYNC_GAUGE = "owner.directory.last.resync";
+
+    private final OwnerSnapshotClient ownerSnapshotClient;
+    private final OwnerDirectoryProjector ownerDirectoryProjector;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong lastResyncEpochSeconds = new AtomicLong();
+
+    public OwnerDirectoryResyncJob(OwnerSnapshotClient ownerSnapshotClient,
+                                   OwnerDirectoryProjector ownerDirectoryProjector,
+                                   Clock clock, MeterRegistry meterRegistry) {
+        this.ownerSnapshotClient = ownerSnapshotClient;
+        this.ownerDirectoryProjector = ownerDirectoryProjector;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder(LAST_RESYNC_GAUGE, lastResyncEpochSeconds, AtomicLong::get)
+                .description("Instante (epoch en segundos) del último resync completo del directorio de propietarios")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${spring.auth.service.directory.resync-initial-delay:PT0S}",
+            fixedDelayString = "${spring.auth.service.directory.resync-interval:PT15M}"
+    )
+    public void resync() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Instant startedAt = clock.instant();
+        String outcome = "success";
+        try {
+            List<User> users = ownerSnapshotClient.fetchAll();
+            int written = ownerDirectoryProjector.resync(users, startedAt);
+            lastResyncEpochSeconds.set(startedAt.getEpochSecond());
+            log.info("Directorio de propietarios sincronizado: {} usuarios leídos, {} filas escritas",
+                    users.size(), written);
+        } catch (RuntimeException ex) {
+            outcome = "error";
+            log.warn("No se pudo sincronizar el directorio de propietarios: {}", ex.getMessage());
+        } finally {
+            sample.stop(Timer.builder(RESYNC_TIMER)
+                    .tag("outcome", outcome)
+                    .description("Duración del resync completo del directorio de propietarios")
+                    .register(meterRegistry));
+        }
+    }
+}
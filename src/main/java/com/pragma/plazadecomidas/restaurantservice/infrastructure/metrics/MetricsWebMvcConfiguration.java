@@ -0,0 +1,27 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.metrics;
+
+import jakarta.validation.Validator;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class MetricsWebMvcConfiguration implements WebMvcConfigurer {
+
+    private final Validator validator;
+    private final RestaurantMetrics restaurantMetrics;
+
+    public MetricsWebMvcConfiguration(Validator validator, RestaurantMetrics restaurantMetrics) {
+        this.validator = validator;
+        this.restaurantMetrics = restaurantMetrics;
+    }
+
+    @Override
+    public org.springframework.validation.Validator getValidator() {
+        SmartValidator delegate = validator instanceof SmartValidator smartValidator
+                ? smartValidator
+                : new SpringValidatorAdapter(validator);
+        return new TimedValidator(delegate, restaurantMetrics.stage(RestaurantMetrics.STAGE_VALIDATION));
+    }
+}
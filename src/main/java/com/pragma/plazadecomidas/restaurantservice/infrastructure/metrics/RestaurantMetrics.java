@@ -0,0 +1,81 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Timers por etapa del registro de restaurantes. Todos publican histograma de percentiles para poder calcular
+ * p95/p99 en Prometheus con {@code histogram_quantile}.
+ */
+@Component
+public class RestaurantMetrics {
+
+    public static final String STAGE_TIMER = "restaurant.stage";
+    public static final String AUTH_CLIENT_TIMER = "auth.client.requests";
+    public static final String IMPORT_TIMER = "restaurant.import";
+    public static final String IMPORT_ROWS = "restaurant.import.rows";
+
+    public static final String TAG_STAGE = "stage";
+    public static final String TAG_OPERATION = "operation";
+    public static final String TAG_OUTCOME = "outcome";
+    public static final String TAG_RESULT = "result";
+
+    public static final String STAGE_PARSE = "parse";
+    public static final String STAGE_VALIDATION = "validation";
+    public static final String STAGE_UNIQUENESS = "uniqueness";
+    public static final String STAGE_INSERT = "insert";
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> stageTimers = new ConcurrentHashMap<>();
+
+    public RestaurantMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public Timer stage(String stage) {
+        return stageTimers.computeIfAbsent(stage, key -> Timer.builder(STAGE_TIMER)
+                .description("Duración de cada etapa del registro de restaurantes")
+                .tag(TAG_STAGE, key)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    public <T> T time(String stage, Supplier<T> operation) {
+        return stage(stage).record(operation);
+    }
+
+    /**
+     * Filas por segundo de la importación CSV: {@code rate(restaurant_import_rows_total[5m])} en Prometheus.
+     */
+    public void recordImport(int created, int rejected, Duration duration) {
+        Timer.builder(IMPORT_TIMER)
+                .description("Duración de cada importación CSV de restaurantes")
+                .register(registry)
+                .record(duration);
+        importRows("created").increment(created);
+        importRows("rejected").increment(rejected);
+    }
+
+    public static Timer authClientTimer(MeterRegistry registry, String operation, String outcome) {
+        return Timer.builder(AUTH_CLIENT_TIMER)
+                .description("Duración de las llamadas al Auth Service por resultado")
+                .tag(TAG_OPERATION, operation)
+                .tag(TAG_OUTCOME, outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private Counter importRows(String result) {
+        return Counter.builder(IMPORT_ROWS)
+                .description("Filas procesadas por la importación CSV de restaurantes")
+                .tag(TAG_RESULT, result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,57 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.metrics;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide la lectura y deserialización de los cuerpos {@code @RequestBody} (etapa {@code parse}): desde que el
+ * convertidor recibe el cuerpo hasta que devuelve el objeto.
+ */
+@ControllerAdvice
+public class TimedRequestBodyAdvice extends RequestBodyAdviceAdapter {
+
+    private static final String START_ATTRIBUTE = TimedRequestBodyAdvice.class.getName() + ".start";
+
+    private final RestaurantMetrics restaurantMetrics;
+
+    public TimedRequestBodyAdvice(RestaurantMetrics restaurantMetrics) {
+        this.restaurantMetrics = restaurantMetrics;
+    }
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public HttpInputMessage beforeBodyRead(HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                           Class<? extends HttpMessageConverter<?>> converterType) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(START_ATTRIBUTE, System.nanoTime(), RequestAttributes.SCOPE_REQUEST);
+        }
+        return inputMessage;
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                Class<? extends HttpMessageConverter<?>> converterType) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null
+                && attributes.getAttribute(START_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Long start) {
+            restaurantMetrics.stage(RestaurantMetrics.STAGE_PARSE)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            attributes.removeAttribute(START_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,41 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * Validador de Spring MVC que delega en Bean Validation y registra la duración de cada validación
+ * ({@code @Valid} en los controladores) en la etapa {@code validation}.
+ */
+public class TimedValidator implements SmartValidator {
+
+    private final SmartValidator delegate;
+    private final Timer timer;
+
+    public TimedValidator(SmartValidator delegate, Timer timer) {
+        this.delegate = delegate;
+        this.timer = timer;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        timer.record(() -> delegate.validate(target, errors));
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        timer.record(() -> delegate.validate(target, errors, validationHints));
+    }
+
+    @Override
+    public void validateValue(Class<?> targetType, String fieldName, Object value, Errors errors,
+                              Object... validationHints) {
+        timer.record(() -> delegate.validateValue(targetType, fieldName, value, errors, validationHints));
+    }
+}
@@ -0,0 +1,10 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.event;
+
+/**
+ * Entrega los eventos del outbox al broker. Debe lanzar una excepción si no puede confirmar la entrega;
+ * el evento queda pendiente y el relay lo reintenta en la siguiente pasada.
+ */
+public interface IRestaurantEventPublisher {
+
+    void publish(OutboxMessage message);
+}
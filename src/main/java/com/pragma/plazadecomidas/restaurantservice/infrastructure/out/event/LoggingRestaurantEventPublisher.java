@@ -0,0 +1,16 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.event;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publicador por defecto mientras no hay un broker configurado: solo deja el evento en el log.
+ */
+@Slf4j
+public class LoggingRestaurantEventPublisher implements IRestaurantEventPublisher {
+
+    @Override
+    public void publish(OutboxMessage message) {
+        log.info("Evento {} #{} de {} {}: {}", message.eventType(), message.id(),
+                message.aggregateType(), message.aggregateId(), message.payload());
+    }
+}
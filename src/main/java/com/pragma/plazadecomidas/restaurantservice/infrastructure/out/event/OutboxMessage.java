@@ -0,0 +1,12 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.event;
+
+import java.time.Instant;
+
+/**
+ * Evento leído del outbox. {@code id} es único: la entrega es al menos una vez, así que el consumidor descarta
+ * duplicados guardando los ids ya procesados. No debe quedarse solo con el mayor id visto: una transacción con un id
+ * menor puede confirmarse, y publicarse, después que otra con uno mayor.
+ */
+public record OutboxMessage(Long id, String aggregateType, Long aggregateId, String eventType, String payload,
+                            Instant createdAt) {
+}
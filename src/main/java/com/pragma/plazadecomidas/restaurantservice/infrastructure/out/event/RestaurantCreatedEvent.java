@@ -0,0 +1,11 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.event;
+
+/**
+ * Contenido del evento {@value #EVENT_TYPE} que reciben los demás servicios de la plazoleta.
+ */
+public record RestaurantCreatedEvent(Long id, String name, String nit, String address, String phoneNumber,
+                                     String urlLogo, Long ownerId) {
+
+    public static final String AGGREGATE_TYPE = "restaurant";
+    public static final String EVENT_TYPE = "RestaurantCreated";
+}
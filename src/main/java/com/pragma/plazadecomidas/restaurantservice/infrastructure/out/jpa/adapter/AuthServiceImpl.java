@@ -6,47 +6,208 @@ import com.pragma.plazadecomidas.restaurantservice.domain.exception.Personalized
 import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedNotFoundException;
 import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
 import com.pragma.plazadecomidas.restaurantservice.domain.model.User;
-import com.pragma.plazadecomidas.restaurantservice.domain.spi.IAuthService;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.metrics.RestaurantMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.netty.channel.ConnectTimeoutException;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 
-public class AuthServiceImpl implements IAuthService {
+public class AuthServiceImpl implements IOwnerLookupService {
+
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    public static final int DEFAULT_BATCH_CONCURRENCY = 4;
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+    public static final String CONNECTION_POOL_NAME = "auth-service";
+
+    static final String OPERATION_FIND_BY_ID = "findById";
+    static final String OPERATION_FIND_ALL_BY_IDS = "findAllByIds";
+    static final String OUTCOME_2XX = "2xx";
+    static final String OUTCOME_4XX = "4xx";
+    static final String OUTCOME_5XX = "5xx";
+    static final String OUTCOME_TIMEOUT = "timeout";
+    static final String OUTCOME_ERROR = "error";
 
     private final String authServiceUrl;
+    private final String authServiceBatchUrl;
+    private final int batchSize;
+    private final int batchConcurrency;
     private final WebClient webClient;
     private final IUserResponseMapper userResponseMapper;
+    private final MeterRegistry meterRegistry;
+
+    public AuthServiceImpl(
+            WebClient.Builder webClientBuilder,
+            String authServiceHost,
+            String authServiceUrl,
+            IUserResponseMapper userResponseMapper
+    ) {
+        this(webClientBuilder, authServiceHost, authServiceUrl, null,
+                DEFAULT_BATCH_SIZE, DEFAULT_BATCH_CONCURRENCY, userResponseMapper);
+    }
 
     public AuthServiceImpl(
             WebClient.Builder webClientBuilder,
             String authServiceHost,
             String authServiceUrl,
+            String authServiceBatchUrl,
+            int batchSize,
+            int batchConcurrency,
             IUserResponseMapper userResponseMapper
     ) {
+        this(webClientBuilder, authServiceHost, authServiceUrl, authServiceBatchUrl,
+                batchSize, batchConcurrency, userResponseMapper, Metrics.globalRegistry);
+    }
+
+    public AuthServiceImpl(
+            WebClient.Builder webClientBuilder,
+            String authServiceHost,
+            String authServiceUrl,
+            String authServiceBatchUrl,
+            int batchSize,
+            int batchConcurrency,
+            IUserResponseMapper userResponseMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this(webClientBuilder, authServiceHost, authServiceUrl, authServiceBatchUrl, batchSize, batchConcurrency,
+                userResponseMapper, meterRegistry,
+                withTimeouts(HttpClient.create(), DEFAULT_TIMEOUT, DEFAULT_TIMEOUT, DEFAULT_TIMEOUT));
+    }
+
+    public AuthServiceImpl(
+            WebClient.Builder webClientBuilder,
+            String authServiceHost,
+            String authServiceUrl,
+            String authServiceBatchUrl,
+            int batchSize,
+            int batchConcurrency,
+            IUserResponseMapper userResponseMapper,
+            MeterRegistry meterRegistry,
+            HttpClient httpClient
+    ) {
+        this.meterRegistry = meterRegistry;
         this.authServiceUrl = authServiceUrl;
+        this.authServiceBatchUrl = authServiceBatchUrl;
+        this.batchSize = batchSize;
+        this.batchConcurrency = batchConcurrency;
         this.userResponseMapper = userResponseMapper;
-        HttpClient httpClient = HttpClient.create()
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000)
-                .doOnConnected(connection -> connection
-                        .addHandlerLast(new ReadTimeoutHandler(5))
-                        .addHandlerLast(new WriteTimeoutHandler(5)));
         this.webClient = webClientBuilder
                 .baseUrl(authServiceHost)
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .build();
     }
 
+    /**
+     * Cliente HTTP sobre un pool propio, para que las conexiones al Auth Service no compitan con otros clientes
+     * del pool global de Reactor Netty y sus métricas se puedan distinguir por nombre.
+     */
+    public static HttpClient httpClient(ConnectionProvider connectionProvider, Duration connectTimeout,
+                                        Duration readTimeout, Duration writeTimeout) {
+        return withTimeouts(HttpClient.create(connectionProvider), connectTimeout, readTimeout, writeTimeout);
+    }
+
+    private static HttpClient withTimeouts(HttpClient httpClient, Duration connectTimeout,
+                                           Duration readTimeout, Duration writeTimeout) {
+        return httpClient
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(connectTimeout.toMillis()))
+                .doOnConnected(connection -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(writeTimeout.toMillis(), TimeUnit.MILLISECONDS)));
+    }
+
     @Override
     public Optional<User> findById(Long id) {
-        UserResponseDto userResponseDto = webClient.get()
+        UserResponseDto userResponseDto = requestUser(id).block();
+        return Optional.ofNullable(userResponseMapper.toUser(userResponseDto));
+    }
+
+    @Override
+    public Mono<User> findByIdReactive(Long id) {
+        return requestUser(id).mapNotNull(userResponseMapper::toUser);
+    }
+
+    /**
+     * Con {@code batch-url} configurada se hace una petición por cada bloque de {@code batch-size} IDs;
+     * sin ella, una petición por ID distinto. En ambos casos como máximo {@code batch-concurrency}
+     * peticiones quedan en vuelo a la vez. Los 4xx de una consulta por ID se interpretan como usuario inexistente;
+     * un 4xx del lote no dice cuál de sus IDs falta, así que ese bloque se vuelve a consultar ID por ID.
+     */
+    @Override
+    public Map<Long, User> findAllByIds(Collection<Long> ids) {
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Flux<Map.Entry<Long, User>> users = hasBatchEndpoint()
+                ? Flux.fromIterable(distinctIds)
+                        .buffer(batchSize)
+                        .flatMap(this::requestUsers, batchConcurrency)
+                : Flux.fromIterable(distinctIds)
+                        .flatMap(this::requestOwner, batchConcurrency);
+
+        return users
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .block();
+    }
+
+    // Se indexa por el ID pedido y no por el que trae la respuesta, que puede venir vacío
+    private Mono<Map.Entry<Long, User>> requestOwner(Long id) {
+        return requestUser(id)
+                .mapNotNull(userResponseMapper::toUser)
+                .map(user -> Map.entry(id, user))
+                .onErrorResume(PersonalizedNotFoundException.class, ex -> Mono.empty());
+    }
+
+    private boolean hasBatchEndpoint() {
+        return authServiceBatchUrl != null && !authServiceBatchUrl.isBlank();
+    }
+
+    private Flux<Map.Entry<Long, User>> requestUsers(List<Long> ids) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(authServiceBatchUrl)
+                        .queryParam("userIds", ids.toArray())
+                        .build()
+                )
+                .retrieve()
+                .onStatus(
+                        HttpStatusCode::is4xxClientError,
+                        clientResponse -> Mono.error(new PersonalizedNotFoundException(MessageEnum.ERROR_4XX.getMessage()))
+                )
+                .onStatus(
+                        HttpStatusCode::is5xxServerError,
+                        clientResponse -> Mono.error(new PersonalizedException(MessageEnum.ERROR_5XX.getMessage()))
+                )
+                .bodyToFlux(UserResponseDto.class)
+                .transform(users -> timed(users, OPERATION_FIND_ALL_BY_IDS))
+                .mapNotNull(userResponseMapper::toUser)
+                .filter(user -> user.getId() != null)
+                .map(user -> Map.entry(user.getId(), user))
+                // Uno a uno dentro del bloque: las peticiones en vuelo siguen acotadas por batch-concurrency
+                .onErrorResume(PersonalizedNotFoundException.class,
+                        ex -> Flux.fromIterable(ids).concatMap(this::requestOwner));
+    }
+
+    private Mono<UserResponseDto> requestUser(Long id) {
+        return webClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path(authServiceUrl)
                         .queryParam("userId", id)
@@ -62,8 +223,47 @@ public class AuthServiceImpl implements IAuthService {
                         clientResponse -> Mono.error(new PersonalizedException(MessageEnum.ERROR_5XX.getMessage()))
                 )
                 .bodyToMono(UserResponseDto.class)
-                .block();
-        return Optional.ofNullable(userResponseMapper.toUser(userResponseDto));
+                .transform(user -> timed(user, OPERATION_FIND_BY_ID));
+    }
+
+    private <T> Mono<T> timed(Mono<T> call, String operation) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return call
+                    .doOnSuccess(result -> record(operation, OUTCOME_2XX, start))
+                    .doOnError(ex -> record(operation, outcome(ex), start));
+        });
+    }
+
+    private <T> Flux<T> timed(Flux<T> call, String operation) {
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            return call
+                    .doOnComplete(() -> record(operation, OUTCOME_2XX, start))
+                    .doOnError(ex -> record(operation, outcome(ex), start));
+        });
+    }
+
+    private void record(String operation, String outcome, long start) {
+        RestaurantMetrics.authClientTimer(meterRegistry, operation, outcome)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    static String outcome(Throwable ex) {
+        if (ex instanceof PersonalizedNotFoundException) {
+            return OUTCOME_4XX;
+        }
+        if (ex instanceof PersonalizedException) {
+            return OUTCOME_5XX;
+        }
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof io.netty.handler.timeout.TimeoutException
+                    || cause instanceof ConnectTimeoutException
+                    || cause instanceof TimeoutException) {
+                return OUTCOME_TIMEOUT;
+            }
+        }
+        return OUTCOME_ERROR;
     }
 
 }
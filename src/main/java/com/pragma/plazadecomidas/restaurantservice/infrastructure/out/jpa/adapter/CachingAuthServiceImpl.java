@@ -0,0 +1,185 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedNotFoundException;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.User;
+import com.pragma.plazadecomidas.restaurantservice.domain.spi.IAuthService;
+import com.pragma.plazadecomidas.restaurantservice.domain.spi.IReactiveAuthService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Decorador de {@link IAuthService} que guarda en memoria el resultado de la consulta del propietario.
+ * Las respuestas 4xx ("propietario no encontrado") se guardan como resultado negativo con un TTL propio;
+ * los errores 5xx y de red nunca se guardan. La consulta reactiva lee y escribe las mismas entradas.
+ */
+public class CachingAuthServiceImpl implements IOwnerLookupService, MeterBinder {
+
+    public static final String CACHE_NAME = "owners";
+
+    private final IAuthService delegate;
+    private final IReactiveAuthService reactiveDelegate;
+    private final Cache<Long, OwnerLookup> cache;
+
+    public CachingAuthServiceImpl(IAuthService delegate, long maximumSize, Duration ttl, Duration negativeTtl) {
+        this(delegate, maximumSize, ttl, negativeTtl, Ticker.systemTicker());
+    }
+
+    CachingAuthServiceImpl(IAuthService delegate, long maximumSize, Duration ttl, Duration negativeTtl, Ticker ticker) {
+        this.delegate = delegate;
+        this.reactiveDelegate = ReactiveAuthServices.of(delegate);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new OwnerLookupExpiry(ttl.toNanos(), negativeTtl.toNanos()))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        OwnerLookup lookup = cache.getIfPresent(id);
+        if (lookup == null) {
+            lookup = load(id);
+            cache.put(id, lookup);
+        }
+        return lookup.resolve();
+    }
+
+    @Override
+    public Mono<User> findByIdReactive(Long id) {
+        return Mono.defer(() -> {
+            OwnerLookup cached = cache.getIfPresent(id);
+            Mono<OwnerLookup> lookup = cached != null
+                    ? Mono.just(cached)
+                    : reactiveDelegate.findByIdReactive(id)
+                            .map(OwnerLookup::found)
+                            .defaultIfEmpty(OwnerLookup.empty())
+                            .onErrorResume(PersonalizedNotFoundException.class,
+                                    ex -> Mono.just(OwnerLookup.notFound(ex.getMessage())))
+                            .doOnNext(loaded -> cache.put(id, loaded));
+            return lookup.flatMap(result -> Mono.justOrEmpty(result.resolve()));
+        });
+    }
+
+    /**
+     * Solo los IDs que no están en cache se consultan, en una única llamada por lote al delegado.
+     * Solo se guardan los usuarios encontrados: que un ID falte en el lote no prueba que el Auth Service lo haya
+     * reportado como inexistente, así que los negativos quedan para la consulta por ID.
+     */
+    @Override
+    public Map<Long, User> findAllByIds(Collection<Long> ids) {
+        Map<Long, User> users = new LinkedHashMap<>();
+        List<Long> misses = new ArrayList<>();
+        ids.stream().distinct().forEach(id -> {
+            OwnerLookup lookup = cache.getIfPresent(id);
+            if (lookup == null) {
+                misses.add(id);
+            } else if (!lookup.negative()) {
+                users.put(id, lookup.user().toBuilder().build());
+            }
+        });
+
+        if (!misses.isEmpty()) {
+            Map<Long, User> loaded = delegate.findAllByIds(misses);
+            for (Long id : misses) {
+                User user = loaded.get(id);
+                if (user != null) {
+                    cache.put(id, OwnerLookup.found(user));
+                    users.put(id, user.toBuilder().build());
+                }
+            }
+        }
+        return users;
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+        Gauge.builder("cache.hit.ratio", cache, cached -> cached.stats().hitRate())
+                .tag("cache", CACHE_NAME)
+                .description("Fracción de lecturas servidas desde la cache")
+                .register(registry);
+    }
+
+    Cache<Long, OwnerLookup> cache() {
+        return cache;
+    }
+
+    private OwnerLookup load(Long id) {
+        try {
+            return delegate.findById(id)
+                    .map(OwnerLookup::found)
+                    .orElseGet(OwnerLookup::empty);
+        } catch (PersonalizedNotFoundException ex) {
+            return OwnerLookup.notFound(ex.getMessage());
+        }
+    }
+
+    record OwnerLookup(User user, String notFoundMessage) {
+
+        static OwnerLookup found(User user) {
+            return new OwnerLookup(user, null);
+        }
+
+        static OwnerLookup empty() {
+            return new OwnerLookup(null, null);
+        }
+
+        static OwnerLookup notFound(String message) {
+            return new OwnerLookup(null, message);
+        }
+
+        boolean negative() {
+            return user == null;
+        }
+
+        Optional<User> resolve() {
+            if (notFoundMessage != null) {
+                throw new PersonalizedNotFoundException(notFoundMessage);
+            }
+            return Optional.ofNullable(user).map(cached -> cached.toBuilder().build());
+        }
+    }
+
+    private record OwnerLookupExpiry(long ttlNanos, long negativeTtlNanos) implements Expiry<Long, OwnerLookup> {
+
+        @Override
+        public long expireAfterCreate(Long key, OwnerLookup value, long currentTime) {
+            return value.negative() ? negativeTtlNanos : ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, OwnerLookup value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, OwnerLookup value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
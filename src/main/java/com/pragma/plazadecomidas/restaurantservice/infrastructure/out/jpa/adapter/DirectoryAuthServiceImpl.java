@@ -0,0 +1,44 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter;
+
+import com.pragma.plazadecomidas.restaurantservice.domain.model.User;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.mapper.IOwnerDirectoryEntityMapper;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.repository.IOwnerDirectoryRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Consulta del propietario contra la copia local del directorio de usuarios ({@code owner_directory}),
+ * sin llamar al Auth Service. Un usuario que no está en la copia se trata igual que uno inexistente.
+ */
+@RequiredArgsConstructor
+public class DirectoryAuthServiceImpl implements IOwnerLookupService {
+
+    private final IOwnerDirectoryRepository ownerDirectoryRepository;
+    private final IOwnerDirectoryEntityMapper ownerDirectoryEntityMapper;
+
+    @Override
+    public Optional<User> findById(Long id) {
+        return ownerDirectoryRepository.findById(id).map(ownerDirectoryEntityMapper::toUser);
+    }
+
+    @Override
+    public Map<Long, User> findAllByIds(Collection<Long> ids) {
+        return ownerDirectoryRepository.findAllById(ids.stream().distinct().toList()).stream()
+                .map(ownerDirectoryEntityMapper::toUser)
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
+    // JPA es bloqueante: la lectura se hace en boundedElastic para no ocupar el hilo del event loop
+    @Override
+    public Mono<User> findByIdReactive(Long id) {
+        return Mono.fromCallable(() -> findById(id).orElse(null))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
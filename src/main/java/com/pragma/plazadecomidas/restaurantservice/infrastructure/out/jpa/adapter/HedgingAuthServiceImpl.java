@@ -0,0 +1,152 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter;
+
+import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedException;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.User;
+import com.pragma.plazadecomidas.restaurantservice.domain.spi.IAuthService;
+import com.pragma.plazadecomidas.restaurantservice.domain.spi.IReactiveAuthService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Decorador opcional de la consulta del propietario para recortar la latencia de cola:
+ * <ul>
+ *     <li>Si la primera petición no respondió dentro del percentil configurado de las latencias recientes, se envía
+ *     una segunda (hedge) y se usa la que responda primero.</li>
+ *     <li>Los 5xx y errores de red se reintentan con backoff exponencial y jitter; la consulta es un GET idempotente.
+ *     Los 4xx no se reintentan.</li>
+ * </ul>
+ * Hedges y reintentos consumen un {@link RetryBudget} común; sin fichas la consulta se comporta como sin este
+ * decorador. La consulta por lote ({@link #findAllByIds}) pasa sin cambios.
+ */
+public class HedgingAuthServiceImpl implements IOwnerLookupService {
+
+    public static final String HEDGES_SENT_COUNTER = "auth.client.hedges.sent";
+    public static final String HEDGES_WON_COUNTER = "auth.client.hedges.won";
+    public static final String RETRIES_COUNTER = "auth.client.retries";
+    public static final String BUDGET_GAUGE = "auth.client.retry.budget";
+
+    static final int LATENCY_WINDOW = 512;
+
+    private final IReactiveAuthService reactiveDelegate;
+    private final IAuthService delegate;
+    private final Policy policy;
+    private final RetryBudget retryBudget;
+    private final LatencyPercentileTracker hedgeDelay;
+    private final Counter hedgesSent;
+    private final Counter hedgesWon;
+    private final Counter retries;
+
+    public <T extends IAuthService & IReactiveAuthService> HedgingAuthServiceImpl(T delegate, Policy policy,
+                                                                                  MeterRegistry registry) {
+        this.reactiveDelegate = delegate;
+        this.delegate = delegate;
+        this.policy = policy;
+        this.retryBudget = new RetryBudget(policy.retryBudgetRatio(), policy.retryBudgetMaxTokens());
+        this.hedgeDelay = new LatencyPercentileTracker(LATENCY_WINDOW, policy.hedgePercentile(),
+                policy.initialHedgeDelay(), policy.minHedgeDelay());
+        this.hedgesSent = Counter.builder(HEDGES_SENT_COUNTER)
+                .description("Peticiones de cobertura enviadas al Auth Service")
+                .register(registry);
+        this.hedgesWon = Counter.builder(HEDGES_WON_COUNTER)
+                .description("Peticiones de cobertura que respondieron antes que la original")
+                .register(registry);
+        this.retries = Counter.builder(RETRIES_COUNTER)
+                .description("Reintentos de la consulta del propietario")
+                .register(registry);
+        Gauge.builder(BUDGET_GAUGE, retryBudget, RetryBudget::tokens)
+                .description("Fichas disponibles para reintentos y hedges")
+                .register(registry);
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        return lookup(id).block();
+    }
+
+    @Override
+    public Mono<User> findByIdReactive(Long id) {
+        return lookup(id).flatMap(Mono::justOrEmpty);
+    }
+
+    @Override
+    public Map<Long, User> findAllByIds(Collection<Long> ids) {
+        return delegate.findAllByIds(ids);
+    }
+
+    Duration hedgeDelay() {
+        return hedgeDelay.current();
+    }
+
+    private Mono<Optional<User>> lookup(Long id) {
+        return Mono.defer(() -> {
+            retryBudget.deposit();
+            return hedged(id)
+                    .retryWhen(Retry.backoff(policy.maxRetries(), policy.minBackoff())
+                            .maxBackoff(policy.maxBackoff())
+                            .jitter(0.5)
+                            .filter(ex -> isRetryable(ex) && retryBudget.tryWithdraw())
+                            .doBeforeRetry(signal -> retries.increment())
+                            .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+        });
+    }
+
+    /**
+     * La petición original se comparte ({@code cache}) entre la carrera y el disparador del hedge; si termina antes
+     * del retraso, el hedge no se envía. Si ambas fallan se propaga el error de la original.
+     */
+    private Mono<Optional<User>> hedged(Long id) {
+        return Mono.defer(() -> {
+            Mono<Optional<User>> primary = attempt(id).cache();
+            Mono<Optional<User>> hedge = Mono.firstWithSignal(
+                            Mono.delay(hedgeDelay.current()).thenReturn(true),
+                            primary.thenReturn(false).onErrorReturn(false))
+                    .filter(fire -> fire && retryBudget.tryWithdraw())
+                    .flatMap(fire -> {
+                        hedgesSent.increment();
+                        return attempt(id);
+                    })
+                    .doOnNext(user -> hedgesWon.increment());
+            return Mono.firstWithValue(primary, hedge)
+                    .onErrorResume(ex -> primary);
+        });
+    }
+
+    private Mono<Optional<User>> attempt(Long id) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return reactiveDelegate.findByIdReactive(id)
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .doOnNext(user -> hedgeDelay.record(System.nanoTime() - start));
+        });
+    }
+
+    private static boolean isRetryable(Throwable ex) {
+        return ex instanceof PersonalizedException || ex instanceof WebClientRequestException;
+    }
+
+    /**
+     * @param hedgePercentile percentil (0-100) de las latencias recientes tras el que se envía el hedge
+     * @param retryBudgetRatio fichas que aporta cada consulta; 0.1 permite hasta un 10% de peticiones extra
+     */
+    public record Policy(
+            int maxRetries,
+            Duration minBackoff,
+            Duration maxBackoff,
+            double hedgePercentile,
+            Duration initialHedgeDelay,
+            Duration minHedgeDelay,
+            double retryBudgetRatio,
+            int retryBudgetMaxTokens
+    ) {
+    }
+}
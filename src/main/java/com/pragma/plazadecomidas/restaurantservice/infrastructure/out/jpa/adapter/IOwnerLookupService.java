@@ -0,0 +1,12 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter;
+
+import com.pragma.plazadecomidas.restaurantservice.domain.spi.IAuthService;
+import com.pragma.plazadecomidas.restaurantservice.domain.spi.IReactiveAuthService;
+
+/**
+ * Consulta del propietario en sus dos variantes, bloqueante y reactiva. La implementan el cliente HTTP, el directorio
+ * local y todos los decoradores, así ambos flujos de registro pasan por la misma cadena (cache, single-flight,
+ * circuit breaker).
+ */
+public interface IOwnerLookupService extends IAuthService, IReactiveAuthService {
+}
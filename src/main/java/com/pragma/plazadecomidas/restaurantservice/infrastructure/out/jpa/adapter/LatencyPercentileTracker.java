@@ -0,0 +1,51 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Percentil de las últimas {@code windowSize} latencias exitosas. Se recalcula cada {@code RECOMPUTE_EVERY}
+ * muestras para no ordenar la ventana en cada consulta; mientras no hay suficientes muestras se usa
+ * {@code initialValue}.
+ */
+class LatencyPercentileTracker {
+
+    static final int RECOMPUTE_EVERY = 32;
+
+    private final AtomicLongArray samplesNanos;
+    private final AtomicLong recorded = new AtomicLong();
+    private final double percentile;
+    private final long minNanos;
+    private volatile long currentNanos;
+
+    LatencyPercentileTracker(int windowSize, double percentile, Duration initialValue, Duration minValue) {
+        this.samplesNanos = new AtomicLongArray(windowSize);
+        this.percentile = percentile;
+        this.minNanos = minValue.toNanos();
+        this.currentNanos = Math.max(minNanos, initialValue.toNanos());
+    }
+
+    void record(long latencyNanos) {
+        long count = recorded.incrementAndGet();
+        samplesNanos.set((int) ((count - 1) % samplesNanos.length()), latencyNanos);
+        if (count >= RECOMPUTE_EVERY && count % RECOMPUTE_EVERY == 0) {
+            currentNanos = Math.max(minNanos, compute(Math.min(count, samplesNanos.length())));
+        }
+    }
+
+    Duration current() {
+        return Duration.ofNanos(currentNanos);
+    }
+
+    private long compute(long size) {
+        long[] sorted = new long[(int) size];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = samplesNanos.get(i);
+        }
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+}
@@ -0,0 +1,136 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter;
+
+import com.pragma.plazadecomidas.restaurantservice.domain.model.User;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.input.event.UserChangeEvent;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.entity.OwnerDirectoryEntity;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.repository.IOwnerDirectoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Mantiene {@code owner_directory} al día con los eventos de cambio de usuario y con la copia completa
+ * que hace el resync periódico. Aplicar el mismo evento dos veces no cambia el resultado.
+ */
+@Slf4j
+public class OwnerDirectoryProjector {
+
+    public static final String EVENTS_COUNTER = "owner.directory.events";
+
+    static final int RESYNC_CHUNK_SIZE = 500;
+
+    private final IOwnerDirectoryRepository ownerDirectoryRepository;
+    private final EntityManager entityManager;
+    private final Clock clock;
+    private final double minSnapshotRatio;
+    private final Counter appliedEvents;
+    private final Counter staleEvents;
+
+    public OwnerDirectoryProjector(IOwnerDirectoryRepository ownerDirectoryRepository, EntityManager entityManager,
+                                   Clock clock, double minSnapshotRatio, MeterRegistry meterRegistry) {
+        this.ownerDirectoryRepository = ownerDirectoryRepository;
+        this.entityManager = entityManager;
+        this.clock = clock;
+        this.minSnapshotRatio = minSnapshotRatio;
+        this.appliedEvents = eventsCounter(meterRegistry, "applied");
+        this.staleEvents = eventsCounter(meterRegistry, "stale");
+    }
+
+    /**
+     * Se descarta el evento si la fila ya tiene una versión mayor. Un borrado no deja rastro de su versión:
+     * si después llega una alta más antigua del mismo usuario, el siguiente resync la corrige.
+     */
+    @Transactional
+    public boolean apply(UserChangeEvent event) {
+        Optional<OwnerDirectoryEntity> current = ownerDirectoryRepository.findById(event.userId());
+        if (current.isPresent() && current.get().getSourceVersion() > event.version()) {
+            staleEvents.increment();
+            return false;
+        }
+
+        if (event.type() == UserChangeEvent.Type.DELETED) {
+            current.ifPresent(ownerDirectoryRepository::delete);
+        } else {
+            ownerDirectoryRepository.save(OwnerDirectoryEntity.builder()
+                    .id(event.userId())
+                    .name(event.name())
+                    .lastName(event.lastName())
+                    .roleName(event.roleName())
+                    .sourceVersion(event.version())
+                    .syncedAt(clock.instant())
+                    .build());
+        }
+        appliedEvents.increment();
+        return true;
+    }
+
+    /**
+     * Reemplaza el directorio por {@code users}, leído del Auth Service a partir de {@code startedAt}.
+     * Las filas que un evento escribió después de {@code startedAt} son más recientes que la copia y se respetan;
+     * las que no aparecen en la copia ni recibieron eventos se borran, salvo que la copia venga vacía o con menos de
+     * {@code minSnapshotRatio} veces las filas actuales: eso suele ser una respuesta parcial del Auth Service, y borrar
+     * dejaría sin propietarios al servicio. En ese caso solo se actualizan las filas de la copia.
+     *
+     * @return filas escritas desde la copia
+     */
+    @Transactional
+    public int resync(Collection<User> users, Instant startedAt) {
+        List<User> snapshot = new ArrayList<>(users);
+        long existing = ownerDirectoryRepository.count();
+        int written = 0;
+        for (int from = 0; from < snapshot.size(); from += RESYNC_CHUNK_SIZE) {
+            List<User> chunk = snapshot.subList(from, Math.min(from + RESYNC_CHUNK_SIZE, snapshot.size()));
+            Map<Long, OwnerDirectoryEntity> current = ownerDirectoryRepository
+                    .findAllById(chunk.stream().map(User::getId).toList()).stream()
+                    .collect(Collectors.toMap(OwnerDirectoryEntity::getId, Function.identity()));
+
+            List<OwnerDirectoryEntity> rows = new ArrayList<>(chunk.size());
+            Instant syncedAt = clock.instant();
+            for (User user : chunk) {
+                OwnerDirectoryEntity row = current.get(user.getId());
+                if (row != null && !row.getSyncedAt().isBefore(startedAt)) {
+                    continue;
+                }
+                rows.add(OwnerDirectoryEntity.builder()
+                        .id(user.getId())
+                        .name(user.getName())
+                        .lastName(user.getLastName())
+                        .roleName(user.getRoleName())
+                        .sourceVersion(row == null ? 0 : row.getSourceVersion())
+                        .syncedAt(syncedAt)
+                        .build());
+            }
+            ownerDirectoryRepository.saveAll(rows);
+            written += rows.size();
+            // Cada bloque se escribe y se suelta: el contexto de persistencia no crece con el tamaño de la copia
+            entityManager.flush();
+            entityManager.clear();
+        }
+        if (snapshot.isEmpty() || snapshot.size() < existing * minSnapshotRatio) {
+            log.warn("Resync del directorio sin borrados: la copia trae {} usuarios y el directorio tiene {} filas",
+                    snapshot.size(), existing);
+            return written;
+        }
+        ownerDirectoryRepository.deleteBySyncedAtBefore(startedAt);
+        return written;
+    }
+
+    private static Counter eventsCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(EVENTS_COUNTER)
+                .tag("result", result)
+                .description("Eventos de cambio de usuario recibidos por el directorio de propietarios")
+                .register(meterRegistry);
+    }
+}
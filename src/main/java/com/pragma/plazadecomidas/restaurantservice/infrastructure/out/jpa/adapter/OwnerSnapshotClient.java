@@ -0,0 +1,42 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter;
+
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.UserResponseDto;
+import com.pragma.plazadecomidas.restaurantservice.application.mapper.IUserResponseMapper;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.User;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+import java.util.List;
+
+/**
+ * Lee la lista completa de usuarios del Auth Service para el resync del directorio de propietarios.
+ * Solo la usa el job periódico, nunca una petición de un cliente.
+ */
+public class OwnerSnapshotClient {
+
+    private final WebClient webClient;
+    private final String snapshotUrl;
+    private final IUserResponseMapper userResponseMapper;
+
+    public OwnerSnapshotClient(WebClient.Builder webClientBuilder, String authServiceHost, String snapshotUrl,
+                               IUserResponseMapper userResponseMapper, HttpClient httpClient) {
+        this.webClient = webClientBuilder
+                .baseUrl(authServiceHost)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+        this.snapshotUrl = snapshotUrl;
+        this.userResponseMapper = userResponseMapper;
+    }
+
+    public List<User> fetchAll() {
+        return webClient.get()
+                .uri(snapshotUrl)
+                .retrieve()
+                .bodyToFlux(UserResponseDto.class)
+                .mapNotNull(userResponseMapper::toUser)
+                .filter(user -> user.getId() != null && user.getRoleName() != null)
+                .collectList()
+                .block();
+    }
+}
@@ -0,0 +1,24 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter;
+
+import com.pragma.plazadecomidas.restaurantservice.domain.spi.IAuthService;
+import com.pragma.plazadecomidas.restaurantservice.domain.spi.IReactiveAuthService;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Vista reactiva del delegado de un decorador: si ya es reactivo se usa tal cual; si solo es {@link IAuthService}
+ * se consulta en boundedElastic para no bloquear el hilo del event loop.
+ */
+final class ReactiveAuthServices {
+
+    private ReactiveAuthServices() {
+    }
+
+    static IReactiveAuthService of(IAuthService authService) {
+        if (authService instanceof IReactiveAuthService reactiveAuthService) {
+            return reactiveAuthService;
+        }
+        return id -> Mono.fromCallable(() -> authService.findById(id).orElse(null))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
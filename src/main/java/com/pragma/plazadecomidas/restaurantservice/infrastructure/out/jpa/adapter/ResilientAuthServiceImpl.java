@@ -0,0 +1,123 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter;
+
+import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedException;
+import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedNotFoundException;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.User;
+import com.pragma.plazadecomidas.restaurantservice.domain.spi.IAuthService;
+import com.pragma.plazadecomidas.restaurantservice.domain.spi.IReactiveAuthService;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Decorador de {@link IAuthService} con circuit breaker y bulkhead. Con el circuito abierto, o sin cupo en el
+ * bulkhead, la consulta falla de inmediato con {@code ERROR_5XX} en lugar de esperar el timeout de lectura.
+ * Las respuestas 4xx son un resultado válido del Auth Service y no cuentan como fallo, y un bulkhead lleno tampoco:
+ * la saturación propia no debe abrir el circuito. La consulta reactiva comparte el mismo circuito y el mismo cupo.
+ */
+public class ResilientAuthServiceImpl implements IOwnerLookupService, MeterBinder {
+
+    public static final String INSTANCE_NAME = "auth-service";
+    public static final String TRANSITIONS_COUNTER = "auth.circuitbreaker.transitions";
+
+    private final IAuthService delegate;
+    private final IReactiveAuthService reactiveDelegate;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    public ResilientAuthServiceImpl(IAuthService delegate, CircuitBreakerConfig circuitBreakerConfig,
+                                    BulkheadConfig bulkheadConfig) {
+        this.delegate = delegate;
+        this.reactiveDelegate = ReactiveAuthServices.of(delegate);
+        this.circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.from(circuitBreakerConfig)
+                .ignoreExceptions(PersonalizedNotFoundException.class, BulkheadFullException.class)
+                .build());
+        this.bulkheadRegistry = BulkheadRegistry.of(bulkheadConfig);
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCE_NAME);
+        this.bulkhead = bulkheadRegistry.bulkhead(INSTANCE_NAME);
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        return call(() -> delegate.findById(id));
+    }
+
+    @Override
+    public Map<Long, User> findAllByIds(Collection<Long> ids) {
+        return call(() -> delegate.findAllByIds(ids));
+    }
+
+    /**
+     * El permiso del circuito y el cupo del bulkhead se toman al suscribirse y se liberan al terminar, sin ocupar un
+     * hilo mientras la petición está en vuelo.
+     */
+    @Override
+    public Mono<User> findByIdReactive(Long id) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return Mono.error(new PersonalizedException(MessageEnum.ERROR_5XX.getMessage()));
+            }
+            if (!bulkhead.tryAcquirePermission()) {
+                circuitBreaker.releasePermission();
+                return Mono.error(new PersonalizedException(MessageEnum.ERROR_5XX.getMessage()));
+            }
+            long start = circuitBreaker.getCurrentTimestamp();
+            return reactiveDelegate.findByIdReactive(id)
+                    .doOnSuccess(user -> circuitBreaker.onSuccess(
+                            circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit()))
+                    .doOnError(ex -> circuitBreaker.onError(
+                            circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit(), ex))
+                    .doOnCancel(circuitBreaker::releasePermission)
+                    .doFinally(signal -> bulkhead.onComplete());
+        });
+    }
+
+    public CircuitBreaker.State state() {
+        return circuitBreaker.getState();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(registry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(registry);
+        circuitBreaker.getEventPublisher().onStateTransition(event -> Counter.builder(TRANSITIONS_COUNTER)
+                .description("Cambios de estado del circuit breaker del Auth Service")
+                .tag("name", INSTANCE_NAME)
+                .tag("from", event.getStateTransition().getFromState().name())
+                .tag("to", event.getStateTransition().getToState().name())
+                .register(registry)
+                .increment());
+    }
+
+    CircuitBreaker circuitBreaker() {
+        return circuitBreaker;
+    }
+
+    // El circuit breaker va por fuera: con el circuito abierto la llamada no llega a ocupar cupo del bulkhead
+    private <T> T call(Supplier<T> supplier) {
+        try {
+            return circuitBreaker.executeSupplier(Bulkhead.decorateSupplier(bulkhead, supplier));
+        } catch (CallNotPermittedException | BulkheadFullException ex) {
+            throw new PersonalizedException(MessageEnum.ERROR_5XX.getMessage());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.Restaurant;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Cache en memoria de restaurantes por ID. Las escrituras la actualizan solo después del commit, así un insert
+ * revertido nunca queda visible; el TTL acota lo desactualizada que puede estar frente a cambios de otras instancias.
+ */
+@Component
+public class RestaurantCache implements MeterBinder {
+
+    public static final String CACHE_NAME = "restaurants";
+
+    private final Cache<Long, Restaurant> cache;
+
+    public RestaurantCache(
+            @Value("${spring.restaurant.cache.max-size:10000}") long maximumSize,
+            @Value("${spring.restaurant.cache.ttl:10m}") Duration ttl
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<Restaurant> get(Long id, Function<Long, Optional<Restaurant>> loader) {
+        // Los IDs inexistentes no se guardan: un restaurante recién creado se ve en la siguiente lectura
+        Restaurant restaurant = cache.get(id, key -> loader.apply(key).orElse(null));
+        return Optional.ofNullable(restaurant).map(this::copy);
+    }
+
+    public void putAfterCommit(Collection<Restaurant> restaurants) {
+        AfterCommit.run(() -> restaurants.forEach(restaurant -> cache.put(restaurant.getId(), copy(restaurant))));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+        Gauge.builder("cache.hit.ratio", cache, cached -> cached.stats().hitRate())
+                .tag("cache", CACHE_NAME)
+                .description("Fracción de lecturas servidas desde la cache")
+                .register(registry);
+    }
+
+    private Restaurant copy(Restaurant restaurant) {
+        return restaurant.toBuilder().build();
+    }
+}
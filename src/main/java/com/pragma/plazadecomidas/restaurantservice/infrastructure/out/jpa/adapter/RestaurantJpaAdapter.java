@@ -1,40 +1,189 @@
 package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter;
 
 
+import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedException;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
 import com.pragma.plazadecomidas.restaurantservice.domain.model.Restaurant;
 import com.pragma.plazadecomidas.restaurantservice.domain.spi.IRestaurantPersistencePort;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.metrics.RestaurantMetrics;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.entity.RestaurantEntity;
 import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.mapper.IRestaurantEntityMapper;
 import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.repository.IRestaurantRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Service
 public class RestaurantJpaAdapter implements IRestaurantPersistencePort {
 
+    // Mensaje de MySQL para una clave única duplicada: el valor repetido va entre la primera y la última comilla
+    private static final Pattern DUPLICATE_ENTRY = Pattern.compile("Duplicate entry '(.*)' for key", Pattern.DOTALL);
+
     private final IRestaurantRepository restaurantRepository;
     private final IRestaurantEntityMapper restaurantEntityMapper;
+    private final RestaurantCache restaurantCache;
+    private final RestaurantMetrics restaurantMetrics;
+    private final RestaurantOutbox restaurantOutbox;
+    private final RestaurantNameIndex restaurantNameIndex;
+    private final EntityManager entityManager;
 
+    // Cada escritura abre su propia transacción (o se une a la del llamador): el insert y su evento del outbox
+    // se confirman juntos sin que el caso de uso tenga que mantener una conexión abierta mientras consulta al propietario
     @Override
+    @Transactional
     public Restaurant save(Restaurant restaurant) {
-        return restaurantEntityMapper.toRestaurant(
-                restaurantRepository.save(
-                        restaurantEntityMapper.toRestaurantEntity(restaurant)
-                )
-        );
+        Restaurant savedRestaurant;
+        try {
+            RestaurantEntity restaurantEntity = restaurantEntityMapper.toRestaurantEntity(restaurant);
+            RestaurantEntity savedEntity = restaurantMetrics.time(RestaurantMetrics.STAGE_INSERT,
+                    () -> restaurantRepository.saveAndFlush(restaurantEntity));
+            restaurantOutbox.recordCreated(List.of(savedEntity));
+            savedRestaurant = restaurantEntityMapper.toRestaurant(savedEntity);
+        } catch (DataIntegrityViolationException ex) {
+            throw translateUniqueViolation(ex, restaurant);
+        }
+        restaurantCache.putAfterCommit(List.of(savedRestaurant));
+        restaurantNameIndex.addAfterCommit(List.of(savedRestaurant));
+        return savedRestaurant;
+    }
+
+    @Override
+    @Transactional
+    public List<Restaurant> saveAll(List<Restaurant> restaurants) {
+        List<RestaurantEntity> restaurantEntities = restaurants.stream()
+                .map(restaurantEntityMapper::toRestaurantEntity)
+                .toList();
+        try {
+            List<RestaurantEntity> savedEntities = restaurantMetrics.time(RestaurantMetrics.STAGE_INSERT, () -> {
+                List<RestaurantEntity> entities = restaurantRepository.saveAll(restaurantEntities);
+                restaurantRepository.flush();
+                return entities;
+            });
+            restaurantOutbox.recordCreated(savedEntities);
+            List<Restaurant> savedRestaurants = savedEntities.stream()
+                    .map(restaurantEntityMapper::toRestaurant)
+                    .toList();
+            restaurantCache.putAfterCommit(savedRestaurants);
+            restaurantNameIndex.addAfterCommit(savedRestaurants);
+            return savedRestaurants;
+        } catch (DataIntegrityViolationException ex) {
+            throw new PersonalizedException(MessageEnum.RESTAURANT_BATCH_CONFLICT.getMessage());
+        }
+    }
+
+    @Override
+    public Optional<Restaurant> findById(Long id) {
+        return restaurantCache.get(id, key -> restaurantRepository.findById(key)
+                .map(restaurantEntityMapper::toRestaurant));
+    }
+
+    @Override
+    public Set<String> findExistingNames(Collection<String> names) {
+        return names.isEmpty() ? Set.of() : restaurantMetrics.time(RestaurantMetrics.STAGE_UNIQUENESS,
+                () -> restaurantRepository.findExistingNames(names));
+    }
+
+    @Override
+    public Set<String> findExistingNits(Collection<String> nits) {
+        return nits.isEmpty() ? Set.of() : restaurantMetrics.time(RestaurantMetrics.STAGE_UNIQUENESS,
+                () -> restaurantRepository.findExistingNits(nits));
+    }
+
+    @Override
+    public List<Restaurant> findPageOrderedByName(String afterName, int limit) {
+        return (afterName == null
+                ? restaurantRepository.findAllByOrderByNameAsc(Limit.of(limit))
+                : restaurantRepository.findByNameGreaterThanOrderByNameAsc(afterName, Limit.of(limit)))
+                .stream()
+                .map(restaurantEntityMapper::toRestaurant)
+                .toList();
+    }
+
+    @Override
+    public List<Restaurant> findByOwnerId(Long ownerId) {
+        return restaurantRepository.findByOwnerIdOrderByNameAsc(ownerId).stream()
+                .map(restaurantEntityMapper::toRestaurant)
+                .toList();
+    }
+
+    /**
+     * Cada entidad se separa del contexto de persistencia en cuanto se entrega, así la memoria no crece con el número
+     * de filas recorridas. El cursor vive lo que dure la conexión, así que abre su propia transacción; es de solo
+     * lectura (la de Spring, la de Jakarta no lo permite) para que Hibernate no revise cambios y MySQL no reserve
+     * recursos de escritura durante un recorrido que puede ser largo.
+     */
+    @Override
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
+    public void forEachRestaurant(Consumer<Restaurant> action) {
+        try (Stream<RestaurantEntity> restaurantEntities = restaurantRepository.streamAllByOrderByIdAsc()) {
+            restaurantEntities.forEach(restaurantEntity -> {
+                action.accept(restaurantEntityMapper.toRestaurant(restaurantEntity));
+                entityManager.detach(restaurantEntity);
+            });
+        }
     }
 
+    // Se resuelve en memoria: la búsqueda por texto parcial nunca llega a la BD
     @Override
-    public Optional<Restaurant> findByName(String name) {
-        return restaurantRepository.findByName(name)
-                .map(restaurantEntityMapper::toRestaurant);
+    public List<Restaurant> searchByName(String query, int limit) {
+        return restaurantNameIndex.search(query, limit);
     }
 
     @Override
-    public Optional<Restaurant> findByNit(String nit) {
-        return restaurantRepository.findByNit(nit)
-                .map(restaurantEntityMapper::toRestaurant);
+    public List<String> findSimilarNames(String name, double minSimilarity, int limit) {
+        return restaurantNameIndex.findSimilarNames(name, minSimilarity, limit);
+    }
+
+    private RuntimeException translateUniqueViolation(DataIntegrityViolationException ex, Restaurant restaurant) {
+        String violatedConstraint = violatedConstraint(ex).toLowerCase(Locale.ROOT);
+        if (violatedConstraint.contains(RestaurantEntity.UK_RESTAURANTS_NAME)) {
+            return new PersonalizedException(
+                    String.format(MessageEnum.RESTAURANT_NAME_EXISTS.getMessage(), restaurant.getName()));
+        }
+        if (violatedConstraint.contains(RestaurantEntity.UK_RESTAURANTS_NIT)) {
+            return new PersonalizedException(MessageEnum.RESTAURANT_NIT_EXISTS.getMessage());
+        }
+        return translateByDuplicatedValue(ex, restaurant);
+    }
+
+    // Las bases creadas por ddl-auto antes de nombrar las restricciones conservan claves "UK..." generadas por
+    // Hibernate: en ese caso se decide por el valor repetido que informa el motor
+    private RuntimeException translateByDuplicatedValue(DataIntegrityViolationException ex, Restaurant restaurant) {
+        Matcher duplicateEntry = DUPLICATE_ENTRY.matcher(String.valueOf(ex.getMostSpecificCause().getMessage()));
+        if (!duplicateEntry.find()) {
+            return ex;
+        }
+        String duplicatedValue = duplicateEntry.group(1);
+        if (duplicatedValue.equalsIgnoreCase(restaurant.getName())) {
+            return new PersonalizedException(
+                    String.format(MessageEnum.RESTAURANT_NAME_EXISTS.getMessage(), restaurant.getName()));
+        }
+        if (duplicatedValue.equals(restaurant.getNit())) {
+            return new PersonalizedException(MessageEnum.RESTAURANT_NIT_EXISTS.getMessage());
+        }
+        return ex;
+    }
+
+    private String violatedConstraint(DataIntegrityViolationException ex) {
+        if (ex.getCause() instanceof ConstraintViolationException constraintViolation
+                && constraintViolation.getConstraintName() != null) {
+            return constraintViolation.getConstraintName();
+        }
+        return String.valueOf(ex.getMostSpecificCause().getMessage());
     }
 }
@@ -0,0 +1,283 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter;
+
+import com.pragma.plazadecomidas.restaurantservice.domain.model.Restaurant;
+import com.pragma.plazadecomidas.restaurantservice.domain.util.NameSimilarity;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.projection.RestaurantSummaryView;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.repository.IRestaurantRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Índice en memoria de los nombres de restaurantes para la búsqueda por texto parcial: un mapa ordenado por nombre
+ * plegado (sin tildes ni mayúsculas) y otro por cada palabra del nombre, así una búsqueda por prefijo es un recorrido
+ * de un rango ordenado en lugar de un {@code LIKE '%texto%'} sobre toda la tabla. Un tercer mapa de trigramas a
+ * nombres permite puntuar coincidencias aproximadas sin comparar contra todos los nombres.
+ * <p>
+ * Se carga antes de que el servidor acepte peticiones, se actualiza tras el commit de cada insert de esta instancia
+ * y se reconstruye periódicamente para incorporar los restaurantes creados por otras instancias.
+ */
+@Slf4j
+@Component
+public class RestaurantNameIndex implements MeterBinder, SmartInitializingSingleton {
+
+    public static final String SIZE_GAUGE = "restaurant.search.index.size";
+
+    // Similitud mínima para completar la búsqueda con nombres aproximados ("pizeria" encuentra "Pizzería")
+    static final double SEARCH_MIN_SIMILARITY = 0.5;
+    static final int LOAD_PAGE_SIZE = 1000;
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final IRestaurantRepository restaurantRepository;
+
+    private volatile Entries entries = new Entries();
+    // Inserts confirmados mientras se reconstruye: se aplican también al índice nuevo antes de publicarlo
+    private final Set<IndexedName> addedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    public RestaurantNameIndex(IRestaurantRepository restaurantRepository) {
+        this.restaurantRepository = restaurantRepository;
+    }
+
+    /**
+     * Primero los nombres que empiezan por el texto buscado, en orden alfabético; después los que tienen una palabra
+     * que empieza por la primera palabra buscada y contienen el resto como prefijos de otras palabras; por último,
+     * si faltan resultados, los nombres más parecidos según sus trigramas.
+     */
+    public List<Restaurant> search(String query, int limit) {
+        String foldedQuery = NameSimilarity.fold(query);
+        List<String> queryTokens = tokenize(foldedQuery);
+        if (queryTokens.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        Entries current = entries;
+        Map<String, IndexedName> matches = new LinkedHashMap<>();
+        for (IndexedName indexedName : prefixRange(current.byName, foldedQuery).values()) {
+            if (matches.size() >= limit) {
+                break;
+            }
+            matches.put(indexedName.name(), indexedName);
+        }
+        for (IndexedName indexedName : prefixRange(current.byToken, queryTokens.get(0)).values()) {
+            if (matches.size() >= limit) {
+                break;
+            }
+            if (indexedName.matchesAll(queryTokens)) {
+                matches.putIfAbsent(indexedName.name(), indexedName);
+            }
+        }
+        if (matches.size() < limit) {
+            // Hasta limit aproximados: a lo sumo matches.size() de ellos ya están en la lista
+            for (ScoredName scoredName : current.similarTo(foldedQuery, SEARCH_MIN_SIMILARITY, limit)) {
+                if (matches.size() >= limit) {
+                    break;
+                }
+                matches.putIfAbsent(scoredName.indexedName().name(), scoredName.indexedName());
+            }
+        }
+        return matches.values().stream().map(IndexedName::toRestaurant).toList();
+    }
+
+    /**
+     * Nombres registrados con una similitud de al menos {@code minSimilarity}, del más al menos parecido.
+     * Solo puntúa los nombres que comparten alguno de los trigramas menos frecuentes de {@code name}.
+     */
+    public List<String> findSimilarNames(String name, double minSimilarity, int limit) {
+        return entries.similarTo(NameSimilarity.fold(name), minSimilarity, limit).stream()
+                .map(scoredName -> scoredName.indexedName().name())
+                .toList();
+    }
+
+    public void addAfterCommit(Collection<Restaurant> restaurants) {
+        List<IndexedName> indexedNames = restaurants.stream()
+                .map(restaurant -> IndexedName.of(restaurant.getName(), restaurant.getUrlLogo()))
+                .toList();
+        AfterCommit.run(() -> indexedNames.forEach(this::add));
+    }
+
+    /**
+     * Lee los nombres por páginas con la consulta del listado (resuelta desde {@code idx_restaurants_name_url_logo})
+     * y reemplaza el índice completo de una vez; las búsquedas en curso siguen usando el anterior.
+     */
+    @Scheduled(
+            initialDelayString = "${spring.restaurant.search.refresh-interval:PT10M}",
+            fixedDelayString = "${spring.restaurant.search.refresh-interval:PT10M}"
+    )
+    public synchronized void rebuild() {
+        rebuilding = true;
+        addedDuringRebuild.clear();
+        try {
+            Entries rebuilt = new Entries();
+            List<RestaurantSummaryView> page = restaurantRepository.findAllByOrderByNameAsc(Limit.of(LOAD_PAGE_SIZE));
+            while (!page.isEmpty()) {
+                page.forEach(view -> rebuilt.add(IndexedName.of(view.getName(), view.getUrlLogo())));
+                if (page.size() < LOAD_PAGE_SIZE) {
+                    break;
+                }
+                page = restaurantRepository.findByNameGreaterThanOrderByNameAsc(
+                        page.get(page.size() - 1).getName(), Limit.of(LOAD_PAGE_SIZE));
+            }
+            addedDuringRebuild.forEach(rebuilt::add);
+            entries = rebuilt;
+            addedDuringRebuild.forEach(rebuilt::add);
+            log.debug("Índice de nombres reconstruido con {} restaurantes", rebuilt.byName.size());
+        } finally {
+            rebuilding = false;
+        }
+    }
+
+    public int size() {
+        return entries.byName.size();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(SIZE_GAUGE, this, RestaurantNameIndex::size)
+                .description("Restaurantes en el índice en memoria de la búsqueda por nombre")
+                .register(registry);
+    }
+
+    private static List<String> tokenize(String foldedText) {
+        return foldedText.isEmpty() ? List.of() : List.of(foldedText.split(" "));
+    }
+
+    private static NavigableMap<String, IndexedName> prefixRange(NavigableMap<String, IndexedName> map, String prefix) {
+        return map.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private void add(IndexedName indexedName) {
+        if (rebuilding) {
+            addedDuringRebuild.add(indexedName);
+        }
+        entries.add(indexedName);
+    }
+
+    private static final class Entries {
+
+        // Clave "nombre plegado\0nombre": "Café Niño" y "Cafe Nino" son entradas distintas con el mismo prefijo
+        private final ConcurrentSkipListMap<String, IndexedName> byName = new ConcurrentSkipListMap<>();
+        // Clave "palabra\0nombre": una entrada por cada palabra de cada nombre
+        private final ConcurrentSkipListMap<String, IndexedName> byToken = new ConcurrentSkipListMap<>();
+        private final ConcurrentHashMap<String, Set<IndexedName>> byTrigram = new ConcurrentHashMap<>();
+
+        private void add(IndexedName indexedName) {
+            byName.put(indexedName.foldedName() + KEY_SEPARATOR + indexedName.name(), indexedName);
+            indexedName.tokens().forEach(token ->
+                    byToken.put(token + KEY_SEPARATOR + indexedName.name(), indexedName));
+            indexedName.trigrams().forEach(trigram ->
+                    byTrigram.computeIfAbsent(trigram, key -> ConcurrentHashMap.newKeySet()).add(indexedName));
+        }
+
+        /**
+         * Dice exige {@code compartidos >= minSimilarity * (|q| + |c|) / 2} y {@code |c| >= compartidos}, así que todo
+         * candidato válido comparte al menos {@code minSimilarity * |q| / (2 - minSimilarity)} trigramas de la consulta.
+         * Basta entonces con recorrer los {@code |q| - minShared + 1} trigramas menos frecuentes: un candidato que no
+         * aparece en ninguno de ellos no puede llegar al umbral. Los candidatos cuya longitud ya impide el umbral se
+         * descartan sin contar, y solo se conservan los {@code limit} mejores en un montículo acotado.
+         */
+        private List<ScoredName> similarTo(String foldedText, double minSimilarity, int limit) {
+            Set<String> queryTrigrams = NameSimilarity.trigrams(foldedText);
+            int queryTrigramCount = queryTrigrams.size();
+            if (queryTrigramCount == 0 || limit < 1) {
+                return List.of();
+            }
+
+            int minShared = Math.max(1, (int) Math.ceil(minSimilarity * queryTrigramCount / (2 - minSimilarity) - 1e-9));
+            List<Set<IndexedName>> postings = queryTrigrams.stream()
+                    .map(trigram -> byTrigram.getOrDefault(trigram, Set.of()))
+                    .sorted(Comparator.comparingInt(Set::size))
+                    .limit(Math.max(0, queryTrigramCount - minShared + 1))
+                    .toList();
+
+            PriorityQueue<ScoredName> best = new PriorityQueue<>(BY_RANK.reversed());
+            Set<IndexedName> seen = new HashSet<>();
+            for (Set<IndexedName> posting : postings) {
+                for (IndexedName candidate : posting) {
+                    int candidateTrigramCount = candidate.trigrams().size();
+                    if (!seen.add(candidate) || 2.0 * Math.min(queryTrigramCount, candidateTrigramCount)
+                            < minSimilarity * (queryTrigramCount + candidateTrigramCount)) {
+                        continue;
+                    }
+                    int shared = 0;
+                    for (String trigram : queryTrigrams) {
+                        if (candidate.trigrams().contains(trigram)) {
+                            shared++;
+                        }
+                    }
+                    double score = NameSimilarity.dice(shared, queryTrigramCount, candidateTrigramCount);
+                    if (score >= minSimilarity) {
+                        best.offer(new ScoredName(candidate, score));
+                        if (best.size() > limit) {
+                            best.poll();
+                        }
+                    }
+                }
+            }
+            List<ScoredName> ranked = new ArrayList<>(best);
+            ranked.sort(BY_RANK);
+            return ranked;
+        }
+    }
+
+    private record ScoredName(IndexedName indexedName, double score) {
+    }
+
+    // Más parecido primero; a igual puntuación, orden alfabético del nombre plegado
+    private static final Comparator<ScoredName> BY_RANK = Comparator.comparingDouble(ScoredName::score).reversed()
+            .thenComparing(scoredName -> scoredName.indexedName().foldedName());
+
+    /**
+     * Igualdad solo por nombre: es único en {@code restaurants} y evita recorrer los trigramas al usarlo como clave.
+     */
+    private record IndexedName(String foldedName, List<String> tokens, Set<String> trigrams, String name,
+                               String urlLogo) {
+
+        static IndexedName of(String name, String urlLogo) {
+            String foldedName = NameSimilarity.fold(name);
+            return new IndexedName(foldedName, tokenize(foldedName), NameSimilarity.trigrams(foldedName), name, urlLogo);
+        }
+
+        boolean matchesAll(List<String> queryTokens) {
+            return queryTokens.stream().allMatch(queryToken -> tokens.stream().anyMatch(token -> token.startsWith(queryToken)));
+        }
+
+        Restaurant toRestaurant() {
+            return Restaurant.builder().name(name).urlLogo(urlLogo).build();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof IndexedName indexedName && name.equals(indexedName.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode();
+        }
+    }
+}
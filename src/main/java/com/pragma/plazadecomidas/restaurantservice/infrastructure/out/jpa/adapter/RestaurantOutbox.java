@@ -0,0 +1,179 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.event.IRestaurantEventPublisher;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.event.OutboxMessage;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.event.RestaurantCreatedEvent;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.entity.OutboxEventEntity;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.entity.RestaurantEntity;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.repository.IOutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Limit;
+
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Outbox transaccional de los eventos de restaurantes. {@link #recordCreated} se une a la transacción del insert,
+ * así el evento existe si y solo si el restaurante se guardó; {@link #relay} lo publica después, fuera de la petición.
+ * Un evento que agota {@code maxAttempts} queda aparcado ({@code parkedAt}) para no bloquear a los siguientes.
+ */
+public class RestaurantOutbox implements AutoCloseable {
+
+    public static final String PUBLISHED_COUNTER = "outbox.events.published";
+    public static final String FAILURES_COUNTER = "outbox.publish.failures";
+    public static final String PENDING_GAUGE = "outbox.events.pending";
+    public static final String PARKED_COUNTER = "outbox.events.parked";
+    public static final String PARKED_GAUGE = "outbox.events.parked.current";
+
+    static final int MAX_ERROR_LENGTH = 500;
+
+    private final IOutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final IRestaurantEventPublisher restaurantEventPublisher;
+    private final Counter publishedEvents;
+    private final Counter publishFailures;
+    private final Counter parkedEvents;
+    private final Clock clock;
+    private final int maxAttempts;
+    private final Duration publishTimeout;
+    // Un hilo virtual por publicación: una que quedó colgada tras su timeout no retrasa a las siguientes
+    private final ExecutorService publishExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public RestaurantOutbox(IOutboxEventRepository outboxEventRepository, ObjectMapper objectMapper,
+                            IRestaurantEventPublisher restaurantEventPublisher, MeterRegistry meterRegistry,
+                            Clock clock, int maxAttempts, Duration publishTimeout) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.restaurantEventPublisher = restaurantEventPublisher;
+        this.clock = clock;
+        this.maxAttempts = maxAttempts;
+        this.publishTimeout = publishTimeout;
+        this.publishedEvents = Counter.builder(PUBLISHED_COUNTER)
+                .description("Eventos del outbox entregados al publicador")
+                .register(meterRegistry);
+        this.publishFailures = Counter.builder(FAILURES_COUNTER)
+                .description("Intentos de publicación fallidos; el evento se reintenta en la siguiente pasada")
+                .register(meterRegistry);
+        this.parkedEvents = Counter.builder(PARKED_COUNTER)
+                .description("Eventos aparcados tras agotar los intentos de publicación")
+                .register(meterRegistry);
+        Gauge.builder(PENDING_GAUGE, outboxEventRepository,
+                        IOutboxEventRepository::countByPublishedAtIsNullAndParkedAtIsNull)
+                .description("Eventos del outbox pendientes de publicar")
+                .register(meterRegistry);
+        Gauge.builder(PARKED_GAUGE, outboxEventRepository, IOutboxEventRepository::countByParkedAtIsNotNull)
+                .description("Eventos del outbox aparcados, a la espera de revisión manual")
+                .register(meterRegistry);
+    }
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void recordCreated(List<RestaurantEntity> restaurants) {
+        Instant createdAt = clock.instant();
+        outboxEventRepository.saveAll(restaurants.stream()
+                .map(restaurant -> OutboxEventEntity.builder()
+                        .aggregateType(RestaurantCreatedEvent.AGGREGATE_TYPE)
+                        .aggregateId(restaurant.getId())
+                        .eventType(RestaurantCreatedEvent.EVENT_TYPE)
+                        .payload(toJson(new RestaurantCreatedEvent(restaurant.getId(), restaurant.getName(),
+                                restaurant.getNit(), restaurant.getAddress(), restaurant.getPhoneNumber(),
+                                restaurant.getUrlLogo(), restaurant.getOwnerId())))
+                        .createdAt(createdAt)
+                        .build())
+                .toList());
+    }
+
+    /**
+     * Publica hasta {@code batchSize} eventos pendientes en orden de creación. Al primer fallo se detiene,
+     * para no entregar eventos posteriores antes que el fallido; lo ya publicado queda marcado igualmente.
+     * Si ese fallo era el intento número {@code maxAttempts}, el evento se aparca y la pasada sigue con el resto.
+     * Los eventos del lote quedan bloqueados mientras se publican, así que cada publicación espera como mucho
+     * {@code publishTimeout}; pasado ese tiempo cuenta como fallo y el broker puede recibir el evento otra vez.
+     *
+     * @return eventos publicados en esta pasada
+     */
+    @Transactional
+    public int relay(int batchSize) {
+        List<OutboxEventEntity> batch = outboxEventRepository
+                .findByPublishedAtIsNullAndParkedAtIsNullOrderByIdAsc(Limit.of(batchSize));
+        int published = 0;
+        for (OutboxEventEntity event : batch) {
+            try {
+                publish(toMessage(event));
+            } catch (RuntimeException ex) {
+                event.setAttempts(event.getAttempts() + 1);
+                event.setLastError(truncate(String.valueOf(ex.getMessage())));
+                publishFailures.increment();
+                if (event.getAttempts() < maxAttempts) {
+                    break;
+                }
+                event.setParkedAt(clock.instant());
+                parkedEvents.increment();
+                continue;
+            }
+            event.setPublishedAt(clock.instant());
+            published++;
+        }
+        publishedEvents.increment(published);
+        return published;
+    }
+
+    @Transactional
+    public int purgePublishedBefore(Instant publishedAt) {
+        return outboxEventRepository.deleteByPublishedAtBefore(publishedAt);
+    }
+
+    @Override
+    public void close() {
+        publishExecutor.shutdownNow();
+    }
+
+    private void publish(OutboxMessage message) {
+        Future<?> future = publishExecutor.submit(() -> restaurantEventPublisher.publish(message));
+        try {
+            future.get(publishTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            throw new IllegalStateException("El publicador no respondió en " + publishTimeout);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Publicación interrumpida", ex);
+        }
+    }
+
+    private OutboxMessage toMessage(OutboxEventEntity event) {
+        return new OutboxMessage(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getEventType(), event.getPayload(), event.getCreatedAt());
+    }
+
+    private String toJson(RestaurantCreatedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
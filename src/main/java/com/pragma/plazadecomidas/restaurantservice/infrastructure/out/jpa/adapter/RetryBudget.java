@@ -0,0 +1,42 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Presupuesto global de reintentos: cada consulta original deposita {@code ratio} fichas y cada reintento o
+ * petición de cobertura (hedge) consume una. Con {@code ratio = 0.1} el tráfico extra queda acotado al 10% del
+ * tráfico real, más un máximo acumulable de {@code maxTokens}, así una caída del Auth Service no se amplifica.
+ */
+class RetryBudget {
+
+    private static final long MILLIS_PER_TOKEN = 1000;
+
+    private final long depositMillis;
+    private final long maxMillis;
+    private final AtomicLong balanceMillis;
+
+    RetryBudget(double ratio, int maxTokens) {
+        this.depositMillis = Math.round(ratio * MILLIS_PER_TOKEN);
+        this.maxMillis = maxTokens * MILLIS_PER_TOKEN;
+        this.balanceMillis = new AtomicLong(maxMillis);
+    }
+
+    void deposit() {
+        balanceMillis.accumulateAndGet(depositMillis, (balance, deposit) -> Math.min(maxMillis, balance + deposit));
+    }
+
+    boolean tryWithdraw() {
+        long balance;
+        do {
+            balance = balanceMillis.get();
+            if (balance < MILLIS_PER_TOKEN) {
+                return false;
+            }
+        } while (!balanceMillis.compareAndSet(balance, balance - MILLIS_PER_TOKEN));
+        return true;
+    }
+
+    double tokens() {
+        return balanceMillis.get() / (double) MILLIS_PER_TOKEN;
+    }
+}
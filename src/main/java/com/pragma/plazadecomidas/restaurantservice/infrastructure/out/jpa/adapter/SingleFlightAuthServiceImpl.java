@@ -0,0 +1,109 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter;
+
+import com.pragma.plazadecomidas.restaurantservice.domain.model.User;
+import com.pragma.plazadecomidas.restaurantservice.domain.spi.IAuthService;
+import com.pragma.plazadecomidas.restaurantservice.domain.spi.IReactiveAuthService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decorador de {@link IAuthService} que agrupa las consultas concurrentes del mismo propietario: el primer hilo
+ * hace la llamada y los que llegan mientras está en curso esperan y reciben su resultado o su error. No guarda
+ * nada una vez terminada la llamada, así que es independiente de la cache. Las consultas reactivas y las bloqueantes
+ * comparten las mismas llamadas en curso.
+ */
+public class SingleFlightAuthServiceImpl implements IOwnerLookupService {
+
+    public static final String COALESCED_COUNTER = "auth.client.coalesced";
+    public static final String IN_FLIGHT_GAUGE = "auth.client.in.flight";
+
+    private final IAuthService delegate;
+    private final IReactiveAuthService reactiveDelegate;
+    private final Map<Long, CompletableFuture<Optional<User>>> inFlightCalls = new ConcurrentHashMap<>();
+    private final Counter coalesced;
+
+    public SingleFlightAuthServiceImpl(IAuthService delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.reactiveDelegate = ReactiveAuthServices.of(delegate);
+        this.coalesced = Counter.builder(COALESCED_COUNTER)
+                .description("Consultas del propietario resueltas con una llamada ya en curso")
+                .register(registry);
+        Gauge.builder(IN_FLIGHT_GAUGE, inFlightCalls, Map::size)
+                .description("Propietarios distintos con una consulta en curso")
+                .register(registry);
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        CompletableFuture<Optional<User>> call = new CompletableFuture<>();
+        CompletableFuture<Optional<User>> inFlight = inFlightCalls.putIfAbsent(id, call);
+        if (inFlight != null) {
+            coalesced.increment();
+            return await(inFlight);
+        }
+        try {
+            Optional<User> user = delegate.findById(id);
+            call.complete(user);
+            return user;
+        } catch (RuntimeException | Error ex) {
+            call.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlightCalls.remove(id, call);
+        }
+    }
+
+    // Si la suscripción que hace la llamada se cancela, las que esperaban su resultado fallan en lugar de quedar colgadas
+    @Override
+    public Mono<User> findByIdReactive(Long id) {
+        return Mono.defer(() -> {
+            CompletableFuture<Optional<User>> call = new CompletableFuture<>();
+            CompletableFuture<Optional<User>> inFlight = inFlightCalls.putIfAbsent(id, call);
+            if (inFlight != null) {
+                coalesced.increment();
+                return Mono.fromFuture(inFlight, true)
+                        .flatMap(user -> Mono.justOrEmpty(user.map(shared -> shared.toBuilder().build())));
+            }
+            return reactiveDelegate.findByIdReactive(id)
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .doOnNext(call::complete)
+                    .doOnError(call::completeExceptionally)
+                    .doFinally(signal -> {
+                        inFlightCalls.remove(id, call);
+                        call.completeExceptionally(new CancellationException());
+                    })
+                    .flatMap(Mono::justOrEmpty);
+        });
+    }
+
+    @Override
+    public Map<Long, User> findAllByIds(Collection<Long> ids) {
+        return delegate.findAllByIds(ids);
+    }
+
+    // Cada hilo recibe su propia copia: User es mutable
+    private Optional<User> await(CompletableFuture<Optional<User>> inFlight) {
+        try {
+            return inFlight.join().map(user -> user.toBuilder().build());
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
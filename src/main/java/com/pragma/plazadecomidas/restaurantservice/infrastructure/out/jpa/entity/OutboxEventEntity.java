@@ -0,0 +1,71 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Evento pendiente de publicar, escrito en la misma transacción que el cambio que lo origina.
+ * {@code publishedAt} queda en null hasta que el relay lo entrega al publicador; {@code parkedAt} se llena si agota
+ * los intentos, y desde entonces el relay lo ignora.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        // El relay lee "published_at IS NULL ORDER BY id" y la purga "published_at < :limite"
+        @Index(name = OutboxEventEntity.IDX_OUTBOX_EVENTS_PUBLISHED_AT_ID, columnList = "published_at, id")
+})
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+public class OutboxEventEntity {
+
+    public static final String IDX_OUTBOX_EVENTS_PUBLISHED_AT_ID = "idx_outbox_events_published_at_id";
+
+    // Misma estrategia que restaurants: los eventos de un registro masivo se insertan en lotes JDBC
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "aggregate_type", nullable = false)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "published_at")
+    private Instant publishedAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "parked_at")
+    private Instant parkedAt;
+
+}
@@ -0,0 +1,51 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Copia local de los usuarios del Auth Service (solo lo necesario para validar al propietario).
+ * El ID es el del usuario en el Auth Service, así que la consulta es una lectura por clave primaria.
+ */
+@Entity
+@Table(name = "owner_directory", indexes = {
+        // El resync borra las filas que no tocó: "synced_at < :inicio"
+        @Index(name = OwnerDirectoryEntity.IDX_OWNER_DIRECTORY_SYNCED_AT, columnList = "synced_at")
+})
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+public class OwnerDirectoryEntity {
+
+    public static final String IDX_OWNER_DIRECTORY_SYNCED_AT = "idx_owner_directory_synced_at";
+
+    @Id
+    private Long id;
+
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "last_name")
+    private String lastName;
+
+    @Column(name = "role_name", nullable = false)
+    private String roleName;
+
+    // Versión del usuario según el último evento aplicado; los eventos con una versión menor se descartan
+    @Column(name = "source_version", nullable = false)
+    private long sourceVersion;
+
+    @Column(name = "synced_at", nullable = false)
+    private Instant syncedAt;
+
+}
@@ -5,28 +5,46 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "restaurants")
+@Table(name = "restaurants", uniqueConstraints = {
+        @UniqueConstraint(name = RestaurantEntity.UK_RESTAURANTS_NAME, columnNames = "name"),
+        @UniqueConstraint(name = RestaurantEntity.UK_RESTAURANTS_NIT, columnNames = "nit")
+}, indexes = {
+        // Índice de cobertura del listado: "name > :cursor ORDER BY name LIMIT n" se lee solo del índice
+        @Index(name = RestaurantEntity.IDX_RESTAURANTS_NAME_URL_LOGO, columnList = "name, url_logo"),
+        // Restaurantes de un propietario: "owner_id = :ownerId ORDER BY name" se resuelve sin ordenar en memoria
+        @Index(name = RestaurantEntity.IDX_RESTAURANTS_OWNER_ID_NAME, columnList = "owner_id, name")
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder(toBuilder = true)
 public class RestaurantEntity {
 
+    public static final String UK_RESTAURANTS_NAME = "uk_restaurants_name";
+    public static final String UK_RESTAURANTS_NIT = "uk_restaurants_nit";
+    public static final String IDX_RESTAURANTS_NAME_URL_LOGO = "idx_restaurants_name_url_logo";
+    public static final String IDX_RESTAURANTS_OWNER_ID_NAME = "idx_restaurants_owner_id_name";
+
+    // SEQUENCE con optimizador pooled: Hibernate asigna los IDs en memoria y puede agrupar los INSERT en lotes JDBC
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "restaurants_seq")
+    @SequenceGenerator(name = "restaurants_seq", sequenceName = "restaurants_seq", allocationSize = 50)
     private Long id;
 
-    @Column(name = "nit", nullable = false, unique = true)
+    @Column(name = "nit", nullable = false)
     private String nit;
 
-    @Column(name = "name", nullable = false, unique = true)
+    @Column(name = "name", nullable = false)
     private String name;
 
     @Column(name = "address", nullable = false)
@@ -0,0 +1,13 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.mapper;
+
+import com.pragma.plazadecomidas.restaurantservice.domain.model.User;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.entity.OwnerDirectoryEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface IOwnerDirectoryEntityMapper {
+
+    User toUser(OwnerDirectoryEntity ownerDirectoryEntity);
+
+}
@@ -2,6 +2,7 @@ package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.mappe
 
 import com.pragma.plazadecomidas.restaurantservice.domain.model.Restaurant;
 import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.entity.RestaurantEntity;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.projection.RestaurantSummaryView;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
 
@@ -12,4 +13,6 @@ public interface IRestaurantEntityMapper {
 
     Restaurant toRestaurant(RestaurantEntity restaurantEntity);
 
+    Restaurant toRestaurant(RestaurantSummaryView restaurantSummaryView);
+
 }
@@ -0,0 +1,12 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.projection;
+
+/**
+ * Proyección del listado: solo las columnas de {@code idx_restaurants_name_url_logo}, así la consulta se resuelve
+ * desde el índice sin leer la fila completa.
+ */
+public interface RestaurantSummaryView {
+
+    String getName();
+
+    String getUrlLogo();
+}
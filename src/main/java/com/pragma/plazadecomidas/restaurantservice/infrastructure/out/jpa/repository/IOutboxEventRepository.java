@@ -0,0 +1,35 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.repository;
+
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.entity.OutboxEventEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+
+@Repository
+public interface IOutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    // FOR UPDATE SKIP LOCKED (timeout -2): varias instancias del relay toman lotes distintos sin esperarse
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<OutboxEventEntity> findByPublishedAtIsNullAndParkedAtIsNullOrderByIdAsc(Limit limit);
+
+    long countByPublishedAtIsNullAndParkedAtIsNull();
+
+    long countByParkedAtIsNotNull();
+
+    @Modifying
+    @Query("DELETE FROM OutboxEventEntity o WHERE o.publishedAt < :publishedAt")
+    int deleteByPublishedAtBefore(@Param("publishedAt") Instant publishedAt);
+
+}
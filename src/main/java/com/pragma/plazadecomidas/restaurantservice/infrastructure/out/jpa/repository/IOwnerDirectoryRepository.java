@@ -0,0 +1,20 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.repository;
+
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.entity.OwnerDirectoryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+
+@Repository
+public interface IOwnerDirectoryRepository extends JpaRepository<OwnerDirectoryEntity, Long> {
+
+    @Modifying
+    @Query("DELETE FROM OwnerDirectoryEntity o WHERE o.syncedAt < :syncedAt")
+    int deleteBySyncedAtBefore(@Param("syncedAt") Instant syncedAt);
+
+}
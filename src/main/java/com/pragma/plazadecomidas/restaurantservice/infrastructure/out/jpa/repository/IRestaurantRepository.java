@@ -1,16 +1,48 @@
 package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.repository;
 
 import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.entity.RestaurantEntity;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.projection.RestaurantSummaryView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 
 @Repository
 public interface IRestaurantRepository extends JpaRepository<RestaurantEntity, Long> {
 
-    Optional<RestaurantEntity> findByName(String name);
-    Optional<RestaurantEntity> findByNit(String nit);
+    String EXPORT_FETCH_SIZE = "1000";
+
+    @Query("SELECT r.name FROM RestaurantEntity r WHERE r.name IN :names")
+    Set<String> findExistingNames(@Param("names") Collection<String> names);
+
+    @Query("SELECT r.nit FROM RestaurantEntity r WHERE r.nit IN :nits")
+    Set<String> findExistingNits(@Param("nits") Collection<String> nits);
+
+    // Paginación keyset: el nombre es único, así que basta como cursor y cada página cuesta lo mismo que la primera
+    List<RestaurantSummaryView> findAllByOrderByNameAsc(Limit limit);
+
+    List<RestaurantSummaryView> findByNameGreaterThanOrderByNameAsc(String name, Limit limit);
+
+    // idx_restaurants_owner_id_name localiza y ordena las filas; las demás columnas se leen de la tabla por clave primaria
+    List<RestaurantEntity> findByOwnerIdOrderByNameAsc(Long ownerId);
+
+    // Recorrido completo para la exportación: el driver trae las filas de EXPORT_FETCH_SIZE en EXPORT_FETCH_SIZE
+    // (en MySQL requiere useCursorFetch=true en la URL) y Hibernate no guarda copia para detectar cambios
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<RestaurantEntity> streamAllByOrderByIdAsc();
 
 }
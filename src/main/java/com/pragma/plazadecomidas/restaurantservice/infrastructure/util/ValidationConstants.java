@@ -77,6 +77,7 @@ public class ValidationConstants {
     public static final String JSON_NOMBRE_ROL = "rol";
     public static final String JSON_ID_PROPIETARIO = "id_propietario";
     public static final String JSON_OWNER_NAME = "nombre_propietario";
+    public static final String JSON_SIMILARES = "restaurantes_similares";
 
     // Propiedades específicas del restaurante
     public static final String JSON_NIT = "nit";
@@ -84,6 +85,21 @@ public class ValidationConstants {
     public static final String JSON_URL_LOGO = "url_del_logo";
     public static final String JSON_CELULAR = "Celular";
 
+    // Propiedades del registro masivo
+    public static final String JSON_TOTAL = "total";
+    public static final String JSON_CREADOS = "creados";
+    public static final String JSON_RECHAZADOS = "rechazados";
+    public static final String JSON_RESULTADOS = "resultados";
+    public static final String JSON_INDICE = "indice";
+    public static final String JSON_ESTADO = "estado";
+    public static final String JSON_RESTAURANTE = "restaurante";
+    public static final String JSON_MENSAJE = "mensaje";
+    public static final String JSON_RESTAURANTES = "restaurantes";
+    public static final String JSON_SIGUIENTE_CURSOR = "siguiente_cursor";
+    public static final String CSV_FILA = "fila";
+    public static final String BULK_STATUS_CREATED = "CREADO";
+    public static final String BULK_STATUS_REJECTED = "RECHAZADO";
+
     // --- Descripciones y Ejemplos para Schema (Swagger/OpenAPI) ---
     // Generales
     public static final String SCHEMA_ID_DESCRIPTION = "ID único.";
@@ -123,4 +139,20 @@ public class ValidationConstants {
     public static final String SCHEMA_RESTAURANT_OWNER_NAME = "Sofia Ramirez.";
     public static final String SCHEMA_RESTAURANT_OWNER_ID_DESCRIPTION = "ID del usuario propietario del restaurante (obtenido del Auth Service).";
     public static final String SCHEMA_RESTAURANT_OWNER_ID_EXAMPLE = "1";
+    public static final String SCHEMA_RESTAURANT_SIMILAR_NAMES_DESCRIPTION = "Solo al crear: restaurantes existentes con un nombre parecido (posible duplicado). Se omite si no hay.";
+
+    // Registro masivo de restaurantes
+    public static final String SCHEMA_RESTAURANT_BULK_RESPONSE_DESCRIPTION = "Resultado del registro masivo de restaurantes.";
+    public static final String SCHEMA_RESTAURANT_BULK_ITEM_DESCRIPTION = "Resultado del registro de un restaurante del lote.";
+    public static final String SCHEMA_BULK_TOTAL_DESCRIPTION = "Cantidad de restaurantes recibidos en el lote.";
+    public static final String SCHEMA_BULK_CREATED_DESCRIPTION = "Cantidad de restaurantes registrados.";
+    public static final String SCHEMA_BULK_REJECTED_DESCRIPTION = "Cantidad de restaurantes rechazados.";
+    public static final String SCHEMA_BULK_INDEX_DESCRIPTION = "Posición del restaurante dentro del lote (inicia en 0).";
+    public static final String SCHEMA_BULK_STATUS_DESCRIPTION = "Estado del registro: CREADO o RECHAZADO.";
+    public static final String SCHEMA_BULK_STATUS_EXAMPLE = "CREADO";
+    public static final String SCHEMA_RESTAURANT_SUMMARY_DESCRIPTION = "Datos de un restaurante en el listado de la plazoleta.";
+    public static final String SCHEMA_RESTAURANT_LIST_DESCRIPTION = "Página del listado de restaurantes ordenado alfabéticamente.";
+    public static final String SCHEMA_NEXT_CURSOR_DESCRIPTION = "Cursor para pedir la página siguiente; nulo en la última página.";
+    public static final String SCHEMA_NEXT_CURSOR_EXAMPLE = "TWkgUmVzdGF1cmFudGUgMTIz";
+    public static final String SCHEMA_BULK_MESSAGE_DESCRIPTION = "Motivo del rechazo; vacío si el restaurante fue creado.";
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.pragma.plazadecomidas.restaurantservice;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"management.endpoints.web.exposure.include=health,metrics,prometheus",
+                "management.prometheus.metrics.export.enabled=true"})
+class ActuatorSecurityTests {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("Only the health check should be reachable without authentication")
+    void actuator_Anonymous_OnlyHealthIsPublic() {
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity("/actuator/health", String.class).getStatusCode());
+        assertEquals(HttpStatus.UNAUTHORIZED, restTemplate.getForEntity("/actuator/prometheus", String.class).getStatusCode());
+        assertEquals(HttpStatus.UNAUTHORIZED,
+                restTemplate.getForEntity("/actuator/metrics/cache.size", String.class).getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Metrics and Prometheus should answer the metrics account and reject the service account")
+    void actuator_MetricsAccount_ReadsMetrics() {
+        TestRestTemplate metrics = restTemplate.withBasicAuth("prometheus", "metricas-test");
+        TestRestTemplate service = restTemplate.withBasicAuth("plazoleta-servicios", "servicios-test");
+
+        assertEquals(HttpStatus.OK, metrics.getForEntity("/actuator/prometheus", String.class).getStatusCode());
+        assertEquals(HttpStatus.OK, metrics.getForEntity("/actuator/metrics", String.class).getStatusCode());
+        assertEquals(HttpStatus.FORBIDDEN, service.getForEntity("/actuator/prometheus", String.class).getStatusCode());
+    }
+}
@@ -0,0 +1,145 @@
+package com.pragma.plazadecomidas.restaurantservice;
+
+import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.User;
+import com.pragma.plazadecomidas.restaurantservice.domain.spi.IAuthService;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.input.event.IUserChangeEventBroker;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.input.event.UserChangeEvent;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.input.scheduler.OwnerDirectoryResyncJob;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter.DirectoryAuthServiceImpl;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.repository.IOwnerDirectoryRepository;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.auth.service.mode=directory",
+        "spring.auth.service.directory.resync-initial-delay=PT1H"
+})
+class OwnerDirectoryModeTests {
+
+    private static final MockWebServer authServer = startServer();
+
+    @Autowired
+    private IAuthService authService;
+
+    @Autowired
+    private IUserChangeEventBroker userChangeEventBroker;
+
+    @Autowired
+    private OwnerDirectoryResyncJob ownerDirectoryResyncJob;
+
+    @Autowired
+    private IOwnerDirectoryRepository ownerDirectoryRepository;
+
+    @DynamicPropertySource
+    static void authServiceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.auth.service.host", () -> authServer.url("/").toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        ownerDirectoryRepository.deleteAll();
+    }
+
+    @AfterAll
+    static void stopServer() throws IOException {
+        authServer.shutdown();
+    }
+
+    @Test
+    @DisplayName("With mode=directory owner lookups should read the projection kept current by user-change events")
+    void findById_DirectoryMode_ServedFromEvents() {
+        // GIVEN
+        String propietario = MessageEnum.PROPIETARIO.getMessage();
+        userChangeEventBroker.publish(UserChangeEvent.upserted(1L, "Juan", "Perez", propietario, 2));
+        userChangeEventBroker.publish(UserChangeEvent.upserted(1L, "Juan", "Viejo", "CLIENTE", 1));
+        userChangeEventBroker.publish(UserChangeEvent.upserted(2L, "Ana", "Gomez", propietario, 1));
+        userChangeEventBroker.publish(UserChangeEvent.deleted(2L, 2));
+
+        // WHEN
+        User owner = authService.findById(1L).orElseThrow();
+
+        // THEN
+        assertInstanceOf(DirectoryAuthServiceImpl.class, authService);
+        assertEquals("Perez", owner.getLastName());
+        assertEquals(propietario, owner.getRoleName());
+        assertTrue(authService.findById(2L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("The periodic resync should load the Auth Service snapshot and drop users that are no longer in it")
+    void resync_Snapshot_ReplacesDirectory() throws InterruptedException {
+        // GIVEN
+        userChangeEventBroker.publish(UserChangeEvent.upserted(3L, "Luis", "Diaz", MessageEnum.PROPIETARIO.getMessage(), 1));
+        authServer.enqueue(new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("""
+                        [{"id":1,"nombre":"Juan","apellido":"Perez","rol":"PROPIETARIO"},
+                         {"id":2,"nombre":"Ana","apellido":"Gomez","rol":"CLIENTE"}]
+                        """));
+
+        // WHEN
+        ownerDirectoryResyncJob.resync();
+
+        // THEN
+        assertEquals("/api/v1/users", authServer.takeRequest().getPath());
+        Map<Long, User> users = authService.findAllByIds(List.of(1L, 2L, 3L));
+        assertEquals(List.of(1L, 2L), users.keySet().stream().sorted().toList());
+        assertEquals("CLIENTE", users.get(2L).getRoleName());
+    }
+
+    @Test
+    @DisplayName("An empty or much smaller snapshot should update its users without deleting the rest of the directory")
+    void resync_ImplausibleSnapshot_KeepsDirectory() throws InterruptedException {
+        // GIVEN
+        String propietario = MessageEnum.PROPIETARIO.getMessage();
+        for (long id = 1; id <= 4; id++) {
+            userChangeEventBroker.publish(UserChangeEvent.upserted(id, "Usuario" + id, "Apellido", propietario, 1));
+        }
+        authServer.enqueue(new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("[]"));
+        authServer.enqueue(new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("""
+                        [{"id":1,"nombre":"Juan","apellido":"Perez","rol":"PROPIETARIO"}]
+                        """));
+
+        // WHEN
+        ownerDirectoryResyncJob.resync();
+        ownerDirectoryResyncJob.resync();
+
+        // THEN
+        authServer.takeRequest();
+        authServer.takeRequest();
+        Map<Long, User> users = authService.findAllByIds(List.of(1L, 2L, 3L, 4L));
+        assertEquals(List.of(1L, 2L, 3L, 4L), users.keySet().stream().sorted().toList());
+        assertEquals("Perez", users.get(1L).getLastName());
+    }
+
+    private static MockWebServer startServer() {
+        MockWebServer server = new MockWebServer();
+        try {
+            server.start();
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return server;
+    }
+}
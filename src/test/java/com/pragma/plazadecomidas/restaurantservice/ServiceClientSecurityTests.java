@@ -0,0 +1,42 @@
+package com.pragma.plazadecomidas.restaurantservice;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ServiceClientSecurityTests {
+
+    private static final String SERVICE_USERNAME = "plazoleta-servicios";
+    private static final String SERVICE_PASSWORD = "servicios-test";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("export: Should stream NDJSON to the service account sent with HTTP Basic credentials")
+    void export_ServiceCredentials_Ok() {
+        ResponseEntity<String> response = restTemplate.withBasicAuth(SERVICE_USERNAME, SERVICE_PASSWORD)
+                .getForEntity("/api/v1/restaurants/export", String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(MediaType.APPLICATION_NDJSON.isCompatibleWith(response.getHeaders().getContentType()));
+    }
+
+    @Test
+    @DisplayName("export: Should answer 401 without credentials or with a wrong password")
+    void export_MissingOrWrongCredentials_Unauthorized() {
+        assertEquals(HttpStatus.UNAUTHORIZED,
+                restTemplate.getForEntity("/api/v1/restaurants/export", String.class).getStatusCode());
+        assertEquals(HttpStatus.UNAUTHORIZED, restTemplate.withBasicAuth(SERVICE_USERNAME, "otra")
+                .getForEntity("/api/v1/restaurants/export", String.class).getStatusCode());
+    }
+}
@@ -0,0 +1,62 @@
+package com.pragma.plazadecomidas.restaurantservice;
+
+import com.pragma.plazadecomidas.restaurantservice.application.dto.request.RestaurantRequestDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantResponseDto;
+import com.pragma.plazadecomidas.restaurantservice.application.handler.IRestaurantHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=true"
+)
+class VirtualThreadExecutionModeTests {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @MockBean
+    private IRestaurantHandler restaurantHandler;
+
+    @Test
+    @DisplayName("With spring.threads.virtual.enabled=true Tomcat should handle create requests on virtual threads")
+    void createRestaurant_VirtualThreadsEnabled_RunsOnVirtualThread() {
+        // GIVEN
+        AtomicReference<Thread> handlingThread = new AtomicReference<>();
+        when(restaurantHandler.saveRestaurant(any(RestaurantRequestDto.class))).thenAnswer(invocation -> {
+            handlingThread.set(Thread.currentThread());
+            return RestaurantResponseDto.builder().id(1L).build();
+        });
+        RestaurantRequestDto request = RestaurantRequestDto.builder()
+                .name("Restaurante Virtual")
+                .nit("123456789")
+                .address("Calle 1")
+                .phoneNumber("+573001234567")
+                .urlLogo("http://logo.com/v.png")
+                .ownerId(1L)
+                .build();
+
+        // WHEN
+        ResponseEntity<RestaurantResponseDto> response = restTemplate.postForEntity(
+                "/api/v1/restaurants/create-restaurant", request, RestaurantResponseDto.class);
+
+        // THEN
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertNotNull(handlingThread.get());
+        assertTrue(handlingThread.get().isVirtual());
+    }
+}
@@ -1,6 +1,12 @@
 package com.pragma.plazadecomidas.restaurantservice.application.handler;
 
+import com.pragma.plazadecomidas.restaurantservice.application.dto.request.RestaurantImportRowDto;
 import com.pragma.plazadecomidas.restaurantservice.application.dto.request.RestaurantRequestDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantBulkResponseDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantImportErrorDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantImportResponseDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantListResponseDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantSummaryResponseDto;
 import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantResponseDto;
 import com.pragma.plazadecomidas.restaurantservice.application.handler.impl.RestaurantHandlerImpl;
 import com.pragma.plazadecomidas.restaurantservice.application.mapper.IRestaurantRequestMapper;
@@ -10,6 +16,11 @@ import com.pragma.plazadecomidas.restaurantservice.domain.exception.Personalized
 import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedNotFoundException;
 import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
 import com.pragma.plazadecomidas.restaurantservice.domain.model.Restaurant;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.RestaurantBulkResult;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.RestaurantPage;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.util.ValidationConstants;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,10 +29,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -52,10 +71,10 @@ class RestaurantHandlerImplTest {
         );
 
         restaurantModel = new Restaurant(
-                null, "Mi Restaurante", "123456789", "Calle 123", "3001234567", "http://logo.png", 1L, null
+                null, "Mi Restaurante", "123456789", "Calle 123", "3001234567", "http://logo.png", 1L, null, null
         );
         Restaurant savedRestaurantModel = new Restaurant(
-                1L, "Mi Restaurante", "123456789", "Calle 123", "3001234567", "http://logo.png", 1L, "John Doe" // Simula que el servicio añade el nombre del propietario
+                1L, "Mi Restaurante", "123456789", "Calle 123", "3001234567", "http://logo.png", 1L, "John Doe", null // Simula que el servicio añade el nombre del propietario
         );
 
 
@@ -66,7 +85,8 @@ class RestaurantHandlerImplTest {
                 savedRestaurantModel.getAddress(),
                 savedRestaurantModel.getPhoneNumber(),
                 savedRestaurantModel.getUrlLogo(),
-                savedRestaurantModel.getOwnerName()
+                savedRestaurantModel.getOwnerName(),
+                savedRestaurantModel.getSimilarNames()
         );
     }
 
@@ -83,7 +103,8 @@ class RestaurantHandlerImplTest {
                 "3001234567",
                 "http://logo.png",
                 1L,
-                "Owner Name Example"
+                "Owner Name Example",
+                null
         );
         when(restaurantServicePort.saveRestaurant(restaurantModel)).thenReturn(serviceReturnedModel);
         when(restaurantRequestMapper.toResponseDto(serviceReturnedModel)).thenReturn(restaurantResponseDto);
@@ -159,4 +180,118 @@ class RestaurantHandlerImplTest {
         verify(restaurantServicePort, times(1)).saveRestaurant(restaurantModel);
         verifyNoMoreInteractions(restaurantRequestMapper, restaurantServicePort);
     }
+
+    @Test
+    @DisplayName("saveRestaurants: Should reject invalid items up front and map domain results back to their original position")
+    void saveRestaurants_MixedBatch_ReturnsPerItemResults() {
+        // GIVEN
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        RestaurantHandlerImpl bulkHandler = new RestaurantHandlerImpl(restaurantServicePort, restaurantRequestMapper, validator);
+        RestaurantRequestDto invalidNit = restaurantRequestDto.toBuilder().nit("12A").build();
+        Restaurant conflicting = restaurantModel.toBuilder().name("Otro").build();
+        RestaurantRequestDto conflictingDto = restaurantRequestDto.toBuilder().name("Otro").build();
+        when(restaurantRequestMapper.toRestaurant(restaurantRequestDto)).thenReturn(restaurantModel);
+        when(restaurantRequestMapper.toRestaurant(conflictingDto)).thenReturn(conflicting);
+        when(restaurantServicePort.saveRestaurants(List.of(restaurantModel, conflicting))).thenReturn(List.of(
+                RestaurantBulkResult.created(0, restaurantModel),
+                RestaurantBulkResult.rejected(1, conflicting, MessageEnum.RESTAURANT_NIT_DUPLICATED_IN_BATCH.getMessage())));
+        when(restaurantRequestMapper.toResponseDto(any(Restaurant.class))).thenReturn(restaurantResponseDto);
+
+        // WHEN
+        RestaurantBulkResponseDto result = bulkHandler.saveRestaurants(
+                Arrays.asList(restaurantRequestDto, invalidNit, null, conflictingDto));
+
+        // THEN
+        assertEquals(4, result.getTotal());
+        assertEquals(1, result.getCreated());
+        assertEquals(3, result.getRejected());
+        assertEquals(ValidationConstants.BULK_STATUS_CREATED, result.getResults().get(0).getStatus());
+        assertEquals(ValidationConstants.RESTAURANT_NIT_FORMAT_MESSAGE, result.getResults().get(1).getMessage());
+        assertEquals(MessageEnum.RESTAURANT_REQUEST_NULL.getMessage(), result.getResults().get(2).getMessage());
+        assertEquals(3, result.getResults().get(3).getIndex());
+        assertEquals(MessageEnum.RESTAURANT_NIT_DUPLICATED_IN_BATCH.getMessage(), result.getResults().get(3).getMessage());
+    }
+
+    @Test
+    @DisplayName("importRestaurants: Should save valid rows in fixed-size chunks, reporting invalid rows and only the failed chunk")
+    void importRestaurants_SeveralChunks_CommitsEachChunkSeparately() {
+        // GIVEN
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        RestaurantHandlerImpl importHandler = new RestaurantHandlerImpl(restaurantServicePort, restaurantRequestMapper, validator);
+        int chunkSize = RestaurantHandlerImpl.IMPORT_CHUNK_SIZE;
+        List<RestaurantImportRowDto> rows = new ArrayList<>();
+        for (int row = 2; row < chunkSize + 3; row++) {
+            rows.add(new RestaurantImportRowDto(row, restaurantRequestDto.toBuilder().nit(String.valueOf(row)).build(), null));
+        }
+        rows.add(1, new RestaurantImportRowDto(900, restaurantRequestDto.toBuilder().nit("12A").build(), null));
+        rows.add(2, new RestaurantImportRowDto(901, null, MessageEnum.IMPORT_OWNER_ID_INVALID.getMessage()));
+        when(restaurantRequestMapper.toRestaurant(any(RestaurantRequestDto.class))).thenReturn(restaurantModel);
+        when(restaurantServicePort.saveRestaurants(anyList())).thenAnswer(invocation -> {
+            List<Restaurant> chunk = invocation.getArgument(0);
+            if (chunk.size() < chunkSize) {
+                throw new PersonalizedException(MessageEnum.RESTAURANT_BATCH_CONFLICT.getMessage());
+            }
+            return IntStream.range(0, chunk.size()).mapToObj(index -> RestaurantBulkResult.created(index, chunk.get(index))).toList();
+        });
+        List<RestaurantImportErrorDto> errors = new ArrayList<>();
+
+        // WHEN
+        RestaurantImportResponseDto summary = importHandler.importRestaurants(rows.iterator(), errors::add);
+
+        // THEN
+        assertEquals(chunkSize + 3, summary.getTotal());
+        assertEquals(chunkSize, summary.getCreated());
+        assertEquals(3, summary.getRejected());
+        assertEquals(List.of(900, 901, chunkSize + 2), errors.stream().map(RestaurantImportErrorDto::getRow).toList());
+        assertEquals(ValidationConstants.RESTAURANT_NIT_FORMAT_MESSAGE, errors.get(0).getMessage());
+        assertEquals("12A", errors.get(0).getNit());
+        assertEquals(MessageEnum.RESTAURANT_BATCH_CONFLICT.getMessage(), errors.get(2).getMessage());
+        verify(restaurantServicePort, times(2)).saveRestaurants(anyList());
+    }
+
+    @Test
+    @DisplayName("saveRestaurants: Should throw PersonalizedBadRequestException when the batch is empty or too large")
+    void saveRestaurants_InvalidSize_ThrowsBadRequest() {
+        // GIVEN
+        List<RestaurantRequestDto> tooLarge = new ArrayList<>(
+                Collections.nCopies(RestaurantHandlerImpl.MAX_BULK_SIZE + 1, restaurantRequestDto));
+        String expectedMessage = String.format(MessageEnum.BULK_SIZE_INVALID.getMessage(), RestaurantHandlerImpl.MAX_BULK_SIZE);
+
+        // WHEN & THEN
+        assertEquals(expectedMessage, assertThrows(PersonalizedBadRequestException.class,
+                () -> restaurantHandler.saveRestaurants(List.of())).getMessage());
+        assertEquals(expectedMessage, assertThrows(PersonalizedBadRequestException.class,
+                () -> restaurantHandler.saveRestaurants(tooLarge)).getMessage());
+        verify(restaurantServicePort, times(0)).saveRestaurants(anyList());
+    }
+
+    @Test
+    @DisplayName("listRestaurants: Should hand out an opaque cursor and decode it back to the last listed name")
+    void listRestaurants_CursorRoundTrip() {
+        // GIVEN
+        Restaurant summary = Restaurant.builder().name("Café Ñandú").urlLogo("http://logo.png").build();
+        RestaurantSummaryResponseDto summaryDto = new RestaurantSummaryResponseDto("Café Ñandú", "http://logo.png");
+        when(restaurantServicePort.listRestaurants(null, 1)).thenReturn(new RestaurantPage(List.of(summary), "Café Ñandú"));
+        when(restaurantServicePort.listRestaurants("Café Ñandú", 1)).thenReturn(new RestaurantPage(List.of(), null));
+        when(restaurantRequestMapper.toSummaryResponseDto(summary)).thenReturn(summaryDto);
+
+        // WHEN
+        RestaurantListResponseDto firstPage = restaurantHandler.listRestaurants(null, 1);
+        RestaurantListResponseDto secondPage = restaurantHandler.listRestaurants(firstPage.getNextCursor(), 1);
+
+        // THEN
+        assertEquals(List.of(summaryDto), firstPage.getRestaurants());
+        assertNotNull(firstPage.getNextCursor());
+        assertNull(secondPage.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("listRestaurants: Should throw PersonalizedBadRequestException for a cursor that is not Base64")
+    void listRestaurants_InvalidCursor_ThrowsBadRequest() {
+        // WHEN & THEN
+        PersonalizedBadRequestException exception = assertThrows(PersonalizedBadRequestException.class,
+                () -> restaurantHandler.listRestaurants("no es un cursor!", 10));
+        assertEquals(MessageEnum.PAGE_CURSOR_INVALID.getMessage(), exception.getMessage());
+        verifyNoInteractions(restaurantServicePort);
+    }
 }
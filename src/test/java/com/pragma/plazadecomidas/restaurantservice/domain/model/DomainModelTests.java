@@ -59,7 +59,7 @@ class DomainModelTests {
     @DisplayName("Restaurant: Should create an instance using all-args constructor")
     void restaurant_AllArgsConstructorTest() {
         Restaurant restaurant = new Restaurant(
-                1L, "All Args Restaurant", "456", "Ave", "54321", "url2.com", 2L, "Other Owner"
+                1L, "All Args Restaurant", "456", "Ave", "54321", "url2.com", 2L, "Other Owner", null
         );
 
         assertNotNull(restaurant);
@@ -32,6 +32,7 @@ class RestaurantTest {
                 phoneNumber,
                 urlLogo,
                 ownerId,
+                null,
                 null
         );
     }
@@ -197,6 +198,7 @@ class RestaurantTest {
                 phoneNumber,
                 urlLogo,
                 ownerId,
+                null,
                 null
         );
         assertEquals(restaurant, anotherRestaurant);
@@ -214,6 +216,7 @@ class RestaurantTest {
                 phoneNumber,
                 urlLogo,
                 ownerId,
+                null,
                 null
         );
         assertNotEquals(restaurant, differentRestaurant);
@@ -0,0 +1,147 @@
+package com.pragma.plazadecomidas.restaurantservice.domain.usecase;
+
+import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedException;
+import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedNotFoundException;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.Restaurant;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.User;
+import com.pragma.plazadecomidas.restaurantservice.domain.spi.IReactiveAuthService;
+import com.pragma.plazadecomidas.restaurantservice.domain.spi.IRestaurantPersistencePort;
+import com.pragma.plazadecomidas.restaurantservice.domain.util.ValidationUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RestaurantReactiveUseCaseTest {
+
+    @Mock
+    private ValidationUtils validationUtils;
+
+    @Mock
+    private IReactiveAuthService reactiveAuthService;
+
+    @Mock
+    private IRestaurantPersistencePort restaurantPersistencePort;
+
+    @InjectMocks
+    private RestaurantReactiveUseCase restaurantReactiveUseCase;
+
+    private Restaurant restaurant;
+    private User ownerUser;
+
+    @BeforeEach
+    void setUp() {
+        restaurant = Restaurant.builder()
+                .name("Restaurante Test")
+                .nit("1234567890")
+                .address("Calle Falsa 123")
+                .phoneNumber("3001234567")
+                .urlLogo("http://logo.com/test.png")
+                .ownerId(1L)
+                .build();
+
+        ownerUser = User.builder()
+                .id(1L)
+                .name("Juan")
+                .lastName("Perez")
+                .roleName(MessageEnum.PROPIETARIO.getMessage())
+                .build();
+    }
+
+    @Test
+    @DisplayName("saveRestaurant: Should emit the saved restaurant when the owner is a PROPIETARIO")
+    void saveRestaurant_ValidOwner_EmitsSavedRestaurant() {
+        // GIVEN
+        Restaurant saved = restaurant.toBuilder().id(10L).build();
+        when(reactiveAuthService.findByIdReactive(1L)).thenReturn(Mono.just(ownerUser));
+        when(validationUtils.isValidateRole(ownerUser.getRoleName(), MessageEnum.PROPIETARIO.getMessage())).thenReturn(true);
+        when(restaurantPersistencePort.save(restaurant)).thenReturn(saved);
+
+        // WHEN & THEN
+        StepVerifier.create(restaurantReactiveUseCase.saveRestaurant(restaurant))
+                .expectNext(saved.toBuilder().ownerName("Juan Perez").similarNames(List.of()).build())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("saveRestaurant: Should look up near-duplicate names before the insert and emit them with the saved restaurant")
+    void saveRestaurant_NearDuplicates_EmittedWithSavedRestaurant() {
+        // GIVEN
+        when(reactiveAuthService.findByIdReactive(1L)).thenReturn(Mono.just(ownerUser));
+        when(validationUtils.isValidateRole(ownerUser.getRoleName(), MessageEnum.PROPIETARIO.getMessage())).thenReturn(true);
+        when(restaurantPersistencePort.findSimilarNames(restaurant.getName(),
+                RestaurantUseCase.NEAR_DUPLICATE_SIMILARITY, RestaurantUseCase.MAX_NEAR_DUPLICATES))
+                .thenReturn(List.of("Café Niño"));
+        when(restaurantPersistencePort.save(restaurant)).thenReturn(restaurant.toBuilder().id(10L).build());
+
+        // WHEN & THEN
+        StepVerifier.create(restaurantReactiveUseCase.saveRestaurant(restaurant))
+                .expectNextMatches(saved -> List.of("Café Niño").equals(saved.getSimilarNames()))
+                .verifyComplete();
+        InOrder inOrder = inOrder(restaurantPersistencePort);
+        inOrder.verify(restaurantPersistencePort).findSimilarNames(restaurant.getName(),
+                RestaurantUseCase.NEAR_DUPLICATE_SIMILARITY, RestaurantUseCase.MAX_NEAR_DUPLICATES);
+        inOrder.verify(restaurantPersistencePort).save(restaurant);
+    }
+
+    @Test
+    @DisplayName("saveRestaurant: Should emit PersonalizedNotFoundException when the Auth Service returns no user")
+    void saveRestaurant_OwnerNotFound_EmitsNotFound() {
+        // GIVEN
+        when(reactiveAuthService.findByIdReactive(1L)).thenReturn(Mono.empty());
+
+        // WHEN & THEN
+        StepVerifier.create(restaurantReactiveUseCase.saveRestaurant(restaurant))
+                .expectErrorMatches(error -> error instanceof PersonalizedNotFoundException
+                        && MessageEnum.OWNER_NOT_FOUND.getMessage().equals(error.getMessage()))
+                .verify();
+        verify(restaurantPersistencePort, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("saveRestaurant: Should emit PersonalizedException when the owner is not a PROPIETARIO")
+    void saveRestaurant_OwnerNotProprietario_EmitsConflict() {
+        // GIVEN
+        User client = ownerUser.toBuilder().roleName("CLIENTE").build();
+        when(reactiveAuthService.findByIdReactive(1L)).thenReturn(Mono.just(client));
+        when(validationUtils.isValidateRole("CLIENTE", MessageEnum.PROPIETARIO.getMessage())).thenReturn(false);
+
+        // WHEN & THEN
+        StepVerifier.create(restaurantReactiveUseCase.saveRestaurant(restaurant))
+                .expectErrorMatches(error -> error instanceof PersonalizedException
+                        && MessageEnum.OWNER_NOT_PROPRIETARIO.getMessage().equals(error.getMessage()))
+                .verify();
+        verify(restaurantPersistencePort, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("saveRestaurant: Should propagate the conflict raised while persisting")
+    void saveRestaurant_PersistenceConflict_EmitsConflict() {
+        // GIVEN
+        when(reactiveAuthService.findByIdReactive(1L)).thenReturn(Mono.just(ownerUser));
+        when(validationUtils.isValidateRole(ownerUser.getRoleName(), MessageEnum.PROPIETARIO.getMessage())).thenReturn(true);
+        when(restaurantPersistencePort.save(restaurant))
+                .thenThrow(new PersonalizedException(MessageEnum.RESTAURANT_NIT_EXISTS.getMessage()));
+
+        // WHEN & THEN
+        StepVerifier.create(restaurantReactiveUseCase.saveRestaurant(restaurant))
+                .expectErrorMessage(MessageEnum.RESTAURANT_NIT_EXISTS.getMessage())
+                .verify();
+    }
+}
@@ -0,0 +1,174 @@
+package com.pragma.plazadecomidas.restaurantservice.domain.usecase;
+
+import com.pragma.plazadecomidas.restaurantservice.domain.api.IRestaurantServicePort;
+import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedException;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.Restaurant;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.RestaurantBulkResult;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.User;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter.IOwnerLookupService;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.repository.IRestaurantRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class RestaurantUseCaseConcurrencyTest {
+
+    private static final int CONCURRENT_REQUESTS = 8;
+
+    @Autowired
+    private IRestaurantServicePort restaurantServicePort;
+
+    @Autowired
+    private IRestaurantRepository restaurantRepository;
+
+    @MockBean
+    private IOwnerLookupService authService;
+
+    @BeforeEach
+    void setUp() {
+        User owner = User.builder()
+                .id(1L)
+                .name("Juan")
+                .lastName("Perez")
+                .roleName(MessageEnum.PROPIETARIO.getMessage())
+                .build();
+        when(authService.findById(anyLong())).thenReturn(Optional.of(owner));
+    }
+
+    @AfterEach
+    void tearDown() {
+        restaurantRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("saveRestaurant: Concurrent registrations with the same name should yield one restaurant and name conflicts")
+    void saveRestaurant_ConcurrentDuplicateName_OnlyOneSucceeds() throws Exception {
+        List<Object> outcomes = registerConcurrently(i -> restaurant("Restaurante Carrera", "90000" + i));
+
+        assertOneCreatedAndRestConflict(outcomes,
+                String.format(MessageEnum.RESTAURANT_NAME_EXISTS.getMessage(), "Restaurante Carrera"));
+    }
+
+    @Test
+    @DisplayName("saveRestaurant: Concurrent registrations with the same NIT should yield one restaurant and NIT conflicts")
+    void saveRestaurant_ConcurrentDuplicateNit_OnlyOneSucceeds() throws Exception {
+        List<Object> outcomes = registerConcurrently(i -> restaurant("Restaurante Carrera " + i, "900123456"));
+
+        assertOneCreatedAndRestConflict(outcomes, MessageEnum.RESTAURANT_NIT_EXISTS.getMessage());
+    }
+
+    @Test
+    @DisplayName("saveRestaurant: The owner lookup should run before any transaction is opened")
+    void saveRestaurant_OwnerLookup_RunsOutsideTransaction() {
+        // GIVEN
+        List<Boolean> transactionActiveDuringLookup = new ArrayList<>();
+        when(authService.findById(anyLong())).thenAnswer(invocation -> {
+            transactionActiveDuringLookup.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return Optional.of(User.builder().id(1L).name("Juan").lastName("Perez")
+                    .roleName(MessageEnum.PROPIETARIO.getMessage()).build());
+        });
+
+        // WHEN
+        restaurantServicePort.saveRestaurant(restaurant("Restaurante Sin Transaccion", "900654321"));
+
+        // THEN
+        assertEquals(List.of(false), transactionActiveDuringLookup);
+        assertEquals(1, restaurantRepository.count());
+    }
+
+    @Test
+    @DisplayName("saveRestaurants: Owners should be resolved before any transaction is opened")
+    void saveRestaurants_OwnerResolution_RunsOutsideTransaction() {
+        // GIVEN
+        List<Boolean> transactionActiveDuringLookup = new ArrayList<>();
+        when(authService.findAllByIds(anyCollection())).thenAnswer(invocation -> {
+            transactionActiveDuringLookup.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return Map.of(1L, User.builder().id(1L).name("Juan").lastName("Perez")
+                    .roleName(MessageEnum.PROPIETARIO.getMessage()).build());
+        });
+
+        // WHEN
+        List<RestaurantBulkResult> results = restaurantServicePort.saveRestaurants(List.of(
+                restaurant("Sede Lote Uno", "900111111"), restaurant("Sede Lote Dos", "900222222")));
+
+        // THEN
+        assertEquals(List.of(false), transactionActiveDuringLookup);
+        assertTrue(results.stream().allMatch(RestaurantBulkResult::isCreated));
+        assertEquals(2, restaurantRepository.count());
+    }
+
+    private List<Object> registerConcurrently(IntFunction<Restaurant> restaurantFactory) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Restaurant>> futures = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            Restaurant restaurant = restaurantFactory.apply(i);
+            Callable<Restaurant> registration = () -> {
+                start.await();
+                return restaurantServicePort.saveRestaurant(restaurant);
+            };
+            futures.add(executor.submit(registration));
+        }
+        start.countDown();
+
+        List<Object> outcomes = new ArrayList<>();
+        for (Future<Restaurant> future : futures) {
+            try {
+                outcomes.add(future.get());
+            } catch (ExecutionException ex) {
+                outcomes.add(ex.getCause());
+            }
+        }
+        executor.shutdown();
+        return outcomes;
+    }
+
+    private void assertOneCreatedAndRestConflict(List<Object> outcomes, String expectedMessage) {
+        long created = outcomes.stream().filter(Restaurant.class::isInstance).count();
+        assertEquals(1, created);
+        outcomes.stream()
+                .filter(outcome -> !(outcome instanceof Restaurant))
+                .forEach(outcome -> {
+                    PersonalizedException conflict = assertInstanceOf(PersonalizedException.class, outcome);
+                    assertEquals(expectedMessage, conflict.getMessage());
+                });
+        assertEquals(1, restaurantRepository.count());
+    }
+
+    private Restaurant restaurant(String name, String nit) {
+        return Restaurant.builder()
+                .name(name)
+                .nit(nit)
+                .address("Calle 1")
+                .phoneNumber("+573001234567")
+                .urlLogo("http://logo.com/carrera.png")
+                .ownerId(1L)
+                .build();
+    }
+}
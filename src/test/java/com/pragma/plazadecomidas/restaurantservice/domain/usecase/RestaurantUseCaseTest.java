@@ -5,6 +5,8 @@ import com.pragma.plazadecomidas.restaurantservice.domain.exception.Personalized
 import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedNotFoundException;
 import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
 import com.pragma.plazadecomidas.restaurantservice.domain.model.Restaurant;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.RestaurantBulkResult;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.RestaurantPage;
 import com.pragma.plazadecomidas.restaurantservice.domain.model.User;
 import com.pragma.plazadecomidas.restaurantservice.domain.spi.IAuthService;
 import com.pragma.plazadecomidas.restaurantservice.domain.spi.IRestaurantPersistencePort;
@@ -13,20 +15,31 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -69,8 +82,6 @@ class RestaurantUseCaseTest {
         Mockito.lenient().when(validationUtils.isValidateRole(anyString(), anyString())).thenReturn(true);
 
         Mockito.lenient().when(authService.findById(anyLong())).thenReturn(Optional.of(ownerUser));
-        Mockito.lenient().when(restaurantPersistencePort.findByName(anyString())).thenReturn(Optional.empty());
-        Mockito.lenient().when(restaurantPersistencePort.findByNit(anyString())).thenReturn(Optional.empty());
         Mockito.lenient().when(restaurantPersistencePort.save(any(Restaurant.class))).thenReturn(validRestaurant);
     }
 
@@ -88,8 +99,6 @@ class RestaurantUseCaseTest {
 
         verify(authService).findById(validRestaurant.getOwnerId());
         verify(validationUtils).isValidateRole(ownerUser.getRoleName(), MessageEnum.PROPIETARIO.getMessage());
-        verify(restaurantPersistencePort).findByName(validRestaurant.getName());
-        verify(restaurantPersistencePort).findByNit(validRestaurant.getNit());
         verify(restaurantPersistencePort).save(validRestaurant);
     }
 
@@ -125,28 +134,237 @@ class RestaurantUseCaseTest {
     @DisplayName("saveRestaurant: Should throw PersonalizedException if restaurant with same name already exists")
     void saveRestaurant_RestaurantNameExists_ThrowsPersonalizedException() {
         // GIVEN
-        when(restaurantPersistencePort.findByName(anyString())).thenReturn(Optional.of(validRestaurant));
+        when(restaurantPersistencePort.save(any(Restaurant.class))).thenThrow(new PersonalizedException(
+                String.format(MessageEnum.RESTAURANT_NAME_EXISTS.getMessage(), validRestaurant.getName())));
 
         // WHEN & THEN
         PersonalizedException exception = assertThrows(PersonalizedException.class,
                 () -> restaurantService.saveRestaurant(validRestaurant));
         assertEquals(String.format(MessageEnum.RESTAURANT_NAME_EXISTS.getMessage(), validRestaurant.getName()), exception.getMessage());
-        verify(restaurantPersistencePort, never()).save(any(Restaurant.class));
     }
 
     @Test
     @DisplayName("saveRestaurant: Should throw PersonalizedException if restaurant with same NIT already exists")
     void saveRestaurant_RestaurantNitExists_ThrowsPersonalizedException() {
         // GIVEN
-        when(restaurantPersistencePort.findByNit(anyString())).thenReturn(Optional.of(validRestaurant));
+        when(restaurantPersistencePort.save(any(Restaurant.class)))
+                .thenThrow(new PersonalizedException(MessageEnum.RESTAURANT_NIT_EXISTS.getMessage()));
 
         // WHEN & THEN
         PersonalizedException exception = assertThrows(PersonalizedException.class,
                 () -> restaurantService.saveRestaurant(validRestaurant));
         assertEquals(MessageEnum.RESTAURANT_NIT_EXISTS.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("saveRestaurants: Should look up each distinct owner once and insert the accepted restaurants in one batch")
+    void saveRestaurants_ValidBatch_ResolvesOwnersOnceAndSavesAll() {
+        // GIVEN
+        Restaurant second = validRestaurant.toBuilder().name("Restaurante Dos").nit("222").build();
+        Restaurant otherOwner = validRestaurant.toBuilder().name("Restaurante Tres").nit("333").ownerId(2L).build();
+        List<Restaurant> batch = List.of(validRestaurant, second, otherOwner);
+        User secondOwner = ownerUser.toBuilder().id(2L).build();
+        when(authService.findAllByIds(Set.of(1L, 2L))).thenReturn(Map.of(1L, ownerUser, 2L, secondOwner));
+        when(restaurantPersistencePort.findExistingNames(any())).thenReturn(Set.of());
+        when(restaurantPersistencePort.findExistingNits(any())).thenReturn(Set.of());
+        when(restaurantPersistencePort.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // WHEN
+        List<RestaurantBulkResult> results = restaurantService.saveRestaurants(batch);
+
+        // THEN
+        assertEquals(3, results.size());
+        assertTrue(results.stream().allMatch(RestaurantBulkResult::isCreated));
+        assertEquals("Juan Perez", results.get(2).getRestaurant().getOwnerName());
+        verify(authService, times(1)).findAllByIds(Set.of(1L, 2L));
+        verify(authService, never()).findById(anyLong());
+        verify(restaurantPersistencePort, times(1)).saveAll(batch);
         verify(restaurantPersistencePort, never()).save(any(Restaurant.class));
     }
 
-}
+    @Test
+    @DisplayName("saveRestaurants: Should reject existing names, existing NITs and duplicates inside the batch, keeping the input order")
+    void saveRestaurants_Conflicts_RejectedPerItem() {
+        // GIVEN
+        Restaurant existingName = validRestaurant.toBuilder().name("RESTAURANTE TEST").nit("111").build();
+        Restaurant existingNit = validRestaurant.toBuilder().name("Otro").nit("999").build();
+        Restaurant fresh = validRestaurant.toBuilder().name("Nuevo").nit("222").build();
+        Restaurant repeatedName = validRestaurant.toBuilder().name("nuevo").nit("333").build();
+        Restaurant repeatedNit = validRestaurant.toBuilder().name("Distinto").nit("222").build();
+        when(authService.findAllByIds(Set.of(1L))).thenReturn(Map.of(1L, ownerUser));
+        when(restaurantPersistencePort.findExistingNames(any())).thenReturn(Set.of("Restaurante Test"));
+        when(restaurantPersistencePort.findExistingNits(any())).thenReturn(Set.of("999"));
+        when(restaurantPersistencePort.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // WHEN
+        List<RestaurantBulkResult> results = restaurantService.saveRestaurants(
+                List.of(existingName, existingNit, fresh, repeatedName, repeatedNit));
+
+        // THEN
+        assertEquals(String.format(MessageEnum.RESTAURANT_NAME_EXISTS.getMessage(), "RESTAURANTE TEST"),
+                results.get(0).getErrorMessage());
+        assertEquals(MessageEnum.RESTAURANT_NIT_EXISTS.getMessage(), results.get(1).getErrorMessage());
+        assertTrue(results.get(2).isCreated());
+        assertEquals(String.format(MessageEnum.RESTAURANT_DUPLICATED_IN_BATCH.getMessage(), "nuevo"),
+                results.get(3).getErrorMessage());
+        assertEquals(MessageEnum.RESTAURANT_NIT_DUPLICATED_IN_BATCH.getMessage(), results.get(4).getErrorMessage());
+        verify(restaurantPersistencePort).saveAll(List.of(fresh));
+    }
+
+    @Test
+    @DisplayName("saveRestaurants: Should reject every restaurant of an owner that is not found or is not PROPIETARIO")
+    void saveRestaurants_InvalidOwners_RejectedWithoutSaving() {
+        // GIVEN
+        Restaurant missingOwner = validRestaurant.toBuilder().ownerId(7L).build();
+        Restaurant notOwner = validRestaurant.toBuilder().name("Otro").nit("222").ownerId(8L).build();
+        User client = ownerUser.toBuilder().id(8L).roleName("CLIENTE").build();
+        when(authService.findAllByIds(Set.of(7L, 8L))).thenReturn(Map.of(8L, client));
+        when(validationUtils.isValidateRole("CLIENTE", MessageEnum.PROPIETARIO.getMessage())).thenReturn(false);
+        when(restaurantPersistencePort.findExistingNames(any())).thenReturn(Set.of());
+        when(restaurantPersistencePort.findExistingNits(any())).thenReturn(Set.of());
 
+        // WHEN
+        List<RestaurantBulkResult> results = restaurantService.saveRestaurants(List.of(missingOwner, notOwner));
+
+        // THEN
+        assertFalse(results.get(0).isCreated());
+        assertEquals(MessageEnum.OWNER_NOT_FOUND.getMessage(), results.get(0).getErrorMessage());
+        assertEquals(MessageEnum.OWNER_NOT_PROPRIETARIO.getMessage(), results.get(1).getErrorMessage());
+        verify(restaurantPersistencePort, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("saveRestaurants: Should reject the whole batch with the Auth Service error when the owner lookup fails")
+    void saveRestaurants_AuthServiceDown_RejectsEveryItem() {
+        // GIVEN
+        when(authService.findAllByIds(Set.of(1L)))
+                .thenThrow(new PersonalizedException(MessageEnum.ERROR_5XX.getMessage()));
+        when(restaurantPersistencePort.findExistingNames(any())).thenReturn(Set.of());
+        when(restaurantPersistencePort.findExistingNits(any())).thenReturn(Set.of());
+
+        // WHEN
+        List<RestaurantBulkResult> results = restaurantService.saveRestaurants(List.of(validRestaurant));
+
+        // THEN
+        assertEquals(MessageEnum.ERROR_5XX.getMessage(), results.get(0).getErrorMessage());
+        verify(restaurantPersistencePort, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("listRestaurants: Should fetch one extra row and return the last listed name as the next cursor")
+    void listRestaurants_MoreRowsAvailable_ReturnsNextCursor() {
+        // GIVEN
+        Restaurant alfa = Restaurant.builder().name("Alfa").build();
+        Restaurant bravo = Restaurant.builder().name("Bravo").build();
+        Restaurant charlie = Restaurant.builder().name("Charlie").build();
+        when(restaurantPersistencePort.findPageOrderedByName(null, 3)).thenReturn(List.of(alfa, bravo, charlie));
+        when(restaurantPersistencePort.findPageOrderedByName("Bravo", 3)).thenReturn(List.of(charlie));
+
+        // WHEN
+        RestaurantPage firstPage = restaurantService.listRestaurants(null, 2);
+        RestaurantPage lastPage = restaurantService.listRestaurants(firstPage.getNextCursor(), 2);
+
+        // THEN
+        assertEquals(List.of(alfa, bravo), firstPage.getContent());
+        assertEquals("Bravo", firstPage.getNextCursor());
+        assertEquals(List.of(charlie), lastPage.getContent());
+        assertFalse(lastPage.hasNext());
+    }
 
+    @Test
+    @DisplayName("listRestaurants: Should throw PersonalizedBadRequestException when the page size is out of range")
+    void listRestaurants_InvalidSize_ThrowsBadRequest() {
+        // WHEN & THEN
+        PersonalizedBadRequestException exception = assertThrows(PersonalizedBadRequestException.class,
+                () -> restaurantService.listRestaurants(null, RestaurantUseCase.MAX_PAGE_SIZE + 1));
+        assertEquals(String.format(MessageEnum.PAGE_SIZE_INVALID.getMessage(), RestaurantUseCase.MAX_PAGE_SIZE),
+                exception.getMessage());
+        assertThrows(PersonalizedBadRequestException.class, () -> restaurantService.listRestaurants(null, 0));
+        verify(restaurantPersistencePort, never()).findPageOrderedByName(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("searchRestaurants: Should reject a blank query or an out-of-range limit before searching")
+    void searchRestaurants_InvalidInput_ThrowsBadRequest() {
+        // WHEN & THEN
+        PersonalizedBadRequestException blankQuery = assertThrows(PersonalizedBadRequestException.class,
+                () -> restaurantService.searchRestaurants("  ", 10));
+        PersonalizedBadRequestException tooMany = assertThrows(PersonalizedBadRequestException.class,
+                () -> restaurantService.searchRestaurants("carr", RestaurantUseCase.MAX_SEARCH_RESULTS + 1));
+        assertEquals(MessageEnum.SEARCH_QUERY_REQUIRED.getMessage(), blankQuery.getMessage());
+        assertEquals(String.format(MessageEnum.SEARCH_LIMIT_INVALID.getMessage(), RestaurantUseCase.MAX_SEARCH_RESULTS),
+                tooMany.getMessage());
+        verify(restaurantPersistencePort, never()).searchByName(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("isRestaurantOwner: Should compare the owner of the cached restaurant, and 404 when it does not exist")
+    void isRestaurantOwner_OwnerAndOtherUser() {
+        // GIVEN
+        when(restaurantPersistencePort.findById(1L)).thenReturn(Optional.of(validRestaurant));
+        when(restaurantPersistencePort.findById(2L)).thenReturn(Optional.empty());
+
+        // WHEN & THEN
+        assertTrue(restaurantService.isRestaurantOwner(1L, 1L));
+        assertFalse(restaurantService.isRestaurantOwner(1L, 9L));
+        PersonalizedNotFoundException exception = assertThrows(PersonalizedNotFoundException.class,
+                () -> restaurantService.isRestaurantOwner(2L, 1L));
+        assertEquals(MessageEnum.RESTAURANT_NOT_FOUND.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("saveRestaurant: Should look up near-duplicate names before the insert and return them with the saved restaurant")
+    void saveRestaurant_NearDuplicates_ReturnedWithSavedRestaurant() {
+        // GIVEN
+        when(restaurantPersistencePort.findSimilarNames(validRestaurant.getName(),
+                RestaurantUseCase.NEAR_DUPLICATE_SIMILARITY, RestaurantUseCase.MAX_NEAR_DUPLICATES))
+                .thenReturn(List.of("Restaurante Prueba"));
+
+        // WHEN
+        Restaurant savedRestaurant = restaurantService.saveRestaurant(validRestaurant);
+
+        // THEN
+        assertEquals(List.of("Restaurante Prueba"), savedRestaurant.getSimilarNames());
+        InOrder inOrder = inOrder(restaurantPersistencePort);
+        inOrder.verify(restaurantPersistencePort).findSimilarNames(anyString(), anyDouble(), anyInt());
+        inOrder.verify(restaurantPersistencePort).save(validRestaurant);
+    }
+
+    @Test
+    @DisplayName("saveRestaurants: Should attach near-duplicate names to created restaurants only, skipping blank names")
+    void saveRestaurants_NearDuplicates_AttachedToCreatedItems() {
+        // GIVEN
+        Restaurant blankName = validRestaurant.toBuilder().name(" ").nit("222").build();
+        Restaurant taken = validRestaurant.toBuilder().name("Ocupado").nit("333").build();
+        when(authService.findAllByIds(Set.of(1L))).thenReturn(Map.of(1L, ownerUser));
+        when(restaurantPersistencePort.findExistingNames(any())).thenReturn(Set.of("Ocupado"));
+        when(restaurantPersistencePort.findExistingNits(any())).thenReturn(Set.of());
+        when(restaurantPersistencePort.findSimilarNames(validRestaurant.getName(),
+                RestaurantUseCase.NEAR_DUPLICATE_SIMILARITY, RestaurantUseCase.MAX_NEAR_DUPLICATES))
+                .thenReturn(List.of("Café Niño"));
+        when(restaurantPersistencePort.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // WHEN
+        List<RestaurantBulkResult> results = restaurantService.saveRestaurants(List.of(validRestaurant, blankName, taken));
+
+        // THEN
+        assertEquals(List.of("Café Niño"), results.get(0).getRestaurant().getSimilarNames());
+        assertTrue(results.get(1).getRestaurant().getSimilarNames().isEmpty());
+        assertFalse(results.get(2).isCreated());
+        verify(restaurantPersistencePort, times(1)).findSimilarNames(any(), anyDouble(), anyInt());
+    }
+
+    @Test
+    @DisplayName("findRestaurantById: Should return the restaurant or throw PersonalizedNotFoundException")
+    void findRestaurantById_FoundAndMissing() {
+        // GIVEN
+        when(restaurantPersistencePort.findById(1L)).thenReturn(Optional.of(validRestaurant));
+        when(restaurantPersistencePort.findById(2L)).thenReturn(Optional.empty());
+
+        // WHEN & THEN
+        assertEquals(validRestaurant, restaurantService.findRestaurantById(1L));
+        PersonalizedNotFoundException exception = assertThrows(PersonalizedNotFoundException.class,
+                () -> restaurantService.findRestaurantById(2L));
+        assertEquals(MessageEnum.RESTAURANT_NOT_FOUND.getMessage(), exception.getMessage());
+    }
+}
@@ -0,0 +1,34 @@
+package com.pragma.plazadecomidas.restaurantservice.domain.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NameSimilarityTest {
+
+    @Test
+    @DisplayName("fold: Should remove accents, case and punctuation, keeping single spaces between words")
+    void fold_AccentsCaseAndPunctuation_Folded() {
+        assertEquals("cafe nino", NameSimilarity.fold("  Café   NIÑO! "));
+        assertEquals("la 14 de pollo", NameSimilarity.fold("La 14-de Pollo"));
+        assertEquals("", NameSimilarity.fold(null));
+    }
+
+    @Test
+    @DisplayName("trigrams: Should pad every word so its start and end count as trigrams")
+    void trigrams_Word_PaddedTrigrams() {
+        assertEquals(Set.of(" so", "sol", "ol "), NameSimilarity.trigrams("sol"));
+    }
+
+    @Test
+    @DisplayName("similarity: Should be 1 for names equal once folded and stay high for a small typo")
+    void similarity_FoldedAndMisspelledNames() {
+        assertEquals(1.0, NameSimilarity.similarity("Café Niño", "cafe nino"));
+        assertTrue(NameSimilarity.similarity("Pizería Roma", "Pizzeria Roma") > 0.6);
+        assertTrue(NameSimilarity.similarity("Sushi Bar", "Pizzeria Roma") < 0.1);
+    }
+}
@@ -1,9 +1,16 @@
 package com.pragma.plazadecomidas.restaurantservice.domain.util;
 
+import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -196,4 +203,30 @@ class ValidationUtilsTest {
         assertFalse(validationUtils.isValidOwnerId("   "));
     }
 
+    // --- Equivalencia con los patrones de MessageEnum ---
+    @Test
+    @DisplayName("isValidPhoneStructure y containsOnlyNumbers: Deberían coincidir con PHONE_STRUCTURE y NIT_STRUCTURE")
+    void charScanningValidators_MatchMessageEnumPatterns() {
+        Pattern phonePattern = Pattern.compile(MessageEnum.PHONE_STRUCTURE.getMessage());
+        Pattern nitPattern = Pattern.compile(MessageEnum.NIT_STRUCTURE.getMessage());
+        Random random = new Random(42);
+        String alphabet = "0123456789+ -a\u0661\uff11";
+        List<String> inputs = new ArrayList<>(List.of("", "+", "++3001234567", "3001234567+", "\u0663001234567"));
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder candidate = new StringBuilder();
+            int length = random.nextInt(16);
+            for (int j = 0; j < length; j++) {
+                // Mayoría de dígitos para generar muchos casos en el borde de 10 a 13 caracteres
+                candidate.append(random.nextInt(4) == 0
+                        ? alphabet.charAt(random.nextInt(alphabet.length()))
+                        : (char) ('0' + random.nextInt(10)));
+            }
+            inputs.add(candidate.toString());
+        }
+
+        for (String input : inputs) {
+            assertEquals(phonePattern.matcher(input).matches(), validationUtils.isValidPhoneStructure(input), input);
+            assertEquals(nitPattern.matcher(input).matches(), validationUtils.containsOnlyNumbers(input), input);
+        }
+    }
 }
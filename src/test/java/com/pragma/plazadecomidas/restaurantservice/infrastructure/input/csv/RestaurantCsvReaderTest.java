@@ -0,0 +1,97 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.input.csv;
+
+import com.pragma.plazadecomidas.restaurantservice.application.dto.request.RestaurantImportRowDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.request.RestaurantRequestDto;
+import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedBadRequestException;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RestaurantCsvReaderTest {
+
+    @Test
+    @DisplayName("next: Should map columns by header name, honouring quotes, a BOM, semicolons and blank lines")
+    void next_QuotedFieldsAndSemicolons_ParsedByHeaderName() throws IOException {
+        // GIVEN
+        String csv = "\uFEFFid_propietario;NOMBRE;nit;direccion;Celular;url_del_logo\r\n"
+                + "7;\"La \"\"Esquina\"\"; Centro\";900123;\"Calle 1\nLocal 2\";+573001112233;http://logo.com/e.png\r\n"
+                + "\r\n"
+                + "abc;Sin Dueño;900124;Calle 2;3001112233;http://logo.com/s.png\n"
+                + "8;Incompleta;900125\n";
+
+        // WHEN
+        List<RestaurantImportRowDto> rows = readAll(csv);
+
+        // THEN
+        assertEquals(3, rows.size());
+        RestaurantRequestDto first = rows.get(0).getRestaurant();
+        assertEquals(2, rows.get(0).getRow());
+        assertEquals("La \"Esquina\"; Centro", first.getName());
+        assertEquals("Calle 1\nLocal 2", first.getAddress());
+        assertEquals(7L, first.getOwnerId());
+        assertNull(rows.get(0).getError());
+        assertEquals("Sin Dueño", rows.get(1).getRestaurant().getName());
+        assertEquals(MessageEnum.IMPORT_OWNER_ID_INVALID.getMessage(), rows.get(1).getError());
+        assertEquals(String.format(MessageEnum.IMPORT_ROW_COLUMNS_INVALID.getMessage(), 3, 6), rows.get(2).getError());
+        assertEquals(5, rows.get(2).getRow());
+    }
+
+    @Test
+    @DisplayName("constructor: Should reject a file whose header lacks a required column")
+    void constructor_MissingColumn_ThrowsBadRequest() {
+        // WHEN & THEN
+        PersonalizedBadRequestException exception = assertThrows(PersonalizedBadRequestException.class,
+                () -> new RestaurantCsvReader(new StringReader("nombre,nit,direccion\nUno,1,Calle\n")));
+        assertEquals(String.format(MessageEnum.IMPORT_HEADER_INVALID.getMessage(),
+                String.join(",", RestaurantCsvReader.COLUMNS)), exception.getMessage());
+        assertThrows(PersonalizedBadRequestException.class, () -> new RestaurantCsvReader(new StringReader("")));
+    }
+
+    @Test
+    @DisplayName("next: Should report an unclosed quote or an oversized record as malformed and keep reading the next rows")
+    void next_UnclosedQuoteAndOversizedRecord_ReportedAndResynced() throws IOException {
+        // GIVEN
+        String header = "nombre,nit,direccion,Celular,url_del_logo,id_propietario\n";
+        String unclosed = header
+                + "\"Sin Cierre,900123,Calle 1,3001112233,http://logo.com/a.png,7\n"
+                + "Siguiente,900124,Calle 2,3001112233,http://logo.com/b.png,7\n";
+        String oversized = header
+                + "\"" + "x".repeat(RestaurantCsvReader.MAX_RECORD_LENGTH) + "\",900125,Calle 3,3001112233,http://logo.com/c.png,7\n"
+                + "Despues,900126,Calle 4,3001112233,http://logo.com/d.png,7\n";
+        String malformed = String.format(MessageEnum.IMPORT_ROW_MALFORMED.getMessage(), RestaurantCsvReader.MAX_RECORD_LENGTH);
+
+        // WHEN
+        List<RestaurantImportRowDto> unclosedRows = readAll(unclosed);
+        List<RestaurantImportRowDto> oversizedRows = readAll(oversized);
+
+        // THEN
+        assertEquals(2, unclosedRows.size());
+        assertEquals(malformed, unclosedRows.get(0).getError());
+        assertNull(unclosedRows.get(0).getRestaurant());
+        assertEquals(3, unclosedRows.get(1).getRow());
+        assertEquals("Siguiente", unclosedRows.get(1).getRestaurant().getName());
+        assertNull(unclosedRows.get(1).getError());
+        assertEquals(2, oversizedRows.size());
+        assertEquals(malformed, oversizedRows.get(0).getError());
+        assertEquals("Despues", oversizedRows.get(1).getRestaurant().getName());
+    }
+
+    private static List<RestaurantImportRowDto> readAll(String csv) throws IOException {
+        List<RestaurantImportRowDto> rows = new ArrayList<>();
+        try (RestaurantCsvReader reader = new RestaurantCsvReader(new StringReader(csv))) {
+            reader.forEachRemaining(rows::add);
+            assertFalse(reader.hasNext());
+        }
+        return rows;
+    }
+}
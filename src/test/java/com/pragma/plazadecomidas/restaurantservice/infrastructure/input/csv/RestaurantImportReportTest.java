@@ -0,0 +1,31 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.input.csv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RestaurantImportReportTest {
+
+    @Test
+    @DisplayName("escape: Should neutralise every leading character a spreadsheet reads as a formula")
+    void escape_FormulaPrefixes_Neutralised() {
+        // WHEN & THEN
+        assertEquals("'=1+1", RestaurantImportReport.escape("=1+1"));
+        assertEquals("'+57300", RestaurantImportReport.escape("+57300"));
+        assertEquals("'-2+3", RestaurantImportReport.escape("-2+3"));
+        assertEquals("'@SUM(A1)", RestaurantImportReport.escape("@SUM(A1)"));
+        assertEquals("'\t=1", RestaurantImportReport.escape("\t=1"));
+        assertEquals("\"'\r=1\"", RestaurantImportReport.escape("\r=1"));
+    }
+
+    @Test
+    @DisplayName("escape: Should quote only values with separators, quotes or line breaks")
+    void escape_PlainAndQuotedValues() {
+        // WHEN & THEN
+        assertEquals("", RestaurantImportReport.escape(null));
+        assertEquals("", RestaurantImportReport.escape(""));
+        assertEquals("Cafe Nino", RestaurantImportReport.escape("Cafe Nino"));
+        assertEquals("\"La \"\"Esquina\"\", Centro\"", RestaurantImportReport.escape("La \"Esquina\", Centro"));
+    }
+}
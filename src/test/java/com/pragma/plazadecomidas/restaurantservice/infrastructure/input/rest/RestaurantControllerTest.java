@@ -1,14 +1,26 @@
 package com.pragma.plazadecomidas.restaurantservice.infrastructure.input.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.request.RestaurantImportRowDto;
 import com.pragma.plazadecomidas.restaurantservice.application.dto.request.RestaurantRequestDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantBulkItemResponseDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantBulkResponseDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantImportErrorDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantImportResponseDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantListResponseDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantSummaryResponseDto;
 import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantResponseDto;
 import com.pragma.plazadecomidas.restaurantservice.application.handler.IRestaurantHandler;
 import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedException;
 import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedNotFoundException;
 import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
 import com.pragma.plazadecomidas.restaurantservice.infrastructure.configuration.SecurityConfig;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.metrics.RestaurantMetrics;
 import com.pragma.plazadecomidas.restaurantservice.infrastructure.util.ValidationConstants;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,18 +29,44 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithAnonymousUser;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(RestaurantController.class)
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, RestaurantMetrics.class, SimpleMeterRegistry.class})
 class RestaurantControllerTest {
 
     @Autowired
@@ -37,9 +75,15 @@ class RestaurantControllerTest {
     @MockBean
     private IRestaurantHandler restaurantHandler;
 
+    @MockBean
+    private Bulkhead restaurantExportBulkhead;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private SimpleMeterRegistry meterRegistry;
+
     private RestaurantRequestDto validRestaurantRequestDto;
     private RestaurantResponseDto savedRestaurantResponseDto;
 
@@ -82,7 +126,46 @@ class RestaurantControllerTest {
                 .andExpect(jsonPath("$." + ValidationConstants.JSON_DIRECCION).value(validRestaurantRequestDto.getAddress()))
                 .andExpect(jsonPath("$." + ValidationConstants.JSON_CELULAR).value(validRestaurantRequestDto.getPhoneNumber()))
                 .andExpect(jsonPath("$." + ValidationConstants.JSON_URL_LOGO).value(validRestaurantRequestDto.getUrlLogo()))
-                .andExpect(jsonPath("$." + ValidationConstants.JSON_OWNER_NAME).value(savedRestaurantResponseDto.getOwnerName()));
+                .andExpect(jsonPath("$." + ValidationConstants.JSON_OWNER_NAME).value(savedRestaurantResponseDto.getOwnerName()))
+                .andExpect(jsonPath("$." + ValidationConstants.JSON_SIMILARES).doesNotExist())
+                .andExpect(header().doesNotExist(RestaurantController.SIMILAR_NAMES_HEADER));
+    }
+
+    @Test
+    @DisplayName("save: Should return the near-duplicate names in the body and URL-encoded in a response header")
+    @WithMockUser(roles = "ADMINISTRADOR")
+    void save_SimilarNamesExist_AddsSimilarNamesHeader() throws Exception {
+        when(restaurantHandler.saveRestaurant(any(RestaurantRequestDto.class)))
+                .thenReturn(savedRestaurantResponseDto.toBuilder()
+                        .similarNames(List.of("Restaurante Nuevó", "Restaurantes Nuevos"))
+                        .build());
+
+        mockMvc.perform(post("/api/v1/restaurants/create-restaurant")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validRestaurantRequestDto)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(RestaurantController.SIMILAR_NAMES_HEADER,
+                        "Restaurante+Nuev%C3%B3,Restaurantes+Nuevos"))
+                .andExpect(jsonPath("$." + ValidationConstants.JSON_SIMILARES + "[0]").value("Restaurante Nuevó"));
+    }
+
+    @Test
+    @DisplayName("save: Should time request body parsing and DTO validation as separate stages")
+    @WithMockUser(roles = "ADMINISTRADOR")
+    void save_ValidRestaurant_RecordsParseAndValidationStages() throws Exception {
+        // GIVEN
+        long parsed = stageCount(RestaurantMetrics.STAGE_PARSE);
+        long validated = stageCount(RestaurantMetrics.STAGE_VALIDATION);
+
+        // WHEN
+        mockMvc.perform(post("/api/v1/restaurants/create-restaurant")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validRestaurantRequestDto)))
+                .andExpect(status().isCreated());
+
+        // THEN
+        assertEquals(parsed + 1, stageCount(RestaurantMetrics.STAGE_PARSE));
+        assertEquals(validated + 1, stageCount(RestaurantMetrics.STAGE_VALIDATION));
     }
 
     @Test
@@ -141,4 +224,284 @@ class RestaurantControllerTest {
                 .andExpect(jsonPath("$.mensaje").value(String.format(MessageEnum.RESTAURANT_NAME_EXISTS.getMessage(), validRestaurantRequestDto.getName())));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("saveAll: Should return 200 OK with per-item results, leaving item validation to the handler")
+    void saveAll_MixedBatch_ReturnsPerItemResults() throws Exception {
+        RestaurantRequestDto invalidRestaurant = validRestaurantRequestDto.toBuilder().nit("ABC").build();
+        when(restaurantHandler.saveRestaurants(anyList())).thenReturn(RestaurantBulkResponseDto.builder()
+                .total(2)
+                .created(1)
+                .rejected(1)
+                .results(List.of(
+                        RestaurantBulkItemResponseDto.builder().index(0)
+                                .status(ValidationConstants.BULK_STATUS_CREATED).restaurant(savedRestaurantResponseDto).build(),
+                        RestaurantBulkItemResponseDto.builder().index(1)
+                                .status(ValidationConstants.BULK_STATUS_REJECTED)
+                                .message(ValidationConstants.RESTAURANT_NIT_FORMAT_MESSAGE).build()))
+                .build());
+
+        mockMvc.perform(post("/api/v1/restaurants/create-restaurant/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(validRestaurantRequestDto, invalidRestaurant))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$." + ValidationConstants.JSON_CREADOS).value(1))
+                .andExpect(jsonPath("$." + ValidationConstants.JSON_RESULTADOS + "[0].restaurante.id").value(1))
+                .andExpect(jsonPath("$." + ValidationConstants.JSON_RESULTADOS + "[1].estado")
+                        .value(ValidationConstants.BULK_STATUS_REJECTED))
+                .andExpect(jsonPath("$." + ValidationConstants.JSON_RESULTADOS + "[1].mensaje")
+                        .value(ValidationConstants.RESTAURANT_NIT_FORMAT_MESSAGE));
+    }
+
+    @Test
+    @DisplayName("list: Should return 200 OK with name, logo and next cursor without authentication, defaulting to 20 per page")
+    void list_AnonymousRequest_ReturnsPage() throws Exception {
+        when(restaurantHandler.listRestaurants(null, 20)).thenReturn(RestaurantListResponseDto.builder()
+                .restaurants(List.of(new RestaurantSummaryResponseDto("Alfa", "http://logo.com/alfa.png")))
+                .nextCursor("QWxmYQ")
+                .build());
+
+        mockMvc.perform(get("/api/v1/restaurants"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$." + ValidationConstants.JSON_RESTAURANTES + "[0]." + ValidationConstants.JSON_NOMBRE)
+                        .value("Alfa"))
+                .andExpect(jsonPath("$." + ValidationConstants.JSON_RESTAURANTES + "[0]." + ValidationConstants.JSON_URL_LOGO)
+                        .value("http://logo.com/alfa.png"))
+                .andExpect(jsonPath("$." + ValidationConstants.JSON_RESTAURANTES + "[0].nit").doesNotExist())
+                .andExpect(jsonPath("$." + ValidationConstants.JSON_SIGUIENTE_CURSOR).value("QWxmYQ"));
+    }
+
+    @Test
+    @DisplayName("search: Should return 200 OK with the matching names without authentication, defaulting to 10 results")
+    void search_AnonymousRequest_ReturnsMatches() throws Exception {
+        when(restaurantHandler.searchRestaurants("carr", 10))
+                .thenReturn(List.of(new RestaurantSummaryResponseDto("Carrera 7", "http://logo.com/c7.png")));
+
+        mockMvc.perform(get("/api/v1/restaurants/search").param("q", "carr"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]." + ValidationConstants.JSON_NOMBRE).value("Carrera 7"))
+                .andExpect(jsonPath("$[0]." + ValidationConstants.JSON_URL_LOGO).value("http://logo.com/c7.png"));
+    }
+
+    @Test
+    @DisplayName("findById: Should return 200 OK with the restaurant to a service client, and 404 when it does not exist")
+    @WithMockUser(roles = SecurityConfig.ROLE_SERVICE)
+    void findById_ServiceClient_FoundAndMissing() throws Exception {
+        when(restaurantHandler.findRestaurantById(1L)).thenReturn(savedRestaurantResponseDto);
+        when(restaurantHandler.findRestaurantById(99L))
+                .thenThrow(new PersonalizedNotFoundException(MessageEnum.RESTAURANT_NOT_FOUND.getMessage()));
+
+        mockMvc.perform(get("/api/v1/restaurants/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$." + ValidationConstants.JSON_NIT).value(savedRestaurantResponseDto.getNit()));
+
+        mockMvc.perform(get("/api/v1/restaurants/99"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.mensaje").value(MessageEnum.RESTAURANT_NOT_FOUND.getMessage()));
+    }
+
+    @Test
+    @DisplayName("findById: Should reject anonymous callers and accounts without the service role")
+    @WithAnonymousUser
+    void findById_AnonymousOrNonServiceCaller_Rejected() throws Exception {
+        mockMvc.perform(get("/api/v1/restaurants/1"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/v1/restaurants/1").with(user("admin").roles("ADMINISTRADOR")))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(restaurantHandler);
+    }
+
+    @Test
+    @DisplayName("listByOwner: Should return 200 OK with the owner's restaurants to a service client")
+    @WithMockUser(roles = SecurityConfig.ROLE_SERVICE)
+    void listByOwner_ServiceClient_ReturnsRestaurants() throws Exception {
+        when(restaurantHandler.listRestaurantsByOwner(1L)).thenReturn(List.of(savedRestaurantResponseDto));
+
+        mockMvc.perform(get("/api/v1/restaurants/owner/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0]." + ValidationConstants.JSON_NOMBRE).value(savedRestaurantResponseDto.getName()));
+    }
+
+    @Test
+    @DisplayName("isOwner: Should return 200 OK with true or false, and 404 when the restaurant does not exist")
+    @WithMockUser(roles = SecurityConfig.ROLE_SERVICE)
+    void isOwner_OwnerOtherUserAndMissingRestaurant() throws Exception {
+        when(restaurantHandler.isRestaurantOwner(1L, 1L)).thenReturn(true);
+        when(restaurantHandler.isRestaurantOwner(99L, 1L))
+                .thenThrow(new PersonalizedNotFoundException(MessageEnum.RESTAURANT_NOT_FOUND.getMessage()));
+
+        mockMvc.perform(get("/api/v1/restaurants/1/owner/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("true"));
+        mockMvc.perform(get("/api/v1/restaurants/1/owner/2"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("false"));
+        mockMvc.perform(get("/api/v1/restaurants/99/owner/1"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("listByOwner and isOwner: Should reject anonymous callers and accounts without the service role")
+    @WithAnonymousUser
+    void ownerLookups_AnonymousOrNonServiceCaller_Rejected() throws Exception {
+        mockMvc.perform(get("/api/v1/restaurants/owner/1"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/v1/restaurants/1/owner/1"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/v1/restaurants/owner/1").with(user("admin").roles("ADMINISTRADOR")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/v1/restaurants/1/owner/1").with(user("admin").roles("ADMINISTRADOR")))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(restaurantHandler);
+    }
+
+    @Test
+    @DisplayName("export: Should stream one JSON object per line as an NDJSON attachment and release the export slot")
+    @WithMockUser(roles = SecurityConfig.ROLE_SERVICE)
+    void export_ServiceClient_StreamsNdjson() throws Exception {
+        when(restaurantExportBulkhead.tryAcquirePermission()).thenReturn(true);
+        RestaurantResponseDto other = savedRestaurantResponseDto.toBuilder().id(2L).name("Otro").build();
+        doAnswer(invocation -> {
+            Consumer<RestaurantResponseDto> action = invocation.getArgument(0);
+            action.accept(savedRestaurantResponseDto);
+            action.accept(other);
+            return null;
+        }).when(restaurantHandler).exportRestaurants(any());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/restaurants/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"restaurants.ndjson\""))
+                .andReturn().getResponse().getContentAsString();
+        List<String> lines = body.lines().toList();
+        assertEquals(2, lines.size());
+        assertEquals(1L, objectMapper.readTree(lines.get(0)).get("id").asLong());
+        assertEquals("Otro", objectMapper.readTree(lines.get(1)).get(ValidationConstants.JSON_NOMBRE).asText());
+        assertTrue(body.endsWith("\n"));
+        verify(restaurantExportBulkhead).onComplete();
+    }
+
+    @Test
+    @DisplayName("export: Should release the export slot once when the request ends before the stream finishes")
+    @WithMockUser(roles = SecurityConfig.ROLE_SERVICE)
+    void export_RequestEndsBeforeStream_ReleasesSlotOnce() throws Exception {
+        // GIVEN
+        when(restaurantExportBulkhead.tryAcquirePermission()).thenReturn(true);
+        CountDownLatch streamStarted = new CountDownLatch(1);
+        CountDownLatch finishStream = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            streamStarted.countDown();
+            finishStream.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(restaurantHandler).exportRestaurants(any());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/restaurants/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertTrue(streamStarted.await(5, TimeUnit.SECONDS));
+
+        // WHEN (el contenedor cierra la petición por timeout o desconexión con la tarea todavía en curso)
+        result.getRequest().getAsyncContext().complete();
+
+        // THEN
+        verify(restaurantExportBulkhead).onComplete();
+        finishStream.countDown();
+        verify(restaurantExportBulkhead, after(500)).onComplete();
+    }
+
+    @Test
+    @DisplayName("export: Should ask anonymous callers to authenticate and reject users without the service role")
+    @WithAnonymousUser
+    void export_AnonymousOrNonServiceCaller_Rejected() throws Exception {
+        mockMvc.perform(get("/api/v1/restaurants/export"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/v1/restaurants/export").with(user("admin").roles("ADMINISTRADOR")))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(restaurantHandler, restaurantExportBulkhead);
+    }
+
+    @Test
+    @DisplayName("export: Should answer 503 without opening the cursor when every export slot is taken")
+    @WithMockUser(roles = SecurityConfig.ROLE_SERVICE)
+    void export_NoFreeSlot_ReturnsServiceUnavailable() throws Exception {
+        when(restaurantExportBulkhead.tryAcquirePermission()).thenReturn(false);
+        when(restaurantExportBulkhead.getName()).thenReturn("restaurantExport");
+        when(restaurantExportBulkhead.getBulkheadConfig()).thenReturn(BulkheadConfig.ofDefaults());
+
+        mockMvc.perform(get("/api/v1/restaurants/export"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.mensaje").value(MessageEnum.SERVICE_BUSY.getMessage()));
+
+        verifyNoInteractions(restaurantHandler);
+    }
+
+    @Test
+    @DisplayName("importRestaurants: Should read the CSV rows, return the rejected rows as a CSV report and the summary in headers")
+    void importRestaurants_CsvFile_ReturnsReportAndSummary() throws Exception {
+        // GIVEN
+        String csv = "nombre,nit,direccion,Celular,url_del_logo,id_propietario\n"
+                + "Restaurante Prueba,123456,Calle 123,+573001234567,http://logo.com/logo.png,10\n"
+                + "=Otro,12A,Calle 1,3001,http://logo.com/otro.png,11\n";
+        MockMultipartFile file = new MockMultipartFile("file", "restaurants.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+        List<RestaurantImportRowDto> readRows = new ArrayList<>();
+        doAnswer(invocation -> {
+            Iterator<RestaurantImportRowDto> rows = invocation.getArgument(0);
+            Consumer<RestaurantImportErrorDto> errors = invocation.getArgument(1);
+            rows.forEachRemaining(readRows::add);
+            errors.accept(new RestaurantImportErrorDto(3, "=Otro", "12A", ValidationConstants.RESTAURANT_NIT_FORMAT_MESSAGE));
+            return new RestaurantImportResponseDto(2, 1, 1, Duration.ofMillis(500));
+        }).when(restaurantHandler).importRestaurants(any(), any());
+
+        // WHEN
+        MvcResult result = mockMvc.perform(multipart("/api/v1/restaurants/create-restaurant/import").file(file))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // THEN
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(RestaurantController.IMPORT_TOTAL_HEADER, "2"))
+                .andExpect(header().string(RestaurantController.IMPORT_CREATED_HEADER, "1"))
+                .andExpect(header().string(RestaurantController.IMPORT_REJECTED_HEADER, "1"))
+                .andExpect(header().string(RestaurantController.IMPORT_ROWS_PER_SECOND_HEADER, "4"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"import-errors.csv\""))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertEquals(List.of("fila,nombre,nit,mensaje",
+                        "3,'=Otro,12A," + ValidationConstants.RESTAURANT_NIT_FORMAT_MESSAGE),
+                body.lines().toList());
+        assertEquals(2, readRows.size());
+        assertEquals(10L, readRows.get(0).getRestaurant().getOwnerId());
+        assertEquals(3, readRows.get(1).getRow());
+        assertEquals(1.0, meterRegistry.get(RestaurantMetrics.IMPORT_ROWS)
+                .tag(RestaurantMetrics.TAG_RESULT, "created").counter().count());
+    }
+
+    @Test
+    @DisplayName("importRestaurants: Should return 400 when the uploaded file is empty")
+    void importRestaurants_EmptyFile_ReturnsBadRequest() throws Exception {
+        // GIVEN
+        MockMultipartFile file = new MockMultipartFile("file", "restaurants.csv", "text/csv", new byte[0]);
+
+        // WHEN & THEN
+        mockMvc.perform(multipart("/api/v1/restaurants/create-restaurant/import").file(file))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.mensaje").value(MessageEnum.IMPORT_FILE_REQUIRED.getMessage()));
+        verifyNoInteractions(restaurantHandler);
+    }
+
+    private long stageCount(String stage) {
+        return meterRegistry.find(RestaurantMetrics.STAGE_TIMER)
+                .tag(RestaurantMetrics.TAG_STAGE, stage)
+                .timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+}
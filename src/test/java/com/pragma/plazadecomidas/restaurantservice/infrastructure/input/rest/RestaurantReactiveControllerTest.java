@@ -0,0 +1,119 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.input.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.request.RestaurantRequestDto;
+import com.pragma.plazadecomidas.restaurantservice.application.dto.response.RestaurantResponseDto;
+import com.pragma.plazadecomidas.restaurantservice.application.handler.IRestaurantReactiveHandler;
+import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedNotFoundException;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.configuration.SecurityConfig;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.metrics.RestaurantMetrics;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.util.ValidationConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(RestaurantReactiveController.class)
+@Import({SecurityConfig.class, RestaurantMetrics.class, SimpleMeterRegistry.class})
+class RestaurantReactiveControllerTest {
+
+    private static final String CREATE_URL = "/api/v1/restaurants/reactive/create-restaurant";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private IRestaurantReactiveHandler restaurantReactiveHandler;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private RestaurantRequestDto validRestaurantRequestDto;
+
+    @BeforeEach
+    void setUp() {
+        validRestaurantRequestDto = RestaurantRequestDto.builder()
+                .name("Restaurante Nuevo")
+                .nit("123456789")
+                .address("Av. Principal 123")
+                .phoneNumber("+573101234567")
+                .urlLogo("http://logo.com/new.png")
+                .ownerId(1L)
+                .build();
+    }
+
+    @Test
+    @DisplayName("save: Should start async processing and return 201 CREATED once the Mono completes")
+    void save_ValidRestaurant_ReturnsCreatedAsync() throws Exception {
+        RestaurantResponseDto response = RestaurantResponseDto.builder()
+                .id(1L)
+                .name(validRestaurantRequestDto.getName())
+                .ownerName("Juan Perez")
+                .similarNames(List.of("Café Niño"))
+                .build();
+        when(restaurantReactiveHandler.saveRestaurant(any(RestaurantRequestDto.class))).thenReturn(Mono.just(response));
+
+        MvcResult mvcResult = mockMvc.perform(post(CREATE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validRestaurantRequestDto)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$." + ValidationConstants.JSON_NOMBRE).value(validRestaurantRequestDto.getName()))
+                .andExpect(jsonPath("$." + ValidationConstants.JSON_OWNER_NAME).value("Juan Perez"))
+                .andExpect(header().string(RestaurantController.SIMILAR_NAMES_HEADER, "Caf%C3%A9+Ni%C3%B1o"));
+    }
+
+    @Test
+    @DisplayName("save: Should map a Mono error to 404 NOT FOUND through the GlobalExceptionHandler")
+    void save_OwnerNotFound_ReturnsNotFoundAsync() throws Exception {
+        when(restaurantReactiveHandler.saveRestaurant(any(RestaurantRequestDto.class)))
+                .thenReturn(Mono.error(new PersonalizedNotFoundException(MessageEnum.OWNER_NOT_FOUND.getMessage())));
+
+        MvcResult mvcResult = mockMvc.perform(post(CREATE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validRestaurantRequestDto)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.mensaje").value(MessageEnum.OWNER_NOT_FOUND.getMessage()));
+    }
+
+    @Test
+    @DisplayName("save: Should return 400 BAD REQUEST before reaching the handler when the DTO is invalid")
+    void save_InvalidNit_ReturnsBadRequest() throws Exception {
+        RestaurantRequestDto invalidDto = validRestaurantRequestDto.toBuilder().nit("ABC").build();
+
+        mockMvc.perform(post(CREATE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(invalidDto)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.mensaje").value(ValidationConstants.RESTAURANT_NIT_FORMAT_MESSAGE));
+        verifyNoInteractions(restaurantReactiveHandler);
+    }
+}
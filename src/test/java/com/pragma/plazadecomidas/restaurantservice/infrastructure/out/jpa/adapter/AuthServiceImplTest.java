@@ -6,8 +6,15 @@ import com.pragma.plazadecomidas.restaurantservice.domain.exception.Personalized
 import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedNotFoundException;
 import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
 import com.pragma.plazadecomidas.restaurantservice.domain.model.User;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.metrics.RestaurantMetrics;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.timeout.ReadTimeoutException;
+import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,16 +23,31 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.test.StepVerifier;
 
 import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -195,4 +217,257 @@ class AuthServiceImplTest {
         }
     }
 
+    @Test
+    @DisplayName("findByIdReactive: Should emit the User without blocking when Auth Service returns 200 OK")
+    void findByIdReactive_UserFound_EmitsUser() throws InterruptedException {
+        // GIVEN
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"id\": 1, \"nombre\": \"Juan\", \"apellido\": \"Perez\"," +
+                        "\"documento_de_identidad\": \"1234567890\", \"celular\": \"+573001234567\"," +
+                        "\"correo\": \"juan.perez@example.com\", \"fecha_de_nacimiento\": \"1985-01-01\", \"rol\": \"ADMIN\"}"));
+
+        // WHEN & THEN
+        StepVerifier.create(authService.findByIdReactive(1L))
+                .expectNext(mockUserDomain)
+                .verifyComplete();
+        assertEquals("/users/by-id?userId=1", mockWebServer.takeRequest().getPath());
+    }
+
+    @Test
+    @DisplayName("findByIdReactive: Should emit PersonalizedNotFoundException when Auth Service returns 4xx error")
+    void findByIdReactive_ClientError_EmitsNotFound() throws InterruptedException {
+        // GIVEN
+        mockWebServer.enqueue(new MockResponse().setResponseCode(404));
+
+        // WHEN & THEN
+        StepVerifier.create(authService.findByIdReactive(1L))
+                .expectErrorMatches(error -> error instanceof PersonalizedNotFoundException
+                        && MessageEnum.ERROR_4XX.getMessage().equals(error.getMessage()))
+                .verify();
+        mockWebServer.takeRequest();
+    }
+
+    @Test
+    @DisplayName("findByIdReactive: Should emit PersonalizedException when Auth Service returns 5xx error")
+    void findByIdReactive_ServerError_EmitsPersonalizedException() throws InterruptedException {
+        // GIVEN
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+
+        // WHEN & THEN
+        StepVerifier.create(authService.findByIdReactive(1L))
+                .expectErrorMatches(error -> error instanceof PersonalizedException
+                        && MessageEnum.ERROR_5XX.getMessage().equals(error.getMessage()))
+                .verify();
+        mockWebServer.takeRequest();
+    }
+
+
+    @Test
+    @DisplayName("findAllByIds: Should collapse duplicate IDs and send one request per chunk to the batch endpoint")
+    void findAllByIds_BatchEndpoint_OneRequestPerChunk() {
+        // GIVEN
+        AuthServiceImpl batchAuthService = new AuthServiceImpl(WebClient.builder(), mockWebServer.url("/").toString(),
+                "/users/by-id", "/users/by-ids", 100, 2, userResponseMapper);
+        mockWebServer.setDispatcher(usersDispatcher(new AtomicInteger(), new AtomicInteger()));
+        mapUsersById();
+        // 500 entradas, 250 IDs distintos: antes eran 500 peticiones
+        List<Long> ids = LongStream.rangeClosed(1, 500).mapToObj(i -> (i % 250) + 1).toList();
+
+        // WHEN
+        Map<Long, User> users = batchAuthService.findAllByIds(ids);
+
+        // THEN
+        assertEquals(250, users.size());
+        assertEquals(250L, users.get(250L).getId());
+        assertEquals(3, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    @DisplayName("findAllByIds: Without a batch endpoint should call once per distinct ID, never exceeding the concurrency limit")
+    void findAllByIds_NoBatchEndpoint_BoundedConcurrencyPerDistinctId() {
+        // GIVEN
+        AuthServiceImpl boundedAuthService = new AuthServiceImpl(WebClient.builder(), mockWebServer.url("/").toString(),
+                "/users/by-id", null, 100, 3, userResponseMapper);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        mockWebServer.setDispatcher(usersDispatcher(inFlight, maxInFlight));
+        mapUsersById();
+        List<Long> ids = List.of(1L, 2L, 2L, 3L, 3L, 3L, 4L, 5L, 6L, 404L);
+
+        // WHEN
+        Map<Long, User> users = boundedAuthService.findAllByIds(ids);
+
+        // THEN
+        assertEquals(6, users.size());
+        assertFalse(users.containsKey(404L));
+        assertEquals(7, mockWebServer.getRequestCount());
+        assertTrue(maxInFlight.get() <= 3);
+    }
+
+    @Test
+    @DisplayName("findAllByIds: A 4xx on a chunk should fall back to one request per ID of that chunk")
+    void findAllByIds_ChunkRejected_FallsBackToPerIdLookups() {
+        // GIVEN
+        AuthServiceImpl batchAuthService = new AuthServiceImpl(WebClient.builder(), mockWebServer.url("/").toString(),
+                "/users/by-id", "/users/by-ids", 2, 2, userResponseMapper);
+        mockWebServer.setDispatcher(usersDispatcher(new AtomicInteger(), new AtomicInteger()));
+        mapUsersById();
+
+        // WHEN
+        Map<Long, User> users = batchAuthService.findAllByIds(List.of(1L, 2L, 3L, 404L));
+
+        // THEN
+        assertEquals(Set.of(1L, 2L, 3L), users.keySet());
+        // Un bloque aceptado, el bloque rechazado y sus dos consultas por ID
+        assertEquals(4, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    @DisplayName("findAllByIds: Without a batch endpoint should key each user by the requested ID")
+    void findAllByIds_NoBatchEndpoint_KeysByRequestedId() {
+        // GIVEN
+        AuthServiceImpl perIdAuthService = new AuthServiceImpl(WebClient.builder(), mockWebServer.url("/").toString(),
+                "/users/by-id", null, 100, 2, userResponseMapper);
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200).setHeader("Content-Type", "application/json")
+                .setBody("{\"nombre\": \"Sin Id\", \"rol\": \"PROPIETARIO\"}"));
+        mapUsersById();
+
+        // WHEN
+        Map<Long, User> users = perIdAuthService.findAllByIds(List.of(7L));
+
+        // THEN
+        assertEquals(Set.of(7L), users.keySet());
+        assertEquals("Sin Id", users.get(7L).getName());
+    }
+
+    @Test
+    @DisplayName("findAllByIds: Should propagate PersonalizedException when a chunk fails with 5xx")
+    void findAllByIds_ServerError_ThrowsPersonalizedException() {
+        // GIVEN
+        AuthServiceImpl batchAuthService = new AuthServiceImpl(WebClient.builder(), mockWebServer.url("/").toString(),
+                "/users/by-id", "/users/by-ids", 100, 2, userResponseMapper);
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+
+        // WHEN & THEN
+        PersonalizedException exception = assertThrows(PersonalizedException.class,
+                () -> batchAuthService.findAllByIds(List.of(1L, 2L)));
+        assertEquals(MessageEnum.ERROR_5XX.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("findAllByIds: Should reuse the configured pool, never opening more connections than its maximum, and publish pool metrics")
+    void findAllByIds_ConfiguredPool_BoundsConnectionsAndPublishesMetrics() throws InterruptedException {
+        // GIVEN
+        SimpleMeterRegistry poolRegistry = new SimpleMeterRegistry();
+        Metrics.globalRegistry.add(poolRegistry);
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("auth-service-test")
+                .maxConnections(1)
+                .metrics(true)
+                .build();
+        try {
+            Duration timeout = Duration.ofSeconds(2);
+            AuthServiceImpl pooledAuthService = new AuthServiceImpl(WebClient.builder(), mockWebServer.url("/").toString(),
+                    "/users/by-id", null, 100, 3, userResponseMapper, new SimpleMeterRegistry(),
+                    AuthServiceImpl.httpClient(connectionProvider, timeout, timeout, timeout));
+            mockWebServer.setDispatcher(usersDispatcher(new AtomicInteger(), new AtomicInteger()));
+            mapUsersById();
+
+            // WHEN
+            Map<Long, User> users = pooledAuthService.findAllByIds(List.of(1L, 2L, 3L));
+
+            // THEN
+            assertEquals(3, users.size());
+            // Con una sola conexión las tres peticiones viajan por ella: su número de secuencia en la conexión es 0, 1 y 2
+            List<Integer> sequenceNumbers = List.of(
+                    mockWebServer.takeRequest().getSequenceNumber(),
+                    mockWebServer.takeRequest().getSequenceNumber(),
+                    mockWebServer.takeRequest().getSequenceNumber());
+            assertEquals(List.of(0, 1, 2), sequenceNumbers.stream().sorted().toList());
+            assertEquals(1.0, poolRegistry.get("reactor.netty.connection.provider.max.connections")
+                    .tag("name", "auth-service-test")
+                    .gauge()
+                    .value());
+            assertTrue(poolRegistry.find("reactor.netty.connection.provider.pending.connections")
+                    .tag("name", "auth-service-test")
+                    .gauge() != null);
+        } finally {
+            Metrics.globalRegistry.remove(poolRegistry);
+            connectionProvider.dispose();
+        }
+    }
+
+    private void mapUsersById() {
+        when(userResponseMapper.toUser(any(UserResponseDto.class))).thenAnswer(invocation -> {
+            UserResponseDto dto = invocation.getArgument(0);
+            return User.builder().id(dto.getId()).name(dto.getName()).roleName(dto.getRoleName()).build();
+        });
+    }
+
+    private Dispatcher usersDispatcher(AtomicInteger inFlight, AtomicInteger maxInFlight) {
+        return new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                    String userId = request.getRequestUrl().queryParameter("userId");
+                    if ("404".equals(userId)) {
+                        return new MockResponse().setResponseCode(404);
+                    }
+                    List<String> ids = userId != null ? List.of(userId) : request.getRequestUrl().queryParameterValues("userIds");
+                    if (ids.contains("404")) {
+                        return new MockResponse().setResponseCode(404);
+                    }
+                    String users = ids.stream()
+                            .map(id -> "{\"id\": " + id + ", \"nombre\": \"Usuario " + id + "\", \"rol\": \"PROPIETARIO\"}")
+                            .collect(Collectors.joining(","));
+                    return new MockResponse()
+                            .setResponseCode(200)
+                            .setHeader("Content-Type", "application/json")
+                            .setBody(userId != null ? users : "[" + users + "]");
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("findById: Should time each call to the Auth Service tagged with its outcome")
+    void findById_Calls_RecordedByOutcome() {
+        // GIVEN
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AuthServiceImpl timedAuthService = new AuthServiceImpl(WebClient.builder(), mockWebServer.url("/").toString(),
+                "/users/by-id", null, AuthServiceImpl.DEFAULT_BATCH_SIZE, AuthServiceImpl.DEFAULT_BATCH_CONCURRENCY,
+                userResponseMapper, meterRegistry);
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200).setHeader("Content-Type", "application/json").setBody("{}"));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(404));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+
+        // WHEN
+        timedAuthService.findById(1L);
+        assertThrows(PersonalizedNotFoundException.class, () -> timedAuthService.findById(2L));
+        assertThrows(PersonalizedException.class, () -> timedAuthService.findById(3L));
+
+        // THEN
+        for (String outcome : List.of(AuthServiceImpl.OUTCOME_2XX, AuthServiceImpl.OUTCOME_4XX, AuthServiceImpl.OUTCOME_5XX)) {
+            Timer timer = meterRegistry.get(RestaurantMetrics.AUTH_CLIENT_TIMER)
+                    .tag(RestaurantMetrics.TAG_OPERATION, AuthServiceImpl.OPERATION_FIND_BY_ID)
+                    .tag(RestaurantMetrics.TAG_OUTCOME, outcome)
+                    .timer();
+            assertEquals(1, timer.count());
+        }
+    }
+
+    @Test
+    @DisplayName("outcome: Should classify read, write and connect timeouts as timeout and other failures as error")
+    void outcome_Timeouts_ClassifiedAsTimeout() {
+        assertEquals(AuthServiceImpl.OUTCOME_TIMEOUT,
+                AuthServiceImpl.outcome(new WebClientRequestException(ReadTimeoutException.INSTANCE, HttpMethod.GET,
+                        URI.create("http://auth"), new HttpHeaders())));
+        assertEquals(AuthServiceImpl.OUTCOME_TIMEOUT, AuthServiceImpl.outcome(new TimeoutException()));
+        assertEquals(AuthServiceImpl.OUTCOME_ERROR, AuthServiceImpl.outcome(new IllegalStateException()));
+    }
 }
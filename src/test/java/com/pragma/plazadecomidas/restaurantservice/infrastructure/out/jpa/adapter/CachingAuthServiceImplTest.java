@@ -0,0 +1,193 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter;
+
+import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedException;
+import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedNotFoundException;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.User;
+import com.pragma.plazadecomidas.restaurantservice.domain.spi.IAuthService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingAuthServiceImplTest {
+
+    @Mock
+    private IAuthService delegate;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private CachingAuthServiceImpl cachingAuthService;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        cachingAuthService = new CachingAuthServiceImpl(
+                delegate, 2, Duration.ofMinutes(5), Duration.ofSeconds(30), nanos::get);
+
+        owner = User.builder()
+                .id(1L)
+                .name("Juan")
+                .lastName("Perez")
+                .roleName(MessageEnum.PROPIETARIO.getMessage())
+                .build();
+    }
+
+    @Test
+    @DisplayName("findById: Should call the Auth Service once and serve repeated lookups from the cache")
+    void findById_RepeatedLookup_ServedFromCache() {
+        // GIVEN
+        when(delegate.findById(1L)).thenReturn(Optional.of(owner));
+
+        // WHEN
+        Optional<User> first = cachingAuthService.findById(1L);
+        Optional<User> second = cachingAuthService.findById(1L);
+
+        // THEN
+        assertEquals(owner, first.orElseThrow());
+        assertEquals(owner, second.orElseThrow());
+        verify(delegate, times(1)).findById(1L);
+        assertEquals(1, cachingAuthService.stats().hitCount());
+        assertEquals(1, cachingAuthService.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("findByIdReactive: Should share cache entries with the blocking lookup")
+    void findByIdReactive_EntryCachedByBlockingLookup_ServedFromCache() {
+        // GIVEN
+        when(delegate.findById(1L)).thenReturn(Optional.of(owner));
+        when(delegate.findById(2L)).thenReturn(Optional.empty());
+        cachingAuthService.findById(1L);
+
+        // WHEN & THEN
+        StepVerifier.create(cachingAuthService.findByIdReactive(1L))
+                .expectNext(owner)
+                .verifyComplete();
+        StepVerifier.create(cachingAuthService.findByIdReactive(2L))
+                .verifyComplete();
+        assertTrue(cachingAuthService.findById(2L).isEmpty());
+        verify(delegate, times(1)).findById(1L);
+        verify(delegate, times(1)).findById(2L);
+    }
+
+    @Test
+    @DisplayName("findById: Should query the Auth Service again once the entry TTL has elapsed")
+    void findById_TtlElapsed_ReloadsFromDelegate() {
+        // GIVEN
+        when(delegate.findById(1L)).thenReturn(Optional.of(owner));
+        cachingAuthService.findById(1L);
+
+        // WHEN
+        nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+        cachingAuthService.findById(1L);
+
+        // THEN
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("findById: Should cache 4xx owner-not-found replies with the negative TTL")
+    void findById_OwnerNotFound_CachedAsNegativeResult() {
+        // GIVEN
+        when(delegate.findById(7L)).thenThrow(new PersonalizedNotFoundException(MessageEnum.ERROR_4XX.getMessage()));
+
+        // WHEN & THEN
+        PersonalizedNotFoundException first = assertThrows(PersonalizedNotFoundException.class,
+                () -> cachingAuthService.findById(7L));
+        PersonalizedNotFoundException second = assertThrows(PersonalizedNotFoundException.class,
+                () -> cachingAuthService.findById(7L));
+        assertEquals(MessageEnum.ERROR_4XX.getMessage(), first.getMessage());
+        assertEquals(MessageEnum.ERROR_4XX.getMessage(), second.getMessage());
+        verify(delegate, times(1)).findById(7L);
+
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+        assertThrows(PersonalizedNotFoundException.class, () -> cachingAuthService.findById(7L));
+        verify(delegate, times(2)).findById(7L);
+    }
+
+    @Test
+    @DisplayName("findById: Should never cache 5xx errors from the Auth Service")
+    void findById_ServerError_NotCached() {
+        // GIVEN
+        when(delegate.findById(1L))
+                .thenThrow(new PersonalizedException(MessageEnum.ERROR_5XX.getMessage()))
+                .thenReturn(Optional.of(owner));
+
+        // WHEN & THEN
+        assertThrows(PersonalizedException.class, () -> cachingAuthService.findById(1L));
+        assertEquals(owner, cachingAuthService.findById(1L).orElseThrow());
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("findById: Should evict entries once the maximum size is exceeded")
+    void findById_MaximumSizeExceeded_EvictsEntries() {
+        // GIVEN
+        when(delegate.findById(anyLong())).thenReturn(Optional.of(owner));
+
+        // WHEN
+        cachingAuthService.findById(1L);
+        cachingAuthService.findById(2L);
+        cachingAuthService.findById(3L);
+        cachingAuthService.cache().cleanUp();
+
+        // THEN
+        assertTrue(cachingAuthService.estimatedSize() <= 2);
+        assertTrue(cachingAuthService.stats().evictionCount() >= 1);
+    }
+
+    @Test
+    @DisplayName("findAllByIds: Should only ask the Auth Service for IDs that are not cached, without caching the missing ones")
+    void findAllByIds_PartiallyCached_DelegatesOnlyMisses() {
+        // GIVEN
+        when(delegate.findById(1L)).thenReturn(Optional.of(owner));
+        cachingAuthService.findById(1L);
+        when(delegate.findAllByIds(List.of(2L))).thenReturn(Map.of());
+
+        // WHEN
+        Map<Long, User> first = cachingAuthService.findAllByIds(List.of(1L, 2L, 2L));
+        Map<Long, User> second = cachingAuthService.findAllByIds(List.of(1L, 2L));
+
+        // THEN
+        assertEquals(Map.of(1L, owner), first);
+        assertEquals(Map.of(1L, owner), second);
+        verify(delegate, times(2)).findAllByIds(List.of(2L));
+        assertNull(cachingAuthService.cache().getIfPresent(2L));
+    }
+
+    @Test
+    @DisplayName("findAllByIds: Owners found in a batch should be served from the cache afterwards")
+    void findAllByIds_FoundInBatch_CachedForFindById() {
+        // GIVEN
+        when(delegate.findAllByIds(List.of(1L))).thenReturn(Map.of(1L, owner));
+
+        // WHEN
+        cachingAuthService.findAllByIds(List.of(1L));
+        Optional<User> cached = cachingAuthService.findById(1L);
+
+        // THEN
+        assertEquals(Optional.of(owner), cached);
+        verify(delegate, never()).findById(1L);
+    }
+}
@@ -0,0 +1,168 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter;
+
+import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedException;
+import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedNotFoundException;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.User;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HedgingAuthServiceImplTest {
+
+    @Mock
+    private AuthServiceImpl delegate;
+
+    private SimpleMeterRegistry registry;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        owner = User.builder()
+                .id(1L)
+                .name("Juan")
+                .lastName("Perez")
+                .roleName(MessageEnum.PROPIETARIO.getMessage())
+                .build();
+    }
+
+    @Test
+    @DisplayName("findById: Should send a hedge when the first lookup is slower than the hedge delay and return whichever answers first")
+    void findById_SlowFirstLookup_HedgeWins() {
+        // GIVEN
+        HedgingAuthServiceImpl hedgingAuthService = hedgingAuthService(policy(0, 10));
+        when(delegate.findByIdReactive(1L))
+                .thenReturn(Mono.just(owner).delayElement(Duration.ofSeconds(5)))
+                .thenReturn(Mono.just(owner));
+
+        // WHEN
+        long start = System.nanoTime();
+        Optional<User> result = hedgingAuthService.findById(1L);
+
+        // THEN
+        assertEquals(owner, result.orElseThrow());
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(2)) < 0);
+        assertEquals(1.0, registry.get(HedgingAuthServiceImpl.HEDGES_SENT_COUNTER).counter().count());
+        assertEquals(1.0, registry.get(HedgingAuthServiceImpl.HEDGES_WON_COUNTER).counter().count());
+    }
+
+    @Test
+    @DisplayName("findById: Should not hedge when the first lookup answers within the delay, and adapt the delay to recent latencies")
+    void findById_FastLookups_NoHedgeAndDelayAdapts() {
+        // GIVEN
+        HedgingAuthServiceImpl hedgingAuthService = hedgingAuthService(policy(0, 10));
+        when(delegate.findByIdReactive(1L)).thenReturn(Mono.just(owner));
+
+        // WHEN: una ventana completa más un recálculo, así las primeras consultas (en frío) ya salieron de la ventana
+        int lookups = HedgingAuthServiceImpl.LATENCY_WINDOW + LatencyPercentileTracker.RECOMPUTE_EVERY;
+        for (int i = 0; i < lookups; i++) {
+            hedgingAuthService.findById(1L);
+        }
+
+        // THEN
+        assertEquals(0.0, registry.get(HedgingAuthServiceImpl.HEDGES_SENT_COUNTER).counter().count());
+        assertEquals(Duration.ofMillis(5), hedgingAuthService.hedgeDelay());
+        verify(delegate, times(lookups)).findByIdReactive(1L);
+    }
+
+    @Test
+    @DisplayName("findById: Should retry 5xx failures with backoff and return the later success")
+    void findById_ServerErrorThenSuccess_Retried() {
+        // GIVEN
+        HedgingAuthServiceImpl hedgingAuthService = hedgingAuthService(policy(2, 10));
+        when(delegate.findByIdReactive(1L))
+                .thenReturn(Mono.error(new PersonalizedException(MessageEnum.ERROR_5XX.getMessage())))
+                .thenReturn(Mono.just(owner));
+
+        // WHEN
+        Optional<User> result = hedgingAuthService.findById(1L);
+
+        // THEN
+        assertEquals(owner, result.orElseThrow());
+        assertEquals(1.0, registry.get(HedgingAuthServiceImpl.RETRIES_COUNTER).counter().count());
+        assertEquals(0.0, registry.get(HedgingAuthServiceImpl.HEDGES_SENT_COUNTER).counter().count());
+    }
+
+    @Test
+    @DisplayName("findById: Should never retry 4xx owner-not-found replies")
+    void findById_OwnerNotFound_NotRetried() {
+        // GIVEN
+        HedgingAuthServiceImpl hedgingAuthService = hedgingAuthService(policy(2, 10));
+        when(delegate.findByIdReactive(7L))
+                .thenReturn(Mono.error(new PersonalizedNotFoundException(MessageEnum.ERROR_4XX.getMessage())));
+
+        // WHEN & THEN
+        assertThrows(PersonalizedNotFoundException.class, () -> hedgingAuthService.findById(7L));
+        verify(delegate, times(1)).findByIdReactive(7L);
+    }
+
+    @Test
+    @DisplayName("findById: Should stop retrying once the global retry budget is spent")
+    void findById_BudgetExhausted_FailsWithoutRetry() {
+        // GIVEN
+        HedgingAuthServiceImpl hedgingAuthService = hedgingAuthService(policy(2, 1));
+        when(delegate.findByIdReactive(1L))
+                .thenReturn(Mono.error(new PersonalizedException(MessageEnum.ERROR_5XX.getMessage())));
+
+        // WHEN
+        assertThrows(PersonalizedException.class, () -> hedgingAuthService.findById(1L));
+        PersonalizedException exception = assertThrows(PersonalizedException.class,
+                () -> hedgingAuthService.findById(1L));
+
+        // THEN
+        assertEquals(MessageEnum.ERROR_5XX.getMessage(), exception.getMessage());
+        // Una sola ficha: un reintento en total entre las dos consultas
+        verify(delegate, times(3)).findByIdReactive(1L);
+        assertEquals(1.0, registry.get(HedgingAuthServiceImpl.RETRIES_COUNTER).counter().count());
+    }
+
+    @Test
+    @DisplayName("findById: Should need a bulkhead permit for the hedge, and keep waiting for the original when none is free")
+    void findById_HedgeWithoutBulkheadPermit_NotSent() {
+        // GIVEN
+        ResilientAuthServiceImpl resilientAuthService = new ResilientAuthServiceImpl(delegate,
+                CircuitBreakerConfig.ofDefaults(),
+                BulkheadConfig.custom().maxConcurrentCalls(1).maxWaitDuration(Duration.ZERO).build());
+        HedgingAuthServiceImpl hedgingAuthService = new HedgingAuthServiceImpl(resilientAuthService,
+                policy(0, 10), registry);
+        when(delegate.findByIdReactive(1L)).thenReturn(Mono.just(owner).delayElement(Duration.ofMillis(300)));
+
+        // WHEN
+        Optional<User> result = hedgingAuthService.findById(1L);
+
+        // THEN
+        assertEquals(owner, result.orElseThrow());
+        assertEquals(1.0, registry.get(HedgingAuthServiceImpl.HEDGES_SENT_COUNTER).counter().count());
+        assertEquals(0.0, registry.get(HedgingAuthServiceImpl.HEDGES_WON_COUNTER).counter().count());
+        verify(delegate, times(1)).findByIdReactive(1L);
+    }
+
+    private HedgingAuthServiceImpl hedgingAuthService(HedgingAuthServiceImpl.Policy policy) {
+        return new HedgingAuthServiceImpl(delegate, policy, registry);
+    }
+
+    private HedgingAuthServiceImpl.Policy policy(int maxRetries, int retryBudgetMaxTokens) {
+        return new HedgingAuthServiceImpl.Policy(maxRetries, Duration.ofMillis(1), Duration.ofMillis(5), 95,
+                Duration.ofMillis(100), Duration.ofMillis(5), 0.0, retryBudgetMaxTokens);
+    }
+}
@@ -0,0 +1,175 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter;
+
+import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedException;
+import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedNotFoundException;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.User;
+import com.pragma.plazadecomidas.restaurantservice.domain.spi.IAuthService;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ResilientAuthServiceImplTest {
+
+    @Mock
+    private IAuthService delegate;
+
+    private ResilientAuthServiceImpl resilientAuthService;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        resilientAuthService = new ResilientAuthServiceImpl(delegate, circuitBreakerConfig(), bulkheadConfig(2));
+
+        owner = User.builder()
+                .id(1L)
+                .name("Juan")
+                .lastName("Perez")
+                .roleName(MessageEnum.PROPIETARIO.getMessage())
+                .build();
+    }
+
+    @Test
+    @DisplayName("findById: Should open the circuit once the failure rate is reached and then fail fast with ERROR_5XX")
+    void findById_FailureRateReached_OpensAndFailsFast() {
+        // GIVEN
+        when(delegate.findById(1L)).thenThrow(new PersonalizedException(MessageEnum.ERROR_5XX.getMessage()));
+        for (int i = 0; i < 4; i++) {
+            assertThrows(PersonalizedException.class, () -> resilientAuthService.findById(1L));
+        }
+
+        // WHEN
+        PersonalizedException exception = assertThrows(PersonalizedException.class,
+                () -> resilientAuthService.findById(1L));
+
+        // THEN
+        assertEquals(MessageEnum.ERROR_5XX.getMessage(), exception.getMessage());
+        assertEquals(CircuitBreaker.State.OPEN, resilientAuthService.state());
+        verify(delegate, times(4)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("findByIdReactive: Should open the circuit shared with the blocking lookup and then fail fast")
+    void findByIdReactive_FailureRateReached_OpensSharedCircuit() {
+        // GIVEN
+        when(delegate.findById(1L)).thenThrow(new PersonalizedException(MessageEnum.ERROR_5XX.getMessage()));
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(resilientAuthService.findByIdReactive(1L))
+                    .expectError(PersonalizedException.class)
+                    .verify();
+        }
+
+        // WHEN & THEN
+        assertEquals(CircuitBreaker.State.OPEN, resilientAuthService.state());
+        assertThrows(PersonalizedException.class, () -> resilientAuthService.findById(1L));
+        StepVerifier.create(resilientAuthService.findByIdReactive(1L))
+                .expectErrorMessage(MessageEnum.ERROR_5XX.getMessage())
+                .verify();
+        verify(delegate, times(4)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("findById: Should not count 4xx owner-not-found replies as failures")
+    void findById_OwnerNotFound_KeepsCircuitClosed() {
+        // GIVEN
+        when(delegate.findById(7L)).thenThrow(new PersonalizedNotFoundException(MessageEnum.ERROR_4XX.getMessage()));
+
+        // WHEN
+        for (int i = 0; i < 6; i++) {
+            assertThrows(PersonalizedNotFoundException.class, () -> resilientAuthService.findById(7L));
+        }
+
+        // THEN
+        assertEquals(CircuitBreaker.State.CLOSED, resilientAuthService.state());
+        verify(delegate, times(6)).findById(7L);
+    }
+
+    @Test
+    @DisplayName("findById: Should reject calls beyond the bulkhead limit with ERROR_5XX without reaching the Auth Service")
+    void findById_BulkheadFull_RejectsImmediately() throws Exception {
+        // GIVEN
+        resilientAuthService = new ResilientAuthServiceImpl(delegate, circuitBreakerConfig(), bulkheadConfig(1));
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findById(1L)).thenAnswer(invocation -> {
+            inFlight.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(owner);
+        });
+        CompletableFuture<Optional<User>> first = CompletableFuture.supplyAsync(() -> resilientAuthService.findById(1L));
+        assertTrue(inFlight.await(5, TimeUnit.SECONDS));
+
+        // WHEN
+        PersonalizedException exception = assertThrows(PersonalizedException.class,
+                () -> resilientAuthService.findById(1L));
+        release.countDown();
+
+        // THEN
+        assertEquals(MessageEnum.ERROR_5XX.getMessage(), exception.getMessage());
+        assertEquals(owner, first.get(5, TimeUnit.SECONDS).orElseThrow());
+        assertEquals(CircuitBreaker.State.CLOSED, resilientAuthService.state());
+        verify(delegate, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("bindTo: Should publish circuit breaker state and count state transitions")
+    void bindTo_StateTransition_CountedInRegistry() {
+        // GIVEN
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        resilientAuthService.bindTo(registry);
+
+        // WHEN
+        resilientAuthService.circuitBreaker().transitionToOpenState();
+
+        // THEN
+        assertEquals(1.0, registry.get(ResilientAuthServiceImpl.TRANSITIONS_COUNTER)
+                .tag("from", "CLOSED")
+                .tag("to", "OPEN")
+                .counter()
+                .count());
+        assertEquals(1.0, registry.get("resilience4j.circuitbreaker.state")
+                .tag("name", ResilientAuthServiceImpl.INSTANCE_NAME)
+                .tag("state", "open")
+                .gauge()
+                .value());
+    }
+
+    private CircuitBreakerConfig circuitBreakerConfig() {
+        return CircuitBreakerConfig.custom()
+                .failureRateThreshold(50)
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .build();
+    }
+
+    private BulkheadConfig bulkheadConfig(int maxConcurrentCalls) {
+        return BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter;
+
+import com.pragma.plazadecomidas.restaurantservice.domain.model.Restaurant;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RestaurantCacheTest {
+
+    private RestaurantCache restaurantCache;
+
+    private Restaurant restaurant;
+
+    private final AtomicInteger databaseReads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        restaurantCache = new RestaurantCache(100, Duration.ofMinutes(10));
+        restaurant = Restaurant.builder()
+                .id(1L)
+                .name("Mi Restaurante")
+                .nit("123456789")
+                .ownerId(10L)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("get: Should load a restaurant once and serve repeated reads from memory")
+    void get_RepeatedReads_LoadOnce() {
+        // WHEN
+        Optional<Restaurant> first = restaurantCache.get(1L, this::loadFromDatabase);
+        Optional<Restaurant> second = restaurantCache.get(1L, this::loadFromDatabase);
+
+        // THEN
+        assertEquals(restaurant, first.orElseThrow());
+        assertEquals(restaurant, second.orElseThrow());
+        assertNotSame(first.get(), second.get());
+        assertEquals(1, databaseReads.get());
+        assertEquals(1, restaurantCache.stats().hitCount());
+    }
+
+    @Test
+    @DisplayName("get: Should not cache unknown IDs so a restaurant created later is found")
+    void get_UnknownId_NotCached() {
+        // WHEN
+        restaurantCache.get(2L, this::loadFromDatabase);
+        restaurantCache.get(2L, this::loadFromDatabase);
+
+        // THEN
+        assertEquals(2, databaseReads.get());
+        assertEquals(0, restaurantCache.estimatedSize());
+    }
+
+    @Test
+    @DisplayName("putAfterCommit: Should refresh the entry only once the surrounding transaction commits")
+    void putAfterCommit_ActiveTransaction_WaitsForCommit() {
+        // GIVEN
+        TransactionSynchronizationManager.initSynchronization();
+        Restaurant renamed = restaurant.toBuilder().name("Nuevo Nombre").build();
+
+        // WHEN
+        restaurantCache.putAfterCommit(List.of(renamed));
+
+        // THEN
+        assertEquals(0, restaurantCache.estimatedSize());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals("Nuevo Nombre", restaurantCache.get(1L, this::loadFromDatabase).orElseThrow().getName());
+        assertEquals(0, databaseReads.get());
+    }
+
+    @Test
+    @DisplayName("bindTo: Should export hit ratio and size metrics tagged with the cache name")
+    void bindTo_RegistersCacheMetrics() {
+        // GIVEN
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        restaurantCache.bindTo(registry);
+        restaurantCache.get(1L, this::loadFromDatabase);
+        restaurantCache.get(1L, this::loadFromDatabase);
+
+        // WHEN & THEN
+        assertEquals(0.5, registry.get("cache.hit.ratio").tag("cache", RestaurantCache.CACHE_NAME).gauge().value());
+        assertEquals(1.0, registry.get("cache.size").tag("cache", RestaurantCache.CACHE_NAME).gauge().value());
+        assertTrue(registry.get("cache.gets").tag("result", "hit").functionCounter().count() >= 1);
+    }
+
+    private Optional<Restaurant> loadFromDatabase(Long id) {
+        databaseReads.incrementAndGet();
+        return id.equals(restaurant.getId()) ? Optional.of(restaurant) : Optional.empty();
+    }
+}
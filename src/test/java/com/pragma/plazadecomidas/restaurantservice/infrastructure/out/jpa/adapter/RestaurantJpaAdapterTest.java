@@ -1,25 +1,48 @@
 package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter;
 
 
+import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedException;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
 import com.pragma.plazadecomidas.restaurantservice.domain.model.Restaurant;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.metrics.RestaurantMetrics;
 import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.entity.RestaurantEntity;
 import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.mapper.IRestaurantEntityMapper;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.projection.RestaurantSummaryView;
 import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.repository.IRestaurantRepository;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.never;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,6 +55,23 @@ class RestaurantJpaAdapterTest {
     @Mock
     private IRestaurantEntityMapper restaurantEntityMapper;
 
+    @Mock
+    private RestaurantCache restaurantCache;
+
+    @Mock
+    private RestaurantOutbox restaurantOutbox;
+
+    @Mock
+    private RestaurantNameIndex restaurantNameIndex;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private RestaurantMetrics restaurantMetrics = new RestaurantMetrics(meterRegistry);
+
     @InjectMocks
     private RestaurantJpaAdapter restaurantJpaAdapter;
 
@@ -69,7 +109,7 @@ class RestaurantJpaAdapterTest {
         // Cuando el mapper convierta de dominio a entidad, devuelve nuestra entidad mock
         when(restaurantEntityMapper.toRestaurantEntity(restaurantDomain)).thenReturn(restaurantEntity);
         // Cuando el repositorio guarde la entidad, devuelve la entidad mock guardada
-        when(restaurantRepository.save(restaurantEntity)).thenReturn(restaurantEntity);
+        when(restaurantRepository.saveAndFlush(restaurantEntity)).thenReturn(restaurantEntity);
         // Cuando el mapper convierta de entidad a dominio, devuelve nuestro dominio mock
         when(restaurantEntityMapper.toRestaurant(restaurantEntity)).thenReturn(restaurantDomain);
 
@@ -82,75 +122,173 @@ class RestaurantJpaAdapterTest {
         assertEquals(restaurantDomain.getNit(), savedRestaurant.getNit());
         assertEquals(restaurantDomain.getId(), savedRestaurant.getId()); // Verifica el ID si es asignado en el save
         verify(restaurantEntityMapper).toRestaurantEntity(restaurantDomain); // Verifica que el mapeo de entrada fue llamado
-        verify(restaurantRepository).save(restaurantEntity); // Verifica que el save del repositorio fue llamado
+        verify(restaurantCache).putAfterCommit(List.of(restaurantDomain));
+        verify(restaurantOutbox).recordCreated(List.of(restaurantEntity));
+        verify(restaurantNameIndex).addAfterCommit(List.of(restaurantDomain));
+        verify(restaurantRepository).saveAndFlush(restaurantEntity); // Verifica que el save del repositorio fue llamado
         verify(restaurantEntityMapper).toRestaurant(restaurantEntity); // Verifica que el mapeo de salida fue llamado
+        assertEquals(1, stageCount(RestaurantMetrics.STAGE_INSERT));
     }
 
     @Test
-    @DisplayName("findByName: Should return Optional with Restaurant if found")
-    void findByName_RestaurantFound_ReturnsOptionalOfRestaurant() {
+    @DisplayName("save: Should translate a name unique-constraint violation into RESTAURANT_NAME_EXISTS")
+    void save_NameConstraintViolated_ThrowsNameExists() {
         // GIVEN
-        String name = "Mi Restaurante";
-        when(restaurantRepository.findByName(name)).thenReturn(Optional.of(restaurantEntity));
-        when(restaurantEntityMapper.toRestaurant(restaurantEntity)).thenReturn(restaurantDomain);
+        when(restaurantEntityMapper.toRestaurantEntity(restaurantDomain)).thenReturn(restaurantEntity);
+        when(restaurantRepository.saveAndFlush(restaurantEntity)).thenThrow(uniqueViolation("PUBLIC.UK_RESTAURANTS_NAME_INDEX_A"));
 
-        // WHEN
-        Optional<Restaurant> foundRestaurant = restaurantJpaAdapter.findByName(name);
+        // WHEN & THEN
+        PersonalizedException exception = assertThrows(PersonalizedException.class,
+                () -> restaurantJpaAdapter.save(restaurantDomain));
+        assertEquals(String.format(MessageEnum.RESTAURANT_NAME_EXISTS.getMessage(), restaurantDomain.getName()), exception.getMessage());
+    }
 
-        // THEN
-        assertTrue(foundRestaurant.isPresent());
-        assertEquals(restaurantDomain.getName(), foundRestaurant.get().getName());
-        verify(restaurantRepository).findByName(name);
-        verify(restaurantEntityMapper).toRestaurant(restaurantEntity);
+    @Test
+    @DisplayName("save: Should translate a NIT unique-constraint violation into RESTAURANT_NIT_EXISTS")
+    void save_NitConstraintViolated_ThrowsNitExists() {
+        // GIVEN
+        when(restaurantEntityMapper.toRestaurantEntity(restaurantDomain)).thenReturn(restaurantEntity);
+        when(restaurantRepository.saveAndFlush(restaurantEntity)).thenThrow(uniqueViolation("restaurants.uk_restaurants_nit"));
+
+        // WHEN & THEN
+        PersonalizedException exception = assertThrows(PersonalizedException.class,
+                () -> restaurantJpaAdapter.save(restaurantDomain));
+        assertEquals(MessageEnum.RESTAURANT_NIT_EXISTS.getMessage(), exception.getMessage());
     }
 
     @Test
-    @DisplayName("findByName: Should return Optional.empty if not found")
-    void findByName_RestaurantNotFound_ReturnsEmptyOptional() {
+    @DisplayName("save: Should fall back to the duplicated value when the unique key keeps a generated name")
+    void save_GeneratedConstraintName_ResolvesByDuplicatedValue() {
         // GIVEN
-        String name = "Restaurante No Existente";
-        when(restaurantRepository.findByName(name)).thenReturn(Optional.empty());
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("duplicate", new SQLException(
+                        "Duplicate entry '" + restaurantDomain.getNit() + "' for key 'restaurants.UKhx8e2l0ymcvw3v7b4pt1d9h9'"),
+                        "restaurants.UKhx8e2l0ymcvw3v7b4pt1d9h9"));
+        when(restaurantEntityMapper.toRestaurantEntity(restaurantDomain)).thenReturn(restaurantEntity);
+        when(restaurantRepository.saveAndFlush(restaurantEntity)).thenThrow(violation);
 
-        // WHEN
-        Optional<Restaurant> foundRestaurant = restaurantJpaAdapter.findByName(name);
+        // WHEN & THEN
+        PersonalizedException exception = assertThrows(PersonalizedException.class,
+                () -> restaurantJpaAdapter.save(restaurantDomain));
+        assertEquals(MessageEnum.RESTAURANT_NIT_EXISTS.getMessage(), exception.getMessage());
+    }
 
-        // THEN
-        assertFalse(foundRestaurant.isPresent());
-        verify(restaurantRepository).findByName(name);
-        verify(restaurantEntityMapper, never()).toRestaurant(any(RestaurantEntity.class)); // Mapper no debe ser llamado
+    @Test
+    @DisplayName("save: Should rethrow integrity violations that are not a restaurant unique constraint")
+    void save_OtherIntegrityViolation_Rethrows() {
+        // GIVEN
+        DataIntegrityViolationException violation = uniqueViolation("fk_something_else");
+        when(restaurantEntityMapper.toRestaurantEntity(restaurantDomain)).thenReturn(restaurantEntity);
+        when(restaurantRepository.saveAndFlush(restaurantEntity)).thenThrow(violation);
+
+        // WHEN & THEN
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class,
+                () -> restaurantJpaAdapter.save(restaurantDomain)));
     }
 
     @Test
-    @DisplayName("findByNit: Should return Optional with Restaurant if found")
-    void findByNit_RestaurantFound_ReturnsOptionalOfRestaurant() {
+    @DisplayName("saveAll: Should save every restaurant through one repository call and flush the batch")
+    void saveAll_ValidRestaurants_ReturnsSavedRestaurants() {
         // GIVEN
-        String nit = "123456789";
-        when(restaurantRepository.findByNit(nit)).thenReturn(Optional.of(restaurantEntity));
+        when(restaurantEntityMapper.toRestaurantEntity(restaurantDomain)).thenReturn(restaurantEntity);
+        when(restaurantRepository.saveAll(List.of(restaurantEntity))).thenReturn(List.of(restaurantEntity));
         when(restaurantEntityMapper.toRestaurant(restaurantEntity)).thenReturn(restaurantDomain);
 
         // WHEN
-        Optional<Restaurant> foundRestaurant = restaurantJpaAdapter.findByNit(nit);
+        List<Restaurant> saved = restaurantJpaAdapter.saveAll(List.of(restaurantDomain));
 
         // THEN
-        assertTrue(foundRestaurant.isPresent());
-        assertEquals(restaurantDomain.getNit(), foundRestaurant.get().getNit());
-        verify(restaurantRepository).findByNit(nit);
-        verify(restaurantEntityMapper).toRestaurant(restaurantEntity);
+        assertEquals(List.of(restaurantDomain), saved);
+        verify(restaurantRepository).flush();
+        verify(restaurantCache).putAfterCommit(List.of(restaurantDomain));
+        verify(restaurantOutbox).recordCreated(List.of(restaurantEntity));
+    }
+
+    @Test
+    @DisplayName("saveAll: Should translate a unique-constraint violation into RESTAURANT_BATCH_CONFLICT")
+    void saveAll_ConstraintViolated_ThrowsBatchConflict() {
+        // GIVEN
+        when(restaurantEntityMapper.toRestaurantEntity(restaurantDomain)).thenReturn(restaurantEntity);
+        when(restaurantRepository.saveAll(List.of(restaurantEntity))).thenReturn(List.of(restaurantEntity));
+        doThrow(uniqueViolation("uk_restaurants_nit")).when(restaurantRepository).flush();
+
+        // WHEN & THEN
+        PersonalizedException exception = assertThrows(PersonalizedException.class,
+                () -> restaurantJpaAdapter.saveAll(List.of(restaurantDomain)));
+        assertEquals(MessageEnum.RESTAURANT_BATCH_CONFLICT.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("findExistingNames: Should not query the database for an empty set of names")
+    void findExistingNames_EmptyInput_ReturnsEmptySet() {
+        // WHEN & THEN
+        assertEquals(Set.of(), restaurantJpaAdapter.findExistingNames(Set.of()));
+        verifyNoInteractions(restaurantRepository);
     }
 
     @Test
-    @DisplayName("findByNit: Should return Optional.empty if not found")
-    void findByNit_RestaurantNotFound_ReturnsEmptyOptional() {
+    @DisplayName("findPageOrderedByName: Should seek past the cursor name only when one is given")
+    void findPageOrderedByName_WithAndWithoutCursor_UsesKeysetQueries() {
         // GIVEN
-        String nit = "999999999";
-        when(restaurantRepository.findByNit(nit)).thenReturn(Optional.empty());
+        RestaurantSummaryView view = mock(RestaurantSummaryView.class);
+        Restaurant summary = Restaurant.builder().name("Mi Restaurante").urlLogo("http://logo.com/mi_restaurante.png").build();
+        when(restaurantRepository.findAllByOrderByNameAsc(Limit.of(3))).thenReturn(List.of(view));
+        when(restaurantRepository.findByNameGreaterThanOrderByNameAsc("Alfa", Limit.of(3))).thenReturn(List.of());
+        when(restaurantEntityMapper.toRestaurant(view)).thenReturn(summary);
+
+        // WHEN & THEN
+        assertEquals(List.of(summary), restaurantJpaAdapter.findPageOrderedByName(null, 3));
+        assertTrue(restaurantJpaAdapter.findPageOrderedByName("Alfa", 3).isEmpty());
+    }
+
+    @Test
+    @DisplayName("findById: Should read through the restaurant cache, loading from the repository on a miss")
+    void findById_CacheMiss_LoadsFromRepository() {
+        // GIVEN
+        when(restaurantCache.get(anyLong(), any())).thenAnswer(invocation -> {
+            Function<Long, Optional<Restaurant>> loader = invocation.getArgument(1);
+            return loader.apply(invocation.getArgument(0));
+        });
+        when(restaurantRepository.findById(1L)).thenReturn(Optional.of(restaurantEntity));
+        when(restaurantEntityMapper.toRestaurant(restaurantEntity)).thenReturn(restaurantDomain);
+
+        // WHEN & THEN
+        assertEquals(Optional.of(restaurantDomain), restaurantJpaAdapter.findById(1L));
+    }
+
+    @Test
+    @DisplayName("forEachRestaurant: Should map every streamed entity, detach it once delivered and close the stream")
+    void forEachRestaurant_StreamedEntities_DetachedAndClosed() {
+        // GIVEN
+        RestaurantEntity secondEntity = restaurantEntity.toBuilder().id(2L).name("Otro").build();
+        Restaurant secondDomain = restaurantDomain.toBuilder().id(2L).name("Otro").build();
+        AtomicBoolean closed = new AtomicBoolean();
+        when(restaurantRepository.streamAllByOrderByIdAsc())
+                .thenReturn(Stream.of(restaurantEntity, secondEntity).onClose(() -> closed.set(true)));
+        when(restaurantEntityMapper.toRestaurant(restaurantEntity)).thenReturn(restaurantDomain);
+        when(restaurantEntityMapper.toRestaurant(secondEntity)).thenReturn(secondDomain);
+        List<Restaurant> exported = new ArrayList<>();
 
         // WHEN
-        Optional<Restaurant> foundRestaurant = restaurantJpaAdapter.findByNit(nit);
+        restaurantJpaAdapter.forEachRestaurant(exported::add);
 
         // THEN
-        assertFalse(foundRestaurant.isPresent());
-        verify(restaurantRepository).findByNit(nit);
-        verify(restaurantEntityMapper, never()).toRestaurant(any(RestaurantEntity.class)); // Mapper no debe ser llamado
+        assertEquals(List.of(restaurantDomain, secondDomain), exported);
+        verify(entityManager).detach(restaurantEntity);
+        verify(entityManager).detach(secondEntity);
+        assertTrue(closed.get());
+    }
+
+    private DataIntegrityViolationException uniqueViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("duplicate", new SQLException("duplicate"), constraintName));
+    }
+
+    private long stageCount(String stage) {
+        return meterRegistry.find(RestaurantMetrics.STAGE_TIMER)
+                .tag(RestaurantMetrics.TAG_STAGE, stage)
+                .timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,192 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter;
+
+import com.pragma.plazadecomidas.restaurantservice.domain.model.Restaurant;
+import com.pragma.plazadecomidas.restaurantservice.domain.util.NameSimilarity;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.projection.RestaurantSummaryView;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.repository.IRestaurantRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RestaurantNameIndexTest {
+
+    @Mock
+    private IRestaurantRepository restaurantRepository;
+
+    private RestaurantNameIndex restaurantNameIndex;
+
+    @BeforeEach
+    void setUp() {
+        restaurantNameIndex = new RestaurantNameIndex(restaurantRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("search: Should list names starting with the query first, then names with a word starting with it")
+    void search_PartialName_PrefixMatchesFirst() {
+        // GIVEN
+        when(restaurantRepository.findAllByOrderByNameAsc(Limit.of(RestaurantNameIndex.LOAD_PAGE_SIZE)))
+                .thenReturn(views("Asadero La Carreta", "Carrera 7", "carretera Sur", "Pizzería Roma"));
+        restaurantNameIndex.rebuild();
+
+        // WHEN
+        List<String> carr = names(restaurantNameIndex.search("  CARR ", 10));
+        List<String> laCarr = names(restaurantNameIndex.search("la carr", 10));
+        List<String> limited = names(restaurantNameIndex.search("carr", 2));
+
+        // THEN
+        assertEquals(List.of("Carrera 7", "carretera Sur", "Asadero La Carreta"), carr);
+        assertEquals(List.of("Asadero La Carreta"), laCarr);
+        assertEquals(List.of("Carrera 7", "carretera Sur"), limited);
+        assertTrue(restaurantNameIndex.search("sushi", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("search: Should ignore accents and case, then fill the remaining slots with the closest misspelled names")
+    void search_AccentsAndTypos_FoldedAndFuzzyMatches() {
+        // GIVEN
+        when(restaurantRepository.findAllByOrderByNameAsc(Limit.of(RestaurantNameIndex.LOAD_PAGE_SIZE)))
+                .thenReturn(views("Cafe Nino", "Café Niño", "Pizzería Roma", "Pizzas del Puerto"));
+        restaurantNameIndex.rebuild();
+
+        // WHEN
+        List<String> cafe = names(restaurantNameIndex.search("CAFÉ niño", 10));
+        List<String> pizeria = names(restaurantNameIndex.search("pizeria", 10));
+
+        // THEN
+        assertEquals(List.of("Cafe Nino", "Café Niño"), cafe);
+        assertEquals(List.of("Pizzería Roma"), pizeria);
+        assertEquals(4, restaurantNameIndex.size());
+    }
+
+    @Test
+    @DisplayName("findSimilarNames: Should return the names above the threshold, most similar first")
+    void findSimilarNames_NearDuplicates_RankedBySimilarity() {
+        // GIVEN
+        when(restaurantRepository.findAllByOrderByNameAsc(Limit.of(RestaurantNameIndex.LOAD_PAGE_SIZE)))
+                .thenReturn(views("Café Niño", "Pizzería Roma", "Pizzería Romana", "Sushi Bar"));
+        restaurantNameIndex.rebuild();
+
+        // WHEN
+        List<String> similar = restaurantNameIndex.findSimilarNames("pizeria roma", 0.6, 5);
+        List<String> exact = restaurantNameIndex.findSimilarNames("CAFE NINO", 0.6, 5);
+
+        // THEN
+        assertEquals(List.of("Pizzería Roma", "Pizzería Romana"), similar);
+        assertEquals(List.of("Café Niño"), exact);
+        assertTrue(restaurantNameIndex.findSimilarNames("Asadero", 0.6, 5).isEmpty());
+    }
+
+    @Test
+    @DisplayName("findSimilarNames: Pruned candidates and the bounded top-k should match scoring every name")
+    void findSimilarNames_ManyCandidates_SameTopKAsExhaustiveScoring() {
+        // GIVEN
+        String[] prefixes = {"Pizzería", "Pizeria", "Pizza", "Asadero", "Café", "Cafetería", "Sushi"};
+        String[] suffixes = {"Roma", "Romana", "Romano", "del Puerto", "La Carreta", "Niño", "Norte", "Sur"};
+        List<String> registered = Arrays.stream(prefixes)
+                .flatMap(prefix -> Arrays.stream(suffixes).map(suffix -> prefix + " " + suffix))
+                .toList();
+        when(restaurantRepository.findAllByOrderByNameAsc(Limit.of(RestaurantNameIndex.LOAD_PAGE_SIZE)))
+                .thenReturn(views(registered.toArray(String[]::new)));
+        restaurantNameIndex.rebuild();
+
+        for (String query : List.of("pizeria roma", "cafe nino", "asadero carreta", "sushi")) {
+            for (double minSimilarity : new double[]{0.3, 0.5, 0.6, 0.8}) {
+                // WHEN
+                List<String> similar = restaurantNameIndex.findSimilarNames(query, minSimilarity, 5);
+
+                // THEN
+                List<String> exhaustive = registered.stream()
+                        .filter(name -> NameSimilarity.similarity(query, name) >= minSimilarity)
+                        .sorted(Comparator.comparingDouble((String name) -> NameSimilarity.similarity(query, name))
+                                .reversed()
+                                .thenComparing(NameSimilarity::fold))
+                        .limit(5)
+                        .toList();
+                assertEquals(exhaustive, similar, query + " @ " + minSimilarity);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("rebuild: Should page through the repository with the keyset listing queries")
+    void rebuild_SeveralPages_LoadsEveryName() {
+        // GIVEN
+        int pageSize = RestaurantNameIndex.LOAD_PAGE_SIZE;
+        List<RestaurantSummaryView> firstPage = views(IntStream.range(0, pageSize)
+                .mapToObj(i -> String.format("Restaurante %04d", i)).toArray(String[]::new));
+        when(restaurantRepository.findAllByOrderByNameAsc(Limit.of(pageSize))).thenReturn(firstPage);
+        when(restaurantRepository.findByNameGreaterThanOrderByNameAsc(
+                String.format("Restaurante %04d", pageSize - 1), Limit.of(pageSize)))
+                .thenReturn(views("Zeta"));
+
+        // WHEN
+        restaurantNameIndex.rebuild();
+
+        // THEN
+        assertEquals(pageSize + 1, restaurantNameIndex.size());
+        assertEquals(List.of("Zeta"), names(restaurantNameIndex.search("ze", 5)));
+        verify(restaurantRepository).findByNameGreaterThanOrderByNameAsc(
+                String.format("Restaurante %04d", pageSize - 1), Limit.of(pageSize));
+    }
+
+    @Test
+    @DisplayName("addAfterCommit: Should make a new name searchable only after its transaction commits")
+    void addAfterCommit_ActiveTransaction_AddsOnCommit() {
+        // GIVEN
+        TransactionSynchronizationManager.initSynchronization();
+        Restaurant restaurant = Restaurant.builder().name("Nuevo Sabor").urlLogo("http://logo.com/n.png").build();
+
+        // WHEN
+        restaurantNameIndex.addAfterCommit(List.of(restaurant));
+
+        // THEN
+        assertTrue(restaurantNameIndex.search("nuevo", 5).isEmpty());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(List.of("Nuevo Sabor"), names(restaurantNameIndex.search("sab", 5)));
+    }
+
+    private static List<RestaurantSummaryView> views(String... names) {
+        return Arrays.stream(names)
+                .map(name -> (RestaurantSummaryView) new RestaurantSummaryView() {
+                    @Override
+                    public String getName() {
+                        return name;
+                    }
+
+                    @Override
+                    public String getUrlLogo() {
+                        return "http://logo.com/" + name.length() + ".png";
+                    }
+                })
+                .toList();
+    }
+
+    private static List<String> names(List<Restaurant> restaurants) {
+        return restaurants.stream().map(Restaurant::getName).toList();
+    }
+}
@@ -0,0 +1,180 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.event.IRestaurantEventPublisher;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.event.OutboxMessage;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.event.RestaurantCreatedEvent;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.entity.OutboxEventEntity;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.entity.RestaurantEntity;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.repository.IOutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RestaurantOutboxTest {
+
+    @Mock
+    private IOutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private IRestaurantEventPublisher restaurantEventPublisher;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final Instant now = Instant.parse("2026-10-17T10:00:00Z");
+
+    private RestaurantOutbox restaurantOutbox;
+
+    @BeforeEach
+    void setUp() {
+        restaurantOutbox = new RestaurantOutbox(outboxEventRepository, objectMapper, restaurantEventPublisher,
+                meterRegistry, Clock.fixed(now, ZoneOffset.UTC), 3, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        restaurantOutbox.close();
+    }
+
+    @Test
+    @DisplayName("recordCreated: Should write one RestaurantCreated row per saved restaurant with its JSON payload")
+    @SuppressWarnings("unchecked")
+    void recordCreated_SavedRestaurants_WritesOutboxRows() throws Exception {
+        // GIVEN
+        RestaurantEntity restaurant = new RestaurantEntity(7L, "123456789", "Mi Restaurante", "Calle 1",
+                "+573001234567", "http://logo.com/r.png", 1L);
+        ArgumentCaptor<List<OutboxEventEntity>> rows = ArgumentCaptor.forClass(List.class);
+
+        // WHEN
+        restaurantOutbox.recordCreated(List.of(restaurant));
+
+        // THEN
+        verify(outboxEventRepository).saveAll(rows.capture());
+        OutboxEventEntity row = rows.getValue().get(0);
+        assertEquals(RestaurantCreatedEvent.EVENT_TYPE, row.getEventType());
+        assertEquals(7L, row.getAggregateId());
+        assertNull(row.getPublishedAt());
+        assertEquals(now, row.getCreatedAt());
+        assertEquals(new RestaurantCreatedEvent(7L, "Mi Restaurante", "123456789", "Calle 1", "+573001234567",
+                "http://logo.com/r.png", 1L), objectMapper.readValue(row.getPayload(), RestaurantCreatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("relay: Should mark published events and stop at the first failure, leaving it pending with one more attempt")
+    void relay_PublisherFails_StopsAndKeepsOrder() {
+        // GIVEN
+        OutboxEventEntity first = pending(1L);
+        OutboxEventEntity second = pending(2L);
+        OutboxEventEntity third = pending(3L);
+        when(outboxEventRepository.findByPublishedAtIsNullAndParkedAtIsNullOrderByIdAsc(Limit.of(10)))
+                .thenReturn(List.of(first, second, third));
+        doNothing().doThrow(new IllegalStateException("broker caído"))
+                .when(restaurantEventPublisher).publish(any(OutboxMessage.class));
+
+        // WHEN
+        int published = restaurantOutbox.relay(10);
+
+        // THEN
+        assertEquals(1, published);
+        assertEquals(now, first.getPublishedAt());
+        assertNull(second.getParkedAt());
+        assertNull(second.getPublishedAt());
+        assertEquals(1, second.getAttempts());
+        assertEquals("broker caído", second.getLastError());
+        assertNull(third.getPublishedAt());
+        verify(restaurantEventPublisher, times(2)).publish(any(OutboxMessage.class));
+        assertEquals(1.0, meterRegistry.get(RestaurantOutbox.PUBLISHED_COUNTER).counter().count());
+        assertEquals(1.0, meterRegistry.get(RestaurantOutbox.FAILURES_COUNTER).counter().count());
+    }
+
+    @Test
+    @DisplayName("relay: An event failing its last allowed attempt should be parked so the following ones are published")
+    void relay_MaxAttemptsReached_ParksEventAndContinues() {
+        // GIVEN
+        OutboxEventEntity poisoned = pending(1L).toBuilder().attempts(2).build();
+        OutboxEventEntity next = pending(2L);
+        when(outboxEventRepository.findByPublishedAtIsNullAndParkedAtIsNullOrderByIdAsc(Limit.of(10)))
+                .thenReturn(List.of(poisoned, next));
+        doThrow(new IllegalStateException("payload inválido")).doNothing()
+                .when(restaurantEventPublisher).publish(any(OutboxMessage.class));
+
+        // WHEN
+        int published = restaurantOutbox.relay(10);
+
+        // THEN
+        assertEquals(1, published);
+        assertEquals(3, poisoned.getAttempts());
+        assertEquals(now, poisoned.getParkedAt());
+        assertNull(poisoned.getPublishedAt());
+        assertEquals(now, next.getPublishedAt());
+        assertEquals(1.0, meterRegistry.get(RestaurantOutbox.PARKED_COUNTER).counter().count());
+    }
+
+    @Test
+    @DisplayName("relay: A publisher that does not answer within the timeout should count as a failure and end the batch")
+    void relay_PublisherHangs_TimesOutAndStops() {
+        // GIVEN
+        restaurantOutbox.close();
+        restaurantOutbox = new RestaurantOutbox(outboxEventRepository, objectMapper, restaurantEventPublisher,
+                meterRegistry, Clock.fixed(now, ZoneOffset.UTC), 3, Duration.ofMillis(100));
+        OutboxEventEntity first = pending(1L);
+        OutboxEventEntity second = pending(2L);
+        when(outboxEventRepository.findByPublishedAtIsNullAndParkedAtIsNullOrderByIdAsc(Limit.of(10)))
+                .thenReturn(List.of(first, second));
+        doAnswer(invocation -> {
+            Thread.sleep(Duration.ofSeconds(10));
+            return null;
+        }).when(restaurantEventPublisher).publish(any(OutboxMessage.class));
+
+        // WHEN
+        long start = System.nanoTime();
+        int published = restaurantOutbox.relay(10);
+
+        // THEN
+        assertEquals(0, published);
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(2)) < 0);
+        assertEquals(1, first.getAttempts());
+        assertEquals("El publicador no respondió en PT0.1S", first.getLastError());
+        assertNull(second.getPublishedAt());
+        verify(restaurantEventPublisher, times(1)).publish(any(OutboxMessage.class));
+        assertEquals(1.0, meterRegistry.get(RestaurantOutbox.FAILURES_COUNTER).counter().count());
+    }
+
+    private OutboxEventEntity pending(Long id) {
+        return OutboxEventEntity.builder()
+                .id(id)
+                .aggregateType(RestaurantCreatedEvent.AGGREGATE_TYPE)
+                .aggregateId(id)
+                .eventType(RestaurantCreatedEvent.EVENT_TYPE)
+                .payload("{}")
+                .createdAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,144 @@
+package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.adapter;
+
+import com.pragma.plazadecomidas.restaurantservice.domain.exception.PersonalizedException;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.MessageEnum;
+import com.pragma.plazadecomidas.restaurantservice.domain.model.User;
+import com.pragma.plazadecomidas.restaurantservice.domain.spi.IAuthService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SingleFlightAuthServiceImplTest {
+
+    private static final int CALLERS = 8;
+
+    @Mock
+    private IAuthService delegate;
+
+    private SimpleMeterRegistry registry;
+    private SingleFlightAuthServiceImpl singleFlightAuthService;
+    private ExecutorService executor;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        singleFlightAuthService = new SingleFlightAuthServiceImpl(delegate, registry);
+        executor = Executors.newFixedThreadPool(CALLERS);
+
+        owner = User.builder()
+                .id(1L)
+                .name("Juan")
+                .lastName("Perez")
+                .roleName(MessageEnum.PROPIETARIO.getMessage())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("findById: Concurrent lookups of the same owner should share one Auth Service call")
+    void findById_ConcurrentSameOwner_SingleDelegateCall() throws Exception {
+        // GIVEN
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findById(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(owner);
+        });
+
+        // WHEN
+        List<Future<Optional<User>>> results = submitCallers();
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        // THEN
+        for (Future<Optional<User>> result : results) {
+            assertEquals(owner, result.get(5, TimeUnit.SECONDS).orElseThrow());
+        }
+        verify(delegate, times(1)).findById(1L);
+        assertEquals(CALLERS - 1, registry.get(SingleFlightAuthServiceImpl.COALESCED_COUNTER).counter().count());
+    }
+
+    @Test
+    @DisplayName("findById: Every coalesced caller should receive the error of the shared call")
+    void findById_SharedCallFails_AllCallersReceiveError() throws Exception {
+        // GIVEN
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findById(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new PersonalizedException(MessageEnum.ERROR_5XX.getMessage());
+        });
+
+        // WHEN
+        List<Future<Optional<User>>> results = submitCallers();
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        // THEN
+        for (Future<Optional<User>> result : results) {
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(PersonalizedException.class, exception.getCause());
+            assertEquals(MessageEnum.ERROR_5XX.getMessage(), exception.getCause().getMessage());
+        }
+        verify(delegate, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("findById: Should not keep results once the call has finished")
+    void findById_SequentialLookups_EachReachesDelegate() {
+        // GIVEN
+        when(delegate.findById(1L)).thenReturn(Optional.of(owner));
+
+        // WHEN
+        singleFlightAuthService.findById(1L);
+        singleFlightAuthService.findById(1L);
+
+        // THEN
+        verify(delegate, times(2)).findById(1L);
+        assertEquals(0.0, registry.get(SingleFlightAuthServiceImpl.COALESCED_COUNTER).counter().count());
+    }
+
+    private List<Future<Optional<User>>> submitCallers() {
+        List<Future<Optional<User>>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlightAuthService.findById(1L)));
+        }
+        return results;
+    }
+
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get(SingleFlightAuthServiceImpl.COALESCED_COUNTER).counter().count() < expected) {
+            assertTrue(System.nanoTime() < deadline, "Las consultas no llegaron a agruparse");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.repository;
 
 import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.entity.RestaurantEntity;
+import com.pragma.plazadecomidas.restaurantservice.infrastructure.out.jpa.projection.RestaurantSummaryView;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,8 +10,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -123,54 +129,6 @@ class IRestaurantRepositoryTest {
         assertFalse(foundEntity.isPresent());
     }
 
-    @Test
-    @DisplayName("Should find a restaurant entity by name")
-    void findByName_ShouldReturnRestaurantEntity() {
-        // Given
-        RestaurantEntity persistedEntity = entityManager.persistAndFlush(restaurantEntity1);
-
-        // When
-        Optional<RestaurantEntity> foundEntity = restaurantRepository.findByName(persistedEntity.getName());
-
-        // Then
-        assertTrue(foundEntity.isPresent());
-        assertEquals(persistedEntity, foundEntity.get());
-    }
-
-    @Test
-    @DisplayName("Should return empty optional if restaurant entity not found by name")
-    void findByName_ShouldReturnEmptyOptional_WhenNotFound() {
-        // When
-        Optional<RestaurantEntity> foundEntity = restaurantRepository.findByName("NonExistentName");
-
-        // Then
-        assertFalse(foundEntity.isPresent());
-    }
-
-    @Test
-    @DisplayName("Should find a restaurant entity by NIT")
-    void findByNit_ShouldReturnRestaurantEntity() {
-        // Given
-        RestaurantEntity persistedEntity = entityManager.persistAndFlush(restaurantEntity1);
-
-        // When
-        Optional<RestaurantEntity> foundEntity = restaurantRepository.findByNit(persistedEntity.getNit());
-
-        // Then
-        assertTrue(foundEntity.isPresent());
-        assertEquals(persistedEntity, foundEntity.get());
-    }
-
-    @Test
-    @DisplayName("Should return empty optional if restaurant entity not found by NIT")
-    void findByNit_ShouldReturnEmptyOptional_WhenNotFound() {
-        // When
-        Optional<RestaurantEntity> foundEntity = restaurantRepository.findByNit("NonExistentNit");
-
-        // Then
-        assertFalse(foundEntity.isPresent());
-    }
-
     @Test
     @DisplayName("Should throw DataIntegrityViolationException when saving restaurant with duplicate name")
     void save_DuplicateName_ShouldThrowException() {
@@ -189,7 +147,7 @@ class IRestaurantRepositoryTest {
         // When & Then
         assertThrows(DataIntegrityViolationException.class, () -> {
             restaurantRepository.save(duplicateNameEntity);
-            entityManager.flush();
+            restaurantRepository.flush(); // Con SEQUENCE el INSERT se difiere hasta el flush
         });
     }
 
@@ -211,7 +169,96 @@ class IRestaurantRepositoryTest {
         // When & Then
         assertThrows(DataIntegrityViolationException.class, () -> {
             restaurantRepository.save(duplicateNitEntity);
-            entityManager.flush();
+            restaurantRepository.flush(); // Con SEQUENCE el INSERT se difiere hasta el flush
         });
     }
+
+    @Test
+    @DisplayName("Should return only the names and NITs that are already registered")
+    void findExistingNamesAndNits_ShouldReturnRegisteredValues() {
+        // Given
+        entityManager.persistAndFlush(restaurantEntity1);
+
+        // When & Then
+        assertEquals(Set.of(restaurantEntity1.getName()),
+                restaurantRepository.findExistingNames(List.of(restaurantEntity1.getName(), "Otro Nombre")));
+        assertEquals(Set.of(restaurantEntity1.getNit()),
+                restaurantRepository.findExistingNits(List.of(restaurantEntity1.getNit(), "000")));
+    }
+
+    @Test
+    @DisplayName("Should assign pooled sequence ids to every entity saved in a batch")
+    void saveAll_ShouldAssignSequenceIds() {
+        // Given
+        RestaurantEntity restaurantEntity2 = new RestaurantEntity(
+                null, "Restaurante Dos", "222222222", "Direccion 2", "3002222222", "http://logo2.png", 1L);
+
+        // When
+        List<RestaurantEntity> saved = restaurantRepository.saveAll(List.of(restaurantEntity1, restaurantEntity2));
+        restaurantRepository.flush();
+
+        // Then
+        assertNotNull(saved.get(0).getId());
+        assertEquals(saved.get(0).getId() + 1, saved.get(1).getId());
+    }
+
+    @Test
+    @DisplayName("Should page restaurants alphabetically by seeking past the last name of the previous page")
+    void findByNameGreaterThan_ShouldReturnNextKeysetPage() {
+        // Given
+        for (String name : List.of("Delta", "Alfa", "Echo", "Charlie", "Bravo")) {
+            entityManager.persist(new RestaurantEntity(null, "nit-" + name, name, "Direccion", "3000000000",
+                    "http://logo/" + name + ".png", 1L));
+        }
+        entityManager.flush();
+
+        // When
+        List<RestaurantSummaryView> firstPage = restaurantRepository.findAllByOrderByNameAsc(Limit.of(2));
+        List<RestaurantSummaryView> secondPage = restaurantRepository.findByNameGreaterThanOrderByNameAsc(
+                firstPage.get(1).getName(), Limit.of(2));
+
+        // Then
+        assertEquals(List.of("Alfa", "Bravo"), firstPage.stream().map(RestaurantSummaryView::getName).toList());
+        assertEquals(List.of("Charlie", "Delta"), secondPage.stream().map(RestaurantSummaryView::getName).toList());
+        assertEquals("http://logo/Charlie.png", secondPage.get(0).getUrlLogo());
+    }
+
+    @Test
+    @DisplayName("Should list only the restaurants of the given owner, alphabetically")
+    void findByOwnerIdOrderByNameAsc_ShouldReturnOwnerRestaurants() {
+        // Given
+        for (String name : List.of("Delta", "Alfa", "Charlie")) {
+            entityManager.persist(new RestaurantEntity(null, "nit-" + name, name, "Direccion", "3000000000",
+                    "http://logo/" + name + ".png", name.equals("Charlie") ? 2L : 1L));
+        }
+        entityManager.flush();
+
+        // When
+        List<RestaurantEntity> ownerRestaurants = restaurantRepository.findByOwnerIdOrderByNameAsc(1L);
+
+        // Then
+        assertEquals(List.of("Alfa", "Delta"), ownerRestaurants.stream().map(RestaurantEntity::getName).toList());
+        assertTrue(restaurantRepository.findByOwnerIdOrderByNameAsc(3L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should stream every restaurant in id order as read-only entities")
+    void streamAllByOrderByIdAsc_ShouldReturnEveryRestaurantReadOnly() {
+        // Given
+        RestaurantEntity first = entityManager.persist(restaurantEntity1);
+        RestaurantEntity second = entityManager.persist(new RestaurantEntity(
+                null, "222222222", "Restaurante Dos", "Direccion 2", "3002222222", "http://logo2.png", 2L));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<RestaurantEntity> streamed;
+        try (Stream<RestaurantEntity> restaurants = restaurantRepository.streamAllByOrderByIdAsc()) {
+            streamed = restaurants.toList();
+        }
+
+        // Then
+        assertEquals(List.of(first.getId(), second.getId()), streamed.stream().map(RestaurantEntity::getId).toList());
+        assertTrue(entityManager.getEntityManager().unwrap(Session.class).isReadOnly(streamed.get(0)));
+    }
 }